@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# JMH regression check against src/jmh/baseline.csv (benchmark profile in pom.xml).
+#
+#   scripts/benchmarks.sh run [jmh-regex]      run benchmarks with -prof gc into target/jmh-result.csv
+#   scripts/benchmarks.sh compare [percent]    fail if target/jmh-result.csv regressed beyond percent (default 10)
+#                                              and its 99.9% interval does not overlap the baseline's
+#   scripts/benchmarks.sh baseline             replace the baseline with target/jmh-result.csv
+#
+# The baseline only means something on the machine that recorded it: re-record it when the
+# hardware or JDK changes, and commit it together with the change that moved the numbers. Record
+# it from a full run (the forks and iterations in the benchmark annotations) on an idle machine;
+# compare lists baseline rows whose interval is wider than the threshold.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASELINE=src/jmh/baseline.csv
+RESULT=target/jmh-result.csv
+# BCrypt cost calibration is not a regression check
+DEFAULT_INCLUDE='^(?!.*BCryptCost).*'
+
+case "${1:-}" in
+  run)
+    mvn -B -q -Pbenchmark -DskipTests test-compile exec:exec \
+      -Djmh.args="${2:-$DEFAULT_INCLUDE} -prof gc -rf csv -rff $PWD/$RESULT"
+    ;;
+  compare)
+    mvn -B -q -Pbenchmark -DskipTests test-compile exec:exec \
+      -Djmh.main=edu.dosw.benchmark.BenchmarkComparison \
+      -Djmh.args="$BASELINE $RESULT ${2:-10}"
+    ;;
+  baseline)
+    cp "$RESULT" "$BASELINE"
+    echo "Baseline updated from $RESULT"
+    ;;
+  *)
+    sed -n '2,12p' "$0"
+    exit 2
+    ;;
+esac
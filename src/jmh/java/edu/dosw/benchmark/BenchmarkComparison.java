@@ -0,0 +1,170 @@
+package edu.dosw.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH CSV result ({@code -rf csv}) with the committed baseline and exits with status 1
+ * when any benchmark regressed by more than the threshold:
+ * <ul>
+ *   <li>primary scores: lower throughput, or higher time per operation;</li>
+ *   <li>{@code gc.alloc.rate.norm} from {@code -prof gc}: more bytes allocated per operation,
+ *   ignoring differences of a few bytes.</li>
+ * </ul>
+ * A change only counts when the two 99.9% confidence intervals ({@code Score ± Score Error}) do not
+ * overlap as well, so run-to-run noise does not fail the check; baseline rows whose interval is
+ * wider than the threshold are listed, since they can hide a regression and need more forks.
+ * Benchmarks missing from either file are listed but never fail the comparison, so a subset can be
+ * run on its own.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.csv> <result.csv> [threshold-percent, default 10]}
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.csv> <result.csv> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %26s %26s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %26s %26s %9s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double change = (now.value() - before.value()) / before.value();
+            boolean regressed = now.isRegressionFrom(before, threshold);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-90s %26s %26s %+8.1f%% %s%n", entry.getKey(), before, now,
+                    change * 100, regressed ? "REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf(Locale.ROOT, "%-90s %26s%n", key, "not run"));
+        baseline.entrySet().stream()
+                .filter(entry -> !entry.getValue().allocation() && entry.getValue().relativeError() > threshold)
+                .forEach(entry -> System.out.printf(Locale.ROOT, "Baseline too noisy to gate %.0f%%: %s (+/-%.0f%%)%n",
+                        threshold * 100, entry.getKey(), entry.getValue().relativeError() * 100));
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.0f%%%n", regressions, threshold * 100);
+            System.exit(1);
+        }
+        System.out.printf(Locale.ROOT, "No regression beyond %.0f%%%n", threshold * 100);
+    }
+
+    static Map<String, Score> read(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        List<String> header = fields(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int error = indexOfPrefix(header, "Score Error");
+        int unit = header.indexOf("Unit");
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> row = fields(line);
+            String name = row.get(benchmark);
+            boolean allocation = name.endsWith(ALLOCATION);
+            if (name.contains(":") && !allocation) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder(name);
+            for (int column = unit + 1; column < header.size() && column < row.size(); column++) {
+                if (!row.get(column).isEmpty()) {
+                    key.append(' ').append(header.get(column).replace("Param: ", "")).append('=').append(row.get(column));
+                }
+            }
+            boolean higherIsBetter = !allocation && "thrpt".equals(row.get(mode));
+            scores.put(key.toString(), new Score(Double.parseDouble(row.get(score)),
+                    error >= 0 ? errorOf(row.get(error)) : 0, higherIsBetter, allocation));
+        }
+        return scores;
+    }
+
+    private static int indexOfPrefix(List<String> header, String prefix) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).startsWith(prefix)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // JMH writes NaN when a single sample gives no interval
+    private static double errorOf(String field) {
+        double error = field.isEmpty() ? 0 : Double.parseDouble(field);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // JMH quotes every text field; numbers are unquoted and never contain commas
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    record Score(double value, double error, boolean higherIsBetter, boolean allocation) {
+
+        /**
+         * Worse than the baseline by more than the threshold, with the confidence intervals apart in
+         * that direction.
+         */
+        boolean isRegressionFrom(Score baseline, double threshold) {
+            if (higherIsBetter) {
+                return value < baseline.value * (1 - threshold) && value + error < baseline.value - baseline.error;
+            }
+            boolean worse = value > baseline.value * (1 + threshold) && value - error > baseline.value + baseline.error;
+            return allocation ? worse && value - baseline.value > ALLOCATION_SLACK_BYTES : worse;
+        }
+
+        double relativeError() {
+            return value == 0 ? 0 : error / value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.3f +/- %.3f", value, error);
+        }
+    }
+}
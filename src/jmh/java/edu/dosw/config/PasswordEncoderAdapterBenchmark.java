@@ -0,0 +1,57 @@
+package edu.dosw.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of hashing through {@link SpringPasswordEncoderAdapter} at the minimum production
+ * cost factor: BCrypt plus the hand-off to the hashing pool and its metrics. Compare with
+ * {@link BCryptCostBenchmark} to see the adapter's own overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(3)
+public class PasswordEncoderAdapterBenchmark {
+
+    private static final String PASSWORD = "benchmark-Password-123";
+    private static final List<String> BATCH = List.of("p-1", "p-2", "p-3", "p-4", "p-5", "p-6", "p-7", "p-8");
+
+    private ThreadPoolExecutor hashingExecutor;
+    private SpringPasswordEncoderAdapter adapter;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hashingExecutor = new SecurityConfig().passwordHashingExecutor(0, 64);
+        adapter = new SpringPasswordEncoderAdapter(new BCryptPasswordEncoder(10), hashingExecutor, new SimpleMeterRegistry());
+        hash = adapter.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return adapter.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return adapter.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public List<String> encodeAllOfEight() {
+        return adapter.encodeAll(BATCH);
+    }
+}
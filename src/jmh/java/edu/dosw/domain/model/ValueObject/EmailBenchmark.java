@@ -0,0 +1,58 @@
+package edu.dosw.domain.model.ValueObject;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating an email, for valid and rejected input, through the constructor and through
+ * {@link Email#of(String)} for an address that is already interned. {@code regex} is the check the
+ * record used to make, {@code String.matches} compiling its pattern on every call, kept as the
+ * reference for the others.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class EmailBenchmark {
+
+    private String valid = "Jane.Doe+orders@Example.com";
+    private String validLowerCase = "jane.doe+orders@example.com";
+    private String invalid = "jane.doe.example.com";
+
+    @Benchmark
+    public boolean regex() {
+        return valid.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    }
+
+    @Benchmark
+    public Email valid() {
+        return new Email(valid);
+    }
+
+    @Benchmark
+    public Email validLowerCase() {
+        return new Email(validLowerCase);
+    }
+
+    @Benchmark
+    public Email of() {
+        return Email.of(valid);
+    }
+
+    @Benchmark
+    public Email ofLowerCase() {
+        return Email.of(validLowerCase);
+    }
+
+    @Benchmark
+    public boolean invalid() {
+        try {
+            return new Email(invalid) != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
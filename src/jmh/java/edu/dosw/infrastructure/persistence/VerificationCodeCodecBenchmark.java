@@ -0,0 +1,83 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import edu.dosw.domain.model.ValueObject.VerificationCode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of the verification-code value: the previous Jackson map blob
+ * against the Redis hash fields of {@link VerificationCodeRedisCodec}. Payload sizes are printed
+ * once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class VerificationCodeCodecBenchmark {
+
+    private static final String EMAIL = "customer.benchmark@example.com";
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private VerificationCode verificationCode;
+    private byte[] jsonPayload;
+    private Map<byte[], byte[]> hashPayload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        verificationCode = new VerificationCode("483920", LocalDateTime.now().plusMinutes(15), EMAIL, false);
+
+        jsonPayload = jsonSerializer.serialize(jsonMap(verificationCode));
+        hashPayload = VerificationCodeRedisCodec.encode(verificationCode);
+        int hashBytes = hashPayload.entrySet().stream()
+                .mapToInt(field -> field.getKey().length + field.getValue().length)
+                .sum();
+        System.out.printf("%npayload bytes: jackson map = %d, redis hash fields = %d%n", jsonPayload.length, hashBytes);
+    }
+
+    @Benchmark
+    public byte[] jacksonMapEncode() {
+        return jsonSerializer.serialize(jsonMap(verificationCode));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public VerificationCode jacksonMapDecode() {
+        Map<String, Object> codeData = (Map<String, Object>) jsonSerializer.deserialize(jsonPayload);
+        return new VerificationCode(
+                (String) codeData.get("code"),
+                LocalDateTime.parse((String) codeData.get("expiresAt")),
+                (String) codeData.get("email"),
+                (Boolean) codeData.get("used"));
+    }
+
+    @Benchmark
+    public Map<byte[], byte[]> redisHashEncode() {
+        return VerificationCodeRedisCodec.encode(verificationCode);
+    }
+
+    @Benchmark
+    public VerificationCode redisHashDecode() {
+        return VerificationCodeRedisCodec.decode(EMAIL, hashPayload);
+    }
+
+    private static Map<String, Object> jsonMap(VerificationCode verificationCode) {
+        Map<String, Object> codeData = new HashMap<>();
+        codeData.put("code", verificationCode.code());
+        codeData.put("expiresAt", verificationCode.expiresAt().toString());
+        codeData.put("email", verificationCode.email());
+        codeData.put("used", verificationCode.used());
+        return codeData;
+    }
+}
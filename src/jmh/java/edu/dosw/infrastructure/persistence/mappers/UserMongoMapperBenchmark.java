@@ -0,0 +1,54 @@
+package edu.dosw.infrastructure.persistence.mappers;
+
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between users and their Mongo documents, done on every read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class UserMongoMapperBenchmark {
+
+    @Param({"CUSTOMER", "SELLER"})
+    private String role;
+
+    private UserMongoMapper mapper;
+    private User user;
+    private UserDocument document;
+
+    @Setup
+    public void setUp() {
+        mapper = new UserMongoMapper();
+        UserId userId = new UserId("0b6f1c2e-5d7a-4c8e-9f10-3a2b1c0d9e8f");
+        IdentityDocument identityDocument = new IdentityDocument("1012345678");
+        Email email = new Email("jane.doe@example.com");
+        FullName fullName = new FullName("Jane Doe");
+        PasswordHash passwordHash = new PasswordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5Z1Ew0ZbF7rW9VxH8u6CjNe");
+        user = "SELLER".equals(role)
+                ? new Seller(userId, identityDocument, email, fullName, passwordHash, "Doe Traders", "Calle 123 #45-67")
+                : new Customer(userId, identityDocument, email, fullName, passwordHash, "3001234567");
+        user.setVersion(3L);
+        document = mapper.toDocument(user);
+    }
+
+    @Benchmark
+    public UserDocument toDocument() {
+        return mapper.toDocument(user);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return mapper.toDomain(document);
+    }
+}
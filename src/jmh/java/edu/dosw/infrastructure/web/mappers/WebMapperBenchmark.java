@@ -0,0 +1,64 @@
+package edu.dosw.infrastructure.web.mappers;
+
+import edu.dosw.application.dto.CustomerDTO;
+import edu.dosw.application.dto.SellerDTO;
+import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
+import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.ValueObject.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request and response mapping of the customer and seller endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class WebMapperBenchmark {
+
+    private CustomerWebMapper customerMapper;
+    private SellerWebMapper sellerMapper;
+    private Customer customer;
+    private Seller seller;
+    private CustomerDTO customerDTO;
+    private SellerDTO sellerDTO;
+
+    @Setup
+    public void setUp() {
+        customerMapper = new CustomerWebMapper();
+        sellerMapper = new SellerWebMapper();
+        customer = new Customer(new UserId("customer-1"), new IdentityDocument("1012345678"),
+                new Email("jane.doe@example.com"), new FullName("Jane Doe"), new PasswordHash("hash"), "3001234567");
+        seller = new Seller(new UserId("seller-1"), new IdentityDocument("1012345679"),
+                new Email("sales@doe.com"), new FullName("John Doe"), new PasswordHash("hash"),
+                "Doe Traders", "Calle 123 #45-67");
+        customerDTO = customerMapper.toDTO(customer);
+        sellerDTO = sellerMapper.toDTO(seller);
+    }
+
+    @Benchmark
+    public CustomerDTO customerToDTO() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public CreateCustomerCommand customerToCommand() {
+        return customerMapper.toCommand(customerDTO);
+    }
+
+    @Benchmark
+    public SellerDTO sellerToDTO() {
+        return sellerMapper.toDTO(seller);
+    }
+
+    @Benchmark
+    public CreateSellerCommand sellerToCommand() {
+        return sellerMapper.toCommand(sellerDTO);
+    }
+}
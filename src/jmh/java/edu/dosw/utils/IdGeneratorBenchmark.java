@@ -0,0 +1,39 @@
+package edu.dosw.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation per strategy, alone and with concurrent callers, which contend on the shared
+ * random source for {@code uuid-v4} and on the sequence for the time-ordered ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class IdGeneratorBenchmark {
+
+    @Param({"ulid", "uuid-v7", "uuid-v4"})
+    private String strategy;
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+        idGenerator = new IdGenerator(strategy);
+    }
+
+    @Benchmark
+    public String generate() {
+        return idGenerator.generateUniqueId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return idGenerator.generateUniqueId();
+    }
+}
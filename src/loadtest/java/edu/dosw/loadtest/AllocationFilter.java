@@ -0,0 +1,69 @@
+package edu.dosw.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the bytes each request allocates on the servlet thread that handles it, keyed by
+ * {@code METHOD /route/{pattern}}. Work handed to other threads (the password hashing pool, the
+ * event drainer) is not included.
+ */
+final class AllocationFilter extends HttpFilter {
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, Allocation> byRoute = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                byRoute.computeIfAbsent(request.getMethod() + " " + pattern, route -> new Allocation())
+                        .add(allocated);
+            }
+        }
+    }
+
+    /**
+     * @return mean bytes allocated per request on the route, or -1 when none was seen
+     */
+    long bytesPerRequest(String route) {
+        Allocation allocation = byRoute.get(route);
+        return allocation == null ? -1 : allocation.mean();
+    }
+
+    void reset() {
+        byRoute.clear();
+    }
+
+    private static final class Allocation {
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+
+        void add(long allocated) {
+            bytes.add(allocated);
+            requests.increment();
+        }
+
+        long mean() {
+            long count = requests.sum();
+            return count == 0 ? -1 : bytes.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package edu.dosw.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side results for one endpoint. Latency is recorded in microseconds for successful
+ * responses only, so that fast failures do not flatter the percentiles; failures are counted.
+ */
+final class EndpointStats {
+
+    private final Workload.Endpoint endpoint;
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(Workload.Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    Workload.Endpoint endpoint() {
+        return endpoint;
+    }
+
+    void success(long startNanos) {
+        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    long successes() {
+        return latency.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latency.getMaxValue() / 1000.0;
+    }
+
+    void reset() {
+        latency.reset();
+        errors.reset();
+    }
+}
@@ -0,0 +1,129 @@
+package edu.dosw.loadtest;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.InsertManyOptions;
+import edu.dosw.utils.IdGenerator;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Insert throughput and {@code _id} index size for each {@link IdGenerator} strategy: inserts the
+ * same number of user-shaped documents into one collection per strategy, in unordered batches, and
+ * reads the sizes back from {@code $collStats}.
+ * <p>
+ * Index pages only fragment on a real WiredTiger B-tree, so this runs against the server at
+ * {@code uri} rather than the in-memory stand-in of {@link LoadTest}. Arguments are
+ * {@code key=value}: {@code uri} ({@code mongodb://localhost:27017}), {@code database}
+ * ({@code id-index-benchmark}), {@code documents} per strategy (1000000), {@code batch} (1000) and
+ * {@code strategies} ({@code ulid,uuid-v7,uuid-v4}). The collections are dropped at the end.
+ */
+public final class IdIndexBenchmark {
+
+    private IdIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> settings = parse(args);
+        int documents = Integer.parseInt(settings.getOrDefault("documents", "1000000"));
+        int batch = Integer.parseInt(settings.getOrDefault("batch", "1000"));
+        String[] strategies = settings.getOrDefault("strategies", "ulid,uuid-v7,uuid-v4").split(",");
+
+        try (MongoClient client = MongoClients.create(settings.getOrDefault("uri", "mongodb://localhost:27017"))) {
+            MongoDatabase database = client.getDatabase(settings.getOrDefault("database", "id-index-benchmark"));
+            List<Result> results = new ArrayList<>();
+            for (String strategy : strategies) {
+                MongoCollection<Document> collection = database.getCollection("users_" + strategy.trim().replace('-', '_'));
+                collection.drop();
+                try {
+                    System.out.printf(Locale.ROOT, "Inserting %d documents with %s ids%n", documents, strategy.trim());
+                    results.add(insert(collection, new IdGenerator(strategy), strategy.trim(), documents, batch));
+                } finally {
+                    collection.drop();
+                }
+            }
+            report(results);
+        }
+    }
+
+    private static Result insert(MongoCollection<Document> collection, IdGenerator idGenerator, String strategy,
+                                 int documents, int batch) {
+        InsertManyOptions unordered = new InsertManyOptions().ordered(false);
+        long start = System.nanoTime();
+        for (int from = 0; from < documents; from += batch) {
+            List<Document> chunk = new ArrayList<>(batch);
+            for (int i = from; i < Math.min(from + batch, documents); i++) {
+                chunk.add(new Document("_id", idGenerator.generateUniqueId())
+                        .append("email", "user-" + i + "@example.com")
+                        .append("fullName", "Index User " + i)
+                        .append("role", "CUSTOMER")
+                        .append("createdAt", new Date()));
+            }
+            collection.insertMany(chunk, unordered);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Document storage = storageStats(collection);
+        return new Result(strategy, documents, seconds,
+                storage != null ? size(storage.get("indexSizes", Document.class), "_id_") : -1,
+                storage != null ? size(storage, "totalIndexSize") : -1,
+                storage != null ? size(storage, "storageSize") : -1);
+    }
+
+    // Null on servers without $collStats, whose sizes are then reported as "-"
+    private static Document storageStats(MongoCollection<Document> collection) {
+        try {
+            Document stats = collection.aggregate(List.of(
+                            new Document("$collStats", new Document("storageStats", new Document()))))
+                    .first();
+            return stats != null ? stats.get("storageStats", Document.class) : null;
+        } catch (MongoCommandException e) {
+            return null;
+        }
+    }
+
+    private static void report(List<Result> results) {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-10s %12s %12s %14s %14s %14s%n",
+                "Strategy", "Documents", "Inserts/s", "_id index MB", "Indexes MB", "Storage MB");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-10s %12d %12.0f %14s %14s %14s%n",
+                    result.strategy(), result.documents(), result.documents() / result.seconds(),
+                    megabytes(result.idIndexBytes()), megabytes(result.indexBytes()), megabytes(result.storageBytes()));
+        }
+    }
+
+    private static long size(Document document, String field) {
+        Object value = document != null ? document.get(field) : null;
+        return value instanceof Number number ? number.longValue() : -1;
+    }
+
+    private static String megabytes(long bytes) {
+        return bytes < 0 ? "-" : String.format(Locale.ROOT, "%.1f", bytes / 1e6);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 1) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, equals).trim().toLowerCase(Locale.ROOT), arg.substring(equals + 1).trim());
+        }
+        return values;
+    }
+
+    private record Result(String strategy, int documents, double seconds, long idIndexBytes, long indexBytes,
+                          long storageBytes) {
+    }
+}
@@ -0,0 +1,228 @@
+package edu.dosw.loadtest;
+
+import edu.dosw.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Self-contained load test: starts the {@link StandIns}, boots the application against them on a
+ * free port, seeds customer accounts, then starts {@link Workload} journeys in a weighted mix at a
+ * fixed rate and prints latency percentiles, throughput and allocation per endpoint.
+ * <p>
+ * Arguments are {@code key=value}: {@code rps} (100), {@code duration} seconds (60), {@code warmup}
+ * seconds (15), {@code users} to seed (500), {@code mix} ({@code signup:10,login:60,update:20,reset:10}),
+ * {@code max-in-flight} (1000) and {@code http-threads} (16). Arguments starting with {@code --} go
+ * to the application, e.g. {@code --app.events.transport=streams}.
+ * <p>
+ * Arrivals are open-loop: journeys start on schedule whether or not earlier ones have finished, and
+ * latency is measured from the scheduled start. The stand-ins run on this machine, so the numbers
+ * are the service's own cost, not Atlas round trips.
+ */
+public final class LoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        ExecutorService httpThreads = Executors.newFixedThreadPool(settings.httpThreads());
+        try (StandIns standIns = StandIns.start()) {
+            AllocationFilter allocations = new AllocationFilter();
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                    .initializers(application -> application.getBeanFactory()
+                            .registerSingleton("loadTestAllocationFilter", allocationFilter(allocations)))
+                    .run(Stream.concat(Arrays.stream(standIns.arguments()), settings.applicationArguments().stream())
+                            .toArray(String[]::new));
+            try {
+                String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(httpThreads)
+                        .build();
+                Workload workload = new Workload(baseUri, http, context.getBean(StringRedisTemplate.class),
+                        settings.maxInFlight());
+                run(workload, allocations, settings);
+            } finally {
+                context.close();
+            }
+        } finally {
+            httpThreads.shutdownNow();
+        }
+    }
+
+    private static void run(Workload workload, AllocationFilter allocations, Settings settings) throws Exception {
+        System.out.printf(Locale.ROOT, "Seeding %d customers%n", settings.users());
+        workload.seed(settings.users());
+
+        System.out.printf(Locale.ROOT, "Warming up for %ds at %d journeys/s%n", settings.warmup().toSeconds(), settings.rps());
+        drive(workload, settings, settings.warmup());
+        awaitDrained(workload);
+        workload.resetStats();
+        allocations.reset();
+
+        System.out.printf(Locale.ROOT, "Measuring for %ds at %d journeys/s, mix %s%n",
+                settings.duration().toSeconds(), settings.rps(), settings.mix());
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        drive(workload, settings, settings.duration());
+        awaitDrained(workload);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        report(workload, allocations, seconds, allocated);
+    }
+
+    private static void drive(Workload workload, Settings settings, Duration duration) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long next = start; next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            workload.start(settings.mix().pick(), next);
+        }
+    }
+
+    private static void awaitDrained(Workload workload) throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (workload.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (workload.inFlight() > 0) {
+            System.out.printf(Locale.ROOT, "%d journeys still running after %ds%n", workload.inFlight(), DRAIN_TIMEOUT.toSeconds());
+        }
+    }
+
+    private static void report(Workload workload, AllocationFilter allocations, double seconds, long allocated) {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-40s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "OK/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "KB/req", "MB/s");
+        for (EndpointStats stats : workload.stats()) {
+            long requests = stats.successes() + stats.errors();
+            if (requests == 0) {
+                continue;
+            }
+            long bytesPerRequest = allocations.bytesPerRequest(stats.endpoint().route());
+            System.out.printf(Locale.ROOT, "%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9s %9s%n",
+                    stats.endpoint().route(), requests, stats.errors(), stats.successes() / seconds,
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9),
+                    stats.maxMillis(),
+                    bytesPerRequest < 0 ? "-" : String.format(Locale.ROOT, "%.1f", bytesPerRequest / 1024.0),
+                    bytesPerRequest < 0 ? "-" : String.format(Locale.ROOT, "%.1f", bytesPerRequest * requests / seconds / 1e6));
+        }
+        System.out.println();
+        System.out.printf(Locale.ROOT, "Journeys skipped (no idle account or in-flight limit): %d%n", workload.skipped());
+        System.out.printf(Locale.ROOT, "Accounts in pool: %d%n", workload.accounts());
+        // Includes the stand-ins and the load generator, which share this JVM
+        System.out.printf(Locale.ROOT, "JVM allocation rate: %.1f MB/s%n", allocated / seconds / 1e6);
+    }
+
+    private static FilterRegistrationBean<AllocationFilter> allocationFilter(AllocationFilter filter) {
+        FilterRegistrationBean<AllocationFilter> registration = new FilterRegistrationBean<>(filter);
+        // Ahead of Spring Security, so its cost is part of each request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    record Settings(int rps, Duration duration, Duration warmup, int users, Mix mix, int maxInFlight,
+                    int httpThreads, List<String> applicationArguments) {
+
+        static Settings parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            List<String> applicationArguments = new ArrayList<>(List.of("--logging.level.root=WARN"));
+            for (String arg : args) {
+                if (arg.startsWith("--")) {
+                    applicationArguments.add(arg);
+                    continue;
+                }
+                int equals = arg.indexOf('=');
+                if (equals < 1) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                }
+                values.put(arg.substring(0, equals).trim().toLowerCase(Locale.ROOT), arg.substring(equals + 1).trim());
+            }
+            return new Settings(
+                    Integer.parseInt(values.getOrDefault("rps", "100")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                    Integer.parseInt(values.getOrDefault("users", "500")),
+                    Mix.parse(values.getOrDefault("mix", "signup:10,login:60,update:20,reset:10")),
+                    Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                    Integer.parseInt(values.getOrDefault("http-threads", "16")),
+                    applicationArguments);
+        }
+    }
+
+    /**
+     * Relative weights of the journeys, e.g. {@code login:60,signup:10}; missing ones get 0.
+     */
+    record Mix(Map<Workload.Operation, Integer> weights, int total) {
+
+        static Mix parse(String spec) {
+            Map<Workload.Operation, Integer> weights = new EnumMap<>(Workload.Operation.class);
+            for (String part : spec.split(",")) {
+                String[] entry = part.split(":");
+                if (entry.length != 2) {
+                    throw new IllegalArgumentException("Expected operation:weight, got: " + part);
+                }
+                weights.put(Workload.Operation.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)),
+                        Integer.parseInt(entry[1].trim()));
+            }
+            int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+            if (total <= 0) {
+                throw new IllegalArgumentException("Mix has no positive weight: " + spec);
+            }
+            return new Mix(weights, total);
+        }
+
+        Workload.Operation pick() {
+            int ticket = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Workload.Operation, Integer> weight : weights.entrySet()) {
+                ticket -= weight.getValue();
+                if (ticket < 0) {
+                    return weight.getKey();
+                }
+            }
+            throw new IllegalStateException("Weights do not add up to " + total);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder spec = new StringBuilder();
+            weights.forEach((operation, weight) -> spec.append(spec.length() > 0 ? "," : "")
+                    .append(operation.name().toLowerCase(Locale.ROOT)).append(':').append(weight));
+            return spec.toString();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package edu.dosw.loadtest;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * Local stand-ins for the services the application needs, each on a free port and with nothing to
+ * install: an in-process mongo-java-server on its in-memory backend, and a real redis-server binary
+ * shipped inside the embedded-redis jar, so that scripts, pipelines and pub/sub behave exactly as
+ * in production.
+ * <p>
+ * mongo-java-server has no transactions and does not know the {@code hello} command used to detect
+ * replica sets, so split-storage writes are pinned to the outbox, which is also what a standalone
+ * server would get.
+ */
+final class StandIns implements AutoCloseable {
+
+    private final MongoServer mongo;
+    private final RedisServer redis;
+    private final String mongoUri;
+    private final int redisPort;
+
+    private StandIns(MongoServer mongo, RedisServer redis, String mongoUri, int redisPort) {
+        this.mongo = mongo;
+        this.redis = redis;
+        this.mongoUri = mongoUri;
+        this.redisPort = redisPort;
+    }
+
+    static StandIns start() throws IOException {
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        String mongoUri = mongo.bindAndGetConnectionString();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        return new StandIns(mongo, redis, mongoUri, redisPort);
+    }
+
+    /**
+     * @return command-line arguments pointing the application at the stand-ins
+     */
+    String[] arguments() {
+        return new String[]{
+                "--server.port=0",
+                "--spring.data.mongodb.uri=" + mongoUri,
+                "--spring.data.mongodb.database=users-management-db",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--app.persistence.split-writes.mode=outbox"};
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            redis.stop();
+        } finally {
+            mongo.shutdownNow();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
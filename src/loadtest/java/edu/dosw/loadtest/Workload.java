@@ -0,0 +1,313 @@
+package edu.dosw.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The user journeys the load test drives over HTTP, against a pool of customer accounts:
+ * <ul>
+ *   <li>{@code SIGNUP} creates a customer, which then joins the pool;</li>
+ *   <li>{@code LOGIN} authenticates a pooled account and learns its userId;</li>
+ *   <li>{@code UPDATE} changes the profile of a pooled account whose userId is known;</li>
+ *   <li>{@code RESET} requests a password reset, reads the code back from Redis as the email
+ *   would deliver it, verifies it and sets a new password.</li>
+ * </ul>
+ * An account is used by one journey at a time. A journey that finds no idle account, or starts
+ * while {@code maxInFlight} journeys are already running, is skipped and counted.
+ */
+final class Workload {
+
+    enum Endpoint {
+        SIGNUP("POST", "/users/customers"),
+        LOGIN("GET", "/users/credentials/auth"),
+        UPDATE_PROFILE("PUT", "/users/customers/{customerId}"),
+        RESET_REQUEST("POST", "/users/password/reset-request"),
+        RESET_VERIFY("POST", "/users/password/verify-code"),
+        RESET_CONFIRM("PUT", "/users/password/reset");
+
+        private final String method;
+        private final String route;
+
+        Endpoint(String method, String route) {
+            this.method = method;
+            this.route = route;
+        }
+
+        /**
+         * @return {@code METHOD /route}, the key {@link AllocationFilter} uses too
+         */
+        String route() {
+            return method + " " + route;
+        }
+    }
+
+    enum Operation { SIGNUP, LOGIN, UPDATE, RESET }
+
+    // Same key and field as RedisVerificationCodeRepository
+    private static final String CODE_KEY_PREFIX = "verification_code:";
+    private static final String CODE_FIELD = "code";
+    private static final String SEED_PASSWORD = "Load-Passw0rd";
+    private static final int SEED_CHUNK = 100;
+    private static final int UPDATE_ACCOUNT_TRIES = 8;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Every seeded password is hashed
+    private static final Duration SEED_TIMEOUT = Duration.ofMinutes(5);
+
+    private final String baseUri;
+    private final HttpClient http;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper json = new ObjectMapper();
+    private final int maxInFlight;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Queue<Account> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicLong accountSequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder skipped = new LongAdder();
+
+    Workload(String baseUri, HttpClient http, StringRedisTemplate redis, int maxInFlight) {
+        this.baseUri = baseUri;
+        this.http = http;
+        this.redis = redis;
+        this.maxInFlight = maxInFlight;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    /**
+     * Creates {@code count} customers through the bulk import endpoint and pools them.
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int from = 0; from < count; from += SEED_CHUNK) {
+            List<Map<String, String>> customers = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_CHUNK, count); i++) {
+                customers.add(customer(nextEmail(), SEED_PASSWORD));
+            }
+            HttpResponse<String> response = http.send(
+                    request("/users/customers/bulk").POST(body(customers)).timeout(SEED_TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode row : json.readTree(response.body()).path("rows")) {
+                if ("CREATED".equals(row.path("status").asText())) {
+                    idle.add(new Account(row.path("email").asText(), SEED_PASSWORD, row.path("userId").asText()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the journey without waiting for it. Latency of its first request is measured from
+     * {@code intendedStartNanos}, so a generator that falls behind schedule does not hide the delay.
+     */
+    void start(Operation operation, long intendedStartNanos) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            skipped.increment();
+            return;
+        }
+        CompletableFuture<?> journey = switch (operation) {
+            case SIGNUP -> signup(intendedStartNanos);
+            case LOGIN -> withAccount(idle.poll(), account -> login(account, intendedStartNanos));
+            case UPDATE -> withAccount(accountWithUserId(), account -> update(account, intendedStartNanos));
+            case RESET -> withAccount(idle.poll(), account -> reset(account, intendedStartNanos));
+        };
+        journey.whenComplete((ignored, failure) -> inFlight.decrementAndGet());
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    int accounts() {
+        return idle.size();
+    }
+
+    Collection<EndpointStats> stats() {
+        return stats.values();
+    }
+
+    void resetStats() {
+        stats.values().forEach(EndpointStats::reset);
+        skipped.reset();
+    }
+
+    private CompletableFuture<?> signup(long startNanos) {
+        Account account = new Account(nextEmail(), SEED_PASSWORD, null);
+        return call(Endpoint.SIGNUP, request("/users/customers").POST(body(customer(account.email, account.password))), startNanos)
+                .thenAccept(response -> {
+                    if (response != null) {
+                        idle.add(account);
+                    }
+                });
+    }
+
+    private CompletableFuture<?> login(Account account, long startNanos) {
+        String query = "?email=" + encode(account.email) + "&password=" + encode(account.password);
+        return call(Endpoint.LOGIN, request("/users/credentials/auth" + query).GET(), startNanos)
+                .thenAccept(response -> {
+                    if (response != null) {
+                        account.userId = read(response).path("userId").asText(account.userId);
+                    }
+                });
+    }
+
+    private CompletableFuture<?> update(Account account, long startNanos) {
+        Map<String, String> changes = Map.of(
+                "fullName", "Load User " + ThreadLocalRandom.current().nextInt(1_000_000),
+                "phoneNumber", phoneNumber());
+        return call(Endpoint.UPDATE_PROFILE, request("/users/customers/" + account.userId).PUT(body(changes)), startNanos);
+    }
+
+    private CompletableFuture<?> reset(Account account, long startNanos) {
+        String newPassword = "Reset-" + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        return call(Endpoint.RESET_REQUEST, request("/users/password/reset-request").POST(body(Map.of("email", account.email))), startNanos)
+                .thenCompose(requested -> {
+                    if (requested == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    Object code = redis.opsForHash().get(CODE_KEY_PREFIX + account.email, CODE_FIELD);
+                    if (code == null) {
+                        stats.get(Endpoint.RESET_VERIFY).error();
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    Map<String, String> verify = Map.of("email", account.email, "code", code.toString());
+                    return call(Endpoint.RESET_VERIFY, request("/users/password/verify-code").POST(body(verify)), System.nanoTime())
+                            .thenCompose(verified -> verified == null
+                                    ? CompletableFuture.completedFuture(null)
+                                    : call(Endpoint.RESET_CONFIRM, request("/users/password/reset").PUT(body(Map.of(
+                                            "email", account.email, "code", code.toString(), "newPassword", newPassword))),
+                                            System.nanoTime()));
+                })
+                .thenAccept(confirmed -> {
+                    if (confirmed != null) {
+                        account.password = newPassword;
+                    }
+                });
+    }
+
+    /**
+     * Sends the request and records its outcome. Completes with null for a failed request, so that
+     * journeys stop at their first failure.
+     */
+    private CompletableFuture<HttpResponse<String>> call(Endpoint endpoint, HttpRequest.Builder request, long startNanos) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        return http.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (failure == null && response.statusCode() / 100 == 2) {
+                        endpointStats.success(startNanos);
+                        return response;
+                    }
+                    endpointStats.error();
+                    return null;
+                });
+    }
+
+    private CompletableFuture<?> withAccount(Account account,
+                                             Function<Account, CompletableFuture<?>> journey) {
+        if (account == null) {
+            skipped.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return journey.apply(account).whenComplete((ignored, failure) -> idle.add(account));
+    }
+
+    // Accounts created by SIGNUP only learn their userId on their first LOGIN
+    private Account accountWithUserId() {
+        for (int i = 0; i < UPDATE_ACCOUNT_TRIES; i++) {
+            Account account = idle.poll();
+            if (account == null || account.userId != null) {
+                return account;
+            }
+            idle.add(account);
+        }
+        return null;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(json.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode read(HttpResponse<String> response) {
+        try {
+            return json.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            return json.missingNode();
+        }
+    }
+
+    private String nextEmail() {
+        return "load-" + accountSequence.incrementAndGet() + "@example.com";
+    }
+
+    private static Map<String, String> customer(String email, String password) {
+        Map<String, String> customer = new LinkedHashMap<>();
+        customer.put("email", email);
+        customer.put("fullName", "Load User");
+        customer.put("password", password);
+        customer.put("identityDocument", Integer.toString(ThreadLocalRandom.current().nextInt(10_000_000, 99_999_999)));
+        customer.put("phoneNumber", phoneNumber());
+        return customer;
+    }
+
+    private static String phoneNumber() {
+        return String.format(Locale.ROOT, "3%09d", ThreadLocalRandom.current().nextInt(1_000_000_000));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Account {
+        private final String email;
+        private volatile String password;
+        private volatile String userId;
+
+        Account(String email, String password, String userId) {
+            this.email = email;
+            this.password = password;
+            this.userId = userId;
+        }
+    }
+}
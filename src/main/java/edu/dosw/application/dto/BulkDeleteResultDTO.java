@@ -0,0 +1,6 @@
+package edu.dosw.application.dto;
+
+public record BulkDeleteResultDTO(
+        int requested,
+        long deleted
+) {}
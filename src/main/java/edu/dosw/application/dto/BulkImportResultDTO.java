@@ -0,0 +1,9 @@
+package edu.dosw.application.dto;
+
+import java.util.List;
+
+public record BulkImportResultDTO(
+        int created,
+        int rejected,
+        List<BulkImportRowDTO> rows
+) {}
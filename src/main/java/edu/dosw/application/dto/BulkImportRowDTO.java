@@ -0,0 +1,19 @@
+package edu.dosw.application.dto;
+
+/**
+ * Outcome of one row of a bulk import. {@code index} is the row's position in the request.
+ */
+public record BulkImportRowDTO(
+        int index,
+        String email,
+        Status status,
+        String userId,
+        String message
+) {
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+}
@@ -0,0 +1,11 @@
+package edu.dosw.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of sellers. {@code continuationToken} is opaque and null on the last page.
+ */
+public record SellerPageDTO(
+        List<SellerSummaryDTO> sellers,
+        String continuationToken
+) {}
@@ -0,0 +1,9 @@
+package edu.dosw.application.dto;
+
+public record SellerSummaryDTO(
+        String userId,
+        String email,
+        String fullName,
+        String companyName,
+        String businessAddress
+) {}
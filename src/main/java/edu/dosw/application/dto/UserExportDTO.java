@@ -0,0 +1,17 @@
+package edu.dosw.application.dto;
+
+import edu.dosw.domain.model.enums.Role;
+
+import java.time.LocalDateTime;
+
+public record UserExportDTO(
+        String userId,
+        String identityDocument,
+        String email,
+        String fullName,
+        Role role,
+        LocalDateTime createdAt,
+        String phoneNumber,
+        String companyName,
+        String businessAddress
+) {}
@@ -1,8 +1,16 @@
 package edu.dosw.application.ports.AdminUseCases;
 
 
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.domain.model.ValueObject.UserId;
 
+import java.util.List;
+
 public interface DeleteAdminUseCase {
     void deleteAdmin(UserId adminId);
+
+    /**
+     * Deletes every admin among the given ids; unknown ids are skipped rather than reported.
+     */
+    BulkDeleteResultDTO deleteAdmins(List<UserId> adminIds);
 }
\ No newline at end of file
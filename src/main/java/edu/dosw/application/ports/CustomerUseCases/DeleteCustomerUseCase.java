@@ -1,7 +1,15 @@
 package edu.dosw.application.ports.CustomerUseCases;
 
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.domain.model.ValueObject.UserId;
 
+import java.util.List;
+
 public interface DeleteCustomerUseCase {
     void deleteCustomer(UserId customerId);
+
+    /**
+     * Deletes every customer among the given ids; unknown ids are skipped rather than reported.
+     */
+    BulkDeleteResultDTO deleteCustomers(List<UserId> customerIds);
 }
\ No newline at end of file
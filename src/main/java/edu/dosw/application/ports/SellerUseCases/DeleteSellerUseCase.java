@@ -1,8 +1,16 @@
 package edu.dosw.application.ports.SellerUseCases;
 
 
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.domain.model.ValueObject.UserId;
 
+import java.util.List;
+
 public interface DeleteSellerUseCase {
     void deleteSeller(UserId sellerId);
+
+    /**
+     * Deletes every seller among the given ids; unknown ids are skipped rather than reported.
+     */
+    BulkDeleteResultDTO deleteSellers(List<UserId> sellerIds);
 }
\ No newline at end of file
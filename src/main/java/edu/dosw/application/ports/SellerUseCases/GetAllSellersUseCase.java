@@ -1,10 +1,9 @@
 package edu.dosw.application.ports.SellerUseCases;
 
 
-import edu.dosw.domain.model.Seller;
-import java.util.List;
+import edu.dosw.application.dto.SellerPageDTO;
 
 public interface GetAllSellersUseCase {
-    List<Seller> getAllSellers();
-    List<Seller> getPendingSellers();
-}
\ No newline at end of file
+    SellerPageDTO getAllSellers(String continuationToken, Integer pageSize);
+    SellerPageDTO getPendingSellers(String continuationToken, Integer pageSize);
+}
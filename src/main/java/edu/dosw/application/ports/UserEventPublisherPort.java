@@ -0,0 +1,10 @@
+package edu.dosw.application.ports;
+
+import edu.dosw.domain.model.UserEvent;
+
+import java.util.Collection;
+
+public interface UserEventPublisherPort {
+    void publish(UserEvent event);
+    void publishAll(Collection<UserEvent> events);
+}
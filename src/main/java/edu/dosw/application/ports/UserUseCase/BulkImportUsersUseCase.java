@@ -0,0 +1,14 @@
+package edu.dosw.application.ports.UserUseCase;
+
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.dto.command.AdminCommands.CreateAdminCommand;
+import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
+import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
+
+import java.util.List;
+
+public interface BulkImportUsersUseCase {
+    BulkImportResultDTO importCustomers(List<CreateCustomerCommand> commands);
+    BulkImportResultDTO importSellers(List<CreateSellerCommand> commands);
+    BulkImportResultDTO importAdmins(List<CreateAdminCommand> commands);
+}
@@ -0,0 +1,17 @@
+package edu.dosw.application.ports.UserUseCase;
+
+import edu.dosw.application.dto.UserExportDTO;
+import edu.dosw.domain.model.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ExportUsersUseCase {
+
+    /**
+     * Pushes every user of the given role to {@code sink} at the configured export rate.
+     *
+     * @return the number of exported users
+     */
+    long exportUsers(Role role, LocalDateTime since, Consumer<UserExportDTO> sink);
+}
@@ -1,12 +1,12 @@
 package edu.dosw.application.services.AdminServices;
 
 import edu.dosw.application.ports.AdminUseCases.CreateAdminUseCase;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.command.AdminCommands.CreateAdminCommand;
 import edu.dosw.application.dto.AdminDTO;
 import edu.dosw.domain.model.*;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.AdminRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
 import edu.dosw.utils.IdGenerator;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
@@ -16,18 +16,14 @@ import lombok.RequiredArgsConstructor;
 public class CreateAdminService implements CreateAdminUseCase {
 
     private final AdminRepositoryPort adminRepository;
-    private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final IdGenerator idGenerator;
     private final AdminWebMapper adminWebMapper;
+    private final UserEventPublisherPort eventPublisher;
 
     @Override
     public AdminDTO createAdmin(CreateAdminCommand command) {
-        Email email = new Email(command.email());
-
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Admin with this email already exists");
-        }
+        Email email = Email.of(command.email());
 
         String encodedPassword = passwordEncoder.encode(command.password());
 
@@ -40,7 +36,7 @@ public class CreateAdminService implements CreateAdminUseCase {
         );
 
         Admin savedAdmin = adminRepository.save(admin);
-        userRepository.save(savedAdmin);
+        eventPublisher.publish(UserEvent.created(savedAdmin));
 
         return adminWebMapper.toDTO(savedAdmin);
     }
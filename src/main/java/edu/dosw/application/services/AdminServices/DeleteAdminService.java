@@ -1,24 +1,45 @@
 package edu.dosw.application.services.AdminServices;
 
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.application.ports.AdminUseCases.DeleteAdminUseCase;
-import edu.dosw.domain.model.Admin;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.domain.model.UserEvent;
 import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.AdminRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class DeleteAdminService implements DeleteAdminUseCase {
 
     private final AdminRepositoryPort adminRepository;
-    private final UserRepositoryPort userRepository;
+    private final UserEventPublisherPort eventPublisher;
+    private final int maxBatchSize;
 
     @Override
     public void deleteAdmin(UserId adminId) {
-        Admin admin = adminRepository.findByUserId(adminId)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-        adminRepository.delete(admin);
-        userRepository.deleteByUserId(adminId);
+        if (!adminRepository.deleteByUserId(adminId)) {
+            throw new ResourceNotFoundException("Admin not found");
+        }
+        eventPublisher.publish(UserEvent.deleted(adminId, Role.ADMIN));
+    }
+
+    @Override
+    public BulkDeleteResultDTO deleteAdmins(List<UserId> adminIds) {
+        Set<UserId> distinctIds = new LinkedHashSet<>(adminIds);
+        if (distinctIds.size() > maxBatchSize) {
+            throw new BusinessException("Bulk delete accepts at most " + maxBatchSize + " ids per request");
+        }
+        List<UserId> deleted = adminRepository.deleteByUserIds(distinctIds);
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishAll(deleted.stream().map(id -> UserEvent.deleted(id, Role.ADMIN)).toList());
+        }
+        return new BulkDeleteResultDTO(distinctIds.size(), deleted.size());
     }
-}
\ No newline at end of file
+}
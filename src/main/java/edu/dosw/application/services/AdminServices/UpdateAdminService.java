@@ -1,12 +1,15 @@
 package edu.dosw.application.services.AdminServices;
 
 import edu.dosw.application.ports.AdminUseCases.UpdateAdminUseCase;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.command.AdminCommands.UpdateAdminCommand;
 import edu.dosw.application.dto.AdminUpdateDTO;
+import edu.dosw.application.services.OptimisticRetry;
 import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.UserEvent;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.AdminRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
 import lombok.RequiredArgsConstructor;
@@ -15,35 +18,33 @@ import lombok.RequiredArgsConstructor;
 public class UpdateAdminService implements UpdateAdminUseCase {
 
     private final AdminRepositoryPort adminRepository;
-    private final UserRepositoryPort userRepository;
     private final AdminWebMapper adminWebMapper;
+    private final OptimisticRetry optimisticRetry;
+    private final UserEventPublisherPort eventPublisher;
 
     @Override
     public AdminUpdateDTO updateAdmin(UserId adminId, UpdateAdminCommand command) {
-        Admin admin = adminRepository.findByUserId(adminId)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (command.email() != null && !command.email().equals(admin.getEmail().value())) {
-            Email newEmail = new Email(command.email());
-            if (userRepository.existsByEmail(newEmail)) {
-                throw new IllegalArgumentException("Email already exists");
+        return optimisticRetry.run(() -> {
+            Admin admin = adminRepository.findByUserId(adminId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+
+            Admin updatedAdmin = new Admin(
+                    admin.getUserId(),
+                    command.identityDocument() != null ?
+                            new IdentityDocument(command.identityDocument()) : admin.getIdentityDocument(),
+                    command.email() != null ?
+                            Email.of(command.email()) : admin.getEmail(),
+                    command.fullName() != null ?
+                            new FullName(command.fullName()) : admin.getFullName(),
+                    admin.getPasswordHash()
+            );
+
+            UserChanges changes = UserChanges.between(admin, updatedAdmin);
+            if (!changes.isEmpty()) {
+                adminRepository.update(admin, changes);
+                eventPublisher.publish(UserEvent.updated(admin, changes));
             }
-        }
-
-        Admin updatedAdmin = new Admin(
-                admin.getUserId(),
-                command.identityDocument() != null ?
-                        new IdentityDocument(command.identityDocument()) : admin.getIdentityDocument(),
-                command.email() != null ?
-                        new Email(command.email()) : admin.getEmail(),
-                command.fullName() != null ?
-                        new FullName(command.fullName()) : admin.getFullName(),
-                admin.getPasswordHash()
-        );
-
-        Admin savedAdmin = adminRepository.save(updatedAdmin);
-        userRepository.save(savedAdmin);
-
-        return adminWebMapper.toUpdateDTO(savedAdmin);
+            return adminWebMapper.toUpdateDTO(updatedAdmin);
+        });
     }
 }
\ No newline at end of file
@@ -2,13 +2,13 @@ package edu.dosw.application.services.CustomerServices;
 
 
 import edu.dosw.application.ports.CustomerUseCases.CreateCustomerUseCase;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
 import edu.dosw.application.dto.CustomerDTO;
 import edu.dosw.domain.model.*;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.utils.IdGenerator;
 import edu.dosw.infrastructure.web.mappers.CustomerWebMapper;
 import lombok.RequiredArgsConstructor;
@@ -17,18 +17,14 @@ import lombok.RequiredArgsConstructor;
 public class CreateCustomerService implements CreateCustomerUseCase {
 
     private final CustomerRepositoryPort customerRepository;
-    private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final IdGenerator idGenerator;
     private final CustomerWebMapper customerWebMapper;
+    private final UserEventPublisherPort eventPublisher;
 
     @Override
     public CustomerDTO createCustomer(CreateCustomerCommand command) {
-        Email email = new Email(command.email());
-
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Customer with this email already exists");
-        }
+        Email email = Email.of(command.email());
 
         String encodedPassword = passwordEncoder.encode(command.password());
 
@@ -41,7 +37,7 @@ public class CreateCustomerService implements CreateCustomerUseCase {
                 command.phoneNumber()
         );
         Customer savedCustomer = customerRepository.save(customer);
-        userRepository.save(savedCustomer);
+        eventPublisher.publish(UserEvent.created(savedCustomer));
         return customerWebMapper.toDTO(savedCustomer);
     }
 }
\ No newline at end of file
@@ -1,27 +1,45 @@
 package edu.dosw.application.services.CustomerServices;
 
-
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.application.ports.CustomerUseCases.DeleteCustomerUseCase;
-import edu.dosw.domain.model.Customer;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.domain.model.UserEvent;
 import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class DeleteCustomerService implements DeleteCustomerUseCase {
 
     private final CustomerRepositoryPort customerRepository;
-    private final UserRepositoryPort userRepository;
+    private final UserEventPublisherPort eventPublisher;
+    private final int maxBatchSize;
 
     @Override
     public void deleteCustomer(UserId customerId) {
-        Customer customer = customerRepository.findByUserId(customerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        if (!customerRepository.deleteByUserId(customerId)) {
+            throw new ResourceNotFoundException("Customer not found");
+        }
+        eventPublisher.publish(UserEvent.deleted(customerId, Role.CUSTOMER));
+    }
 
-        customerRepository.delete(customer);
-        userRepository.deleteByUserId(customerId);
+    @Override
+    public BulkDeleteResultDTO deleteCustomers(List<UserId> customerIds) {
+        Set<UserId> distinctIds = new LinkedHashSet<>(customerIds);
+        if (distinctIds.size() > maxBatchSize) {
+            throw new BusinessException("Bulk delete accepts at most " + maxBatchSize + " ids per request");
+        }
+        List<UserId> deleted = customerRepository.deleteByUserIds(distinctIds);
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishAll(deleted.stream().map(id -> UserEvent.deleted(id, Role.CUSTOMER)).toList());
+        }
+        return new BulkDeleteResultDTO(distinctIds.size(), deleted.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package edu.dosw.application.services;
+
+import edu.dosw.exception.ConcurrentUpdateException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a read-modify-write that lost its version check to a concurrent writer. Each attempt
+ * must re-read what it modifies. Between attempts the caller backs off exponentially, with jitter
+ * so that two colliding writers do not retry in lockstep.
+ */
+@Slf4j
+public class OptimisticRetry {
+
+    private final int maxAttempts;
+    private final long backoffNanos;
+
+    /**
+     * @param maxAttempts total attempts, including the first one
+     * @param backoffMillis wait before the second attempt, doubled for each one after it
+     */
+    public OptimisticRetry(int maxAttempts, long backoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+    }
+
+    public <T> T run(Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (ConcurrentUpdateException e) {
+                if (attemptNumber >= maxAttempts) {
+                    log.warn("Giving up after {} conflicting attempts: {}", attemptNumber, e.getMessage());
+                    throw e;
+                }
+                log.debug("Attempt {} lost a concurrent update, retrying: {}", attemptNumber, e.getMessage());
+                backOff(attemptNumber);
+            }
+        }
+    }
+
+    private void backOff(int attemptNumber) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        long ceiling = backoffNanos << Math.min(attemptNumber - 1, 10);
+        LockSupport.parkNanos(ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1));
+    }
+}
@@ -5,28 +5,42 @@ import edu.dosw.domain.model.User;
 import edu.dosw.domain.model.ValueObject.Email;
 import edu.dosw.domain.model.ValueObject.PasswordHash;
 import edu.dosw.domain.model.ValueObject.VerificationCode;
+import edu.dosw.domain.model.enums.VerificationCodeCheck;
 import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.VerificationCodeRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
 import edu.dosw.exception.ResourceNotFoundException;
-import lombok.RequiredArgsConstructor;
+import edu.dosw.exception.TooManyRequestsException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PasswordResetService {
 
     private final UserRepositoryPort userRepository;
     private final VerificationCodeRepositoryPort verificationCodeRepository;
     private final EventPublisherPort eventPublisher;
     private final PasswordEncoderPort passwordEncoder;
+    private final int maxAttempts;
 
     private static final int CODE_EXPIRY_MINUTES = 15;
 
+    public PasswordResetService(UserRepositoryPort userRepository,
+                                VerificationCodeRepositoryPort verificationCodeRepository,
+                                EventPublisherPort eventPublisher,
+                                PasswordEncoderPort passwordEncoder,
+                                @Value("${app.password-reset.max-attempts:3}") int maxAttempts) {
+        this.userRepository = userRepository;
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.eventPublisher = eventPublisher;
+        this.passwordEncoder = passwordEncoder;
+        this.maxAttempts = maxAttempts;
+    }
+
     public void requestPasswordReset(Email email) {
         userRepository.findByEmail(email)
                 .ifPresent(user -> {
@@ -46,39 +60,40 @@ public class PasswordResetService {
     }
 
     public void verifyCode(Email email, String code) {
-        VerificationCode verificationCode = verificationCodeRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Verification code not found or expired"));
-
-        if (!verificationCode.isValid(code)) {
-            throw new IllegalArgumentException("Invalid or expired verification code");
-        }
+        requireValid(verificationCodeRepository.check(email, code, maxAttempts, false),
+                "Verification code not found or expired");
         eventPublisher.publishPasswordResetVerified(email, code);
 
         log.info("Verification code validated for email: {}", email.value());
     }
 
     public void resetPassword(Email email, String code, String newPassword) {
-        VerificationCode verificationCode = verificationCodeRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Verification code not found"));
-
-        if (!verificationCode.isValid(code)) {
-            throw new IllegalArgumentException("Invalid or expired verification code");
-        }
+        // One atomic round trip that also consumes the code, so two concurrent resets cannot both
+        // use it and a wrong code costs no hash. A reset that fails after this point (missing user,
+        // hashing pool full) has spent the code and needs a new one
+        requireValid(verificationCodeRepository.check(email, code, maxAttempts, true),
+                "Verification code not found");
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
         String encodedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(new PasswordHash(encodedPassword));
-
-        userRepository.save(user);
-        VerificationCode usedCode = verificationCode.markAsUsed();
-        verificationCodeRepository.save(usedCode);
+        userRepository.updatePasswordHash(user.getUserId(), new PasswordHash(encodedPassword));
 
         eventPublisher.publishPasswordResetCompleted(email, user, true);
 
         log.info("Password reset completed for email: {}", email.value());
     }
+
+    private static void requireValid(VerificationCodeCheck check, String notFoundMessage) {
+        switch (check) {
+            case VALID -> { }
+            case NOT_FOUND -> throw new ResourceNotFoundException(notFoundMessage);
+            case LOCKED -> throw new TooManyRequestsException(
+                    "Too many failed verification attempts for this email, try again later");
+            default -> throw new IllegalArgumentException("Invalid or expired verification code");
+        }
+    }
+
     private String generateVerificationCode() {
         return String.valueOf((int) (Math.random() * 900000) + 100000);
     }
@@ -1,12 +1,12 @@
 package edu.dosw.application.services.SellerServices;
 
 import edu.dosw.application.ports.SellerUseCases.CreateSellerUseCase;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
 import edu.dosw.application.dto.SellerDTO;
 import edu.dosw.domain.model.*;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.SellerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
 import edu.dosw.utils.IdGenerator;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
@@ -16,18 +16,14 @@ import lombok.RequiredArgsConstructor;
 public class CreateSellerService implements CreateSellerUseCase {
 
     private final SellerRepositoryPort sellerRepository;
-    private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final IdGenerator idGenerator;
     private final SellerWebMapper sellerWebMapper;
+    private final UserEventPublisherPort eventPublisher;
 
     @Override
     public SellerDTO createSeller(CreateSellerCommand command) {
-        Email email = new Email(command.email());
-
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Seller with this email already exists");
-        }
+        Email email = Email.of(command.email());
 
         String encodedPassword = passwordEncoder.encode(command.password());
 
@@ -42,7 +38,7 @@ public class CreateSellerService implements CreateSellerUseCase {
         );
 
         Seller savedSeller = sellerRepository.save(seller);
-        userRepository.save(savedSeller);
+        eventPublisher.publish(UserEvent.created(savedSeller));
 
         return sellerWebMapper.toDTO(savedSeller);
     }
@@ -1,24 +1,45 @@
 package edu.dosw.application.services.SellerServices;
 
+import edu.dosw.application.dto.BulkDeleteResultDTO;
 import edu.dosw.application.ports.SellerUseCases.DeleteSellerUseCase;
-import edu.dosw.domain.model.Seller;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.domain.model.UserEvent;
 import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.SellerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class DeleteSellerService implements DeleteSellerUseCase {
 
     private final SellerRepositoryPort sellerRepository;
-    private final UserRepositoryPort userRepository;
+    private final UserEventPublisherPort eventPublisher;
+    private final int maxBatchSize;
 
     @Override
     public void deleteSeller(UserId sellerId) {
-        Seller seller = sellerRepository.findByUserId(sellerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
-        sellerRepository.delete(seller);
-        userRepository.deleteByUserId(sellerId);
+        if (!sellerRepository.deleteByUserId(sellerId)) {
+            throw new ResourceNotFoundException("Seller not found");
+        }
+        eventPublisher.publish(UserEvent.deleted(sellerId, Role.SELLER));
+    }
+
+    @Override
+    public BulkDeleteResultDTO deleteSellers(List<UserId> sellerIds) {
+        Set<UserId> distinctIds = new LinkedHashSet<>(sellerIds);
+        if (distinctIds.size() > maxBatchSize) {
+            throw new BusinessException("Bulk delete accepts at most " + maxBatchSize + " ids per request");
+        }
+        List<UserId> deleted = sellerRepository.deleteByUserIds(distinctIds);
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishAll(deleted.stream().map(id -> UserEvent.deleted(id, Role.SELLER)).toList());
+        }
+        return new BulkDeleteResultDTO(distinctIds.size(), deleted.size());
     }
-}
\ No newline at end of file
+}
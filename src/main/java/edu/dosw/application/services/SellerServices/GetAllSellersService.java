@@ -1,24 +1,83 @@
 package edu.dosw.application.services.SellerServices;
 
 
+import edu.dosw.application.dto.SellerPageDTO;
 import edu.dosw.application.ports.SellerUseCases.GetAllSellersUseCase;
-import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
+import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.ports.SellerRepositoryPort;
+import edu.dosw.exception.BusinessException;
+import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
+/**
+ * Lists sellers one keyset page at a time. The continuation token encodes the last userId
+ * returned, so each page is an indexed range scan regardless of how deep the client is.
+ */
 @RequiredArgsConstructor
 public class GetAllSellersService implements GetAllSellersUseCase {
 
+    private static final String TOKEN_PREFIX = "s1:";
+
     private final SellerRepositoryPort sellerRepository;
+    private final SellerWebMapper sellerWebMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     @Override
-    public List<Seller> getAllSellers() {
-        return sellerRepository.findAll();
+    public SellerPageDTO getAllSellers(String continuationToken, Integer pageSize) {
+        return page(null, continuationToken, pageSize);
     }
 
     @Override
-    public List<Seller> getPendingSellers() {
-        return sellerRepository.findByApproved(false);
+    public SellerPageDTO getPendingSellers(String continuationToken, Integer pageSize) {
+        return page(false, continuationToken, pageSize);
+    }
+
+    private SellerPageDTO page(Boolean approved, String continuationToken, Integer pageSize) {
+        int limit = resolvePageSize(pageSize);
+        UserId after = decodeToken(continuationToken);
+
+        // One extra row tells whether another page exists without a count query
+        List<SellerSummary> summaries = sellerRepository.findSummaries(approved, after, limit + 1);
+        boolean hasMore = summaries.size() > limit;
+        List<SellerSummary> page = hasMore ? summaries.subList(0, limit) : summaries;
+
+        String nextToken = hasMore ? encodeToken(page.get(page.size() - 1).userId()) : null;
+        return new SellerPageDTO(page.stream().map(sellerWebMapper::toSummaryDTO).toList(), nextToken);
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new BusinessException("Page size must be between 1 and " + maxPageSize);
+        }
+        return pageSize;
+    }
+
+    static String encodeToken(UserId lastUserId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + lastUserId.value()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserId decodeToken(String continuationToken) {
+        if (continuationToken == null || continuationToken.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_PREFIX)) {
+                throw new BusinessException("Invalid continuation token");
+            }
+            return new UserId(decoded.substring(TOKEN_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid continuation token", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package edu.dosw.application.services.SellerServices;
 
 import edu.dosw.application.ports.SellerUseCases.UpdateSellerUseCase;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.command.SellerCommands.UpdateSellerCommand;
 import edu.dosw.application.dto.SellerUpdateDTO;
+import edu.dosw.application.services.OptimisticRetry;
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.UserEvent;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.SellerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import lombok.RequiredArgsConstructor;
@@ -15,37 +18,35 @@ import lombok.RequiredArgsConstructor;
 public class UpdateSellerService implements UpdateSellerUseCase {
 
     private final SellerRepositoryPort sellerRepository;
-    private final UserRepositoryPort userRepository;
     private final SellerWebMapper sellerWebMapper;
+    private final OptimisticRetry optimisticRetry;
+    private final UserEventPublisherPort eventPublisher;
 
     @Override
     public SellerUpdateDTO updateSeller(UserId sellerId, UpdateSellerCommand command) {
-        Seller seller = sellerRepository.findByUserId(sellerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
-
-        if (command.email() != null && !command.email().equals(seller.getEmail().value())) {
-            Email newEmail = new Email(command.email());
-            if (userRepository.existsByEmail(newEmail)) {
-                throw new IllegalArgumentException("Email already exists");
+        return optimisticRetry.run(() -> {
+            Seller seller = sellerRepository.findByUserId(sellerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
+
+            Seller updatedSeller = new Seller(
+                    seller.getUserId(),
+                    command.identityDocument() != null ?
+                            new IdentityDocument(command.identityDocument()) : seller.getIdentityDocument(),
+                    command.email() != null ?
+                            Email.of(command.email()) : seller.getEmail(),
+                    command.fullName() != null ?
+                            new FullName(command.fullName()) : seller.getFullName(),
+                    seller.getPasswordHash(),
+                    command.companyName() != null ? command.companyName() : seller.getCompanyName(),
+                    command.businessAddress() != null ? command.businessAddress() : seller.getBusinessAddress()
+            );
+
+            UserChanges changes = UserChanges.between(seller, updatedSeller);
+            if (!changes.isEmpty()) {
+                sellerRepository.update(seller, changes);
+                eventPublisher.publish(UserEvent.updated(seller, changes));
             }
-        }
-
-        Seller updatedSeller = new Seller(
-                seller.getUserId(),
-                command.identityDocument() != null ?
-                        new IdentityDocument(command.identityDocument()) : seller.getIdentityDocument(),
-                command.email() != null ?
-                        new Email(command.email()) : seller.getEmail(),
-                command.fullName() != null ?
-                        new FullName(command.fullName()) : seller.getFullName(),
-                seller.getPasswordHash(),
-                command.companyName() != null ? command.companyName() : seller.getCompanyName(),
-                command.businessAddress() != null ? command.businessAddress() : seller.getBusinessAddress()
-        );
-
-        Seller savedSeller = sellerRepository.save(updatedSeller);
-        userRepository.save(savedSeller);
-
-        return sellerWebMapper.toUpdateDTO(savedSeller);
+            return sellerWebMapper.toUpdateDTO(updatedSeller);
+        });
     }
 }
\ No newline at end of file
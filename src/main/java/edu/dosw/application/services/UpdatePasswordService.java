@@ -3,7 +3,6 @@ package edu.dosw.application.services;
 import edu.dosw.application.ports.UpdatePasswordUseCase;
 import edu.dosw.application.dto.command.UpdatePasswordCommand;
 import edu.dosw.application.dto.PasswordUpdateRequestDTO;
-import edu.dosw.domain.model.User;
 import edu.dosw.domain.model.ValueObject.PasswordHash;
 import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
@@ -18,13 +17,10 @@ public class UpdatePasswordService implements UpdatePasswordUseCase {
 
     @Override
     public PasswordUpdateRequestDTO updatePassword(UpdatePasswordCommand command) {
-        User user = userRepository.findByUserId(command.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
         String encodedPassword = passwordEncoder.encode(command.newPassword());
-        user.changePassword(new PasswordHash(encodedPassword));
-
-        userRepository.save(user);
+        if (!userRepository.updatePasswordHash(command.userId(), new PasswordHash(encodedPassword))) {
+            throw new ResourceNotFoundException("User not found");
+        }
         return new PasswordUpdateRequestDTO(command.newPassword());
     }
 }
\ No newline at end of file
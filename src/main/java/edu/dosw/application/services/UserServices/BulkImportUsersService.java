@@ -0,0 +1,185 @@
+package edu.dosw.application.services.UserServices;
+
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.dto.BulkImportRowDTO;
+import edu.dosw.application.dto.BulkImportRowDTO.Status;
+import edu.dosw.application.dto.command.AdminCommands.CreateAdminCommand;
+import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
+import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.ports.UserUseCase.BulkImportUsersUseCase;
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.ports.PasswordEncoderPort;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
+import edu.dosw.utils.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Creates many users per request with a fixed number of round trips. The steps are:
+ * validate every row, check the remaining emails with one query, hash the surviving
+ * passwords in parallel, then write them with one bulk insert. Each row gets its own
+ * result; a bad row never fails the batch.
+ */
+@Slf4j
+public class BulkImportUsersService implements BulkImportUsersUseCase {
+
+    // Rows are validated before hashing; the real hash replaces this one before anything is written
+    private static final PasswordHash PENDING_HASH = new PasswordHash("pending");
+
+    private final UserRepositoryPort userRepository;
+    private final UserBulkWritePort userBulkWritePort;
+    private final PasswordEncoderPort passwordEncoder;
+    private final IdGenerator idGenerator;
+    private final UserEventPublisherPort eventPublisher;
+    private final int maxBatchSize;
+
+    public BulkImportUsersService(UserRepositoryPort userRepository, UserBulkWritePort userBulkWritePort,
+                                  PasswordEncoderPort passwordEncoder, IdGenerator idGenerator,
+                                  UserEventPublisherPort eventPublisher, int maxBatchSize) {
+        this.userRepository = userRepository;
+        this.userBulkWritePort = userBulkWritePort;
+        this.passwordEncoder = passwordEncoder;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public BulkImportResultDTO importCustomers(List<CreateCustomerCommand> commands) {
+        return importRows(commands, CreateCustomerCommand::email, CreateCustomerCommand::password,
+                (command, userId) -> new Customer(
+                        userId,
+                        new IdentityDocument(command.identityDocument()),
+                        Email.of(command.email()),
+                        new FullName(command.fullName()),
+                        PENDING_HASH,
+                        command.phoneNumber()
+                ));
+    }
+
+    @Override
+    public BulkImportResultDTO importSellers(List<CreateSellerCommand> commands) {
+        return importRows(commands, CreateSellerCommand::email, CreateSellerCommand::password,
+                (command, userId) -> new Seller(
+                        userId,
+                        new IdentityDocument(command.identityDocument()),
+                        Email.of(command.email()),
+                        new FullName(command.fullName()),
+                        PENDING_HASH,
+                        command.companyName(),
+                        command.businessAddress()
+                ));
+    }
+
+    @Override
+    public BulkImportResultDTO importAdmins(List<CreateAdminCommand> commands) {
+        return importRows(commands, CreateAdminCommand::email, CreateAdminCommand::password,
+                (command, userId) -> new Admin(
+                        userId,
+                        new IdentityDocument(command.identityDocument()),
+                        Email.of(command.email()),
+                        new FullName(command.fullName()),
+                        PENDING_HASH
+                ));
+    }
+
+    private <C, U extends User> BulkImportResultDTO importRows(List<C> commands,
+                                                               Function<C, String> emailOf,
+                                                               Function<C, String> passwordOf,
+                                                               BiFunction<C, UserId, U> factory) {
+        if (commands == null || commands.isEmpty()) {
+            throw new BusinessException("Bulk import requires at least one row");
+        }
+        if (commands.size() > maxBatchSize) {
+            throw new BusinessException("Bulk import accepts at most " + maxBatchSize + " rows per request");
+        }
+
+        BulkImportRowDTO[] results = new BulkImportRowDTO[commands.size()];
+        List<Integer> candidates = new ArrayList<>();
+        List<U> users = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            C command = commands.get(i);
+            String email = emailOf.apply(command);
+            try {
+                String password = passwordOf.apply(command);
+                if (password == null || password.isBlank()) {
+                    throw new IllegalArgumentException("Password cannot be null or empty");
+                }
+                U user = factory.apply(command, new UserId(idGenerator.generateUniqueId()));
+                if (!seenEmails.add(user.getEmail().value())) {
+                    results[i] = row(i, email, Status.DUPLICATE, null, "Email repeated in this import");
+                    continue;
+                }
+                candidates.add(i);
+                users.add(user);
+            } catch (IllegalArgumentException e) {
+                results[i] = row(i, email, Status.INVALID, null, e.getMessage());
+            }
+        }
+
+        Set<String> registered = userRepository.findExistingEmails(users.stream().map(User::getEmail).toList());
+        List<Integer> toCreate = new ArrayList<>();
+        List<U> newUsers = new ArrayList<>();
+        for (int k = 0; k < users.size(); k++) {
+            int i = candidates.get(k);
+            if (registered.contains(users.get(k).getEmail().value())) {
+                results[i] = row(i, emailOf.apply(commands.get(i)), Status.DUPLICATE, null, "Email already registered");
+            } else {
+                toCreate.add(i);
+                newUsers.add(users.get(k));
+            }
+        }
+
+        if (!newUsers.isEmpty()) {
+            List<String> hashes = passwordEncoder.encodeAll(
+                    toCreate.stream().map(i -> passwordOf.apply(commands.get(i))).toList());
+            for (int k = 0; k < newUsers.size(); k++) {
+                newUsers.get(k).changePassword(new PasswordHash(hashes.get(k)));
+            }
+
+            Map<Integer, UserBulkWritePort.Failure> failures = userBulkWritePort.insertAll(newUsers);
+            List<UserEvent> events = new ArrayList<>(newUsers.size());
+            for (int k = 0; k < newUsers.size(); k++) {
+                int i = toCreate.get(k);
+                User user = newUsers.get(k);
+                UserBulkWritePort.Failure failure = failures.get(k);
+                if (failure == null) {
+                    events.add(UserEvent.created(user));
+                }
+                results[i] = failure == null
+                        ? row(i, user.getEmail().value(), Status.CREATED, user.getUserId().value(), null)
+                        : row(i, user.getEmail().value(), failure.duplicate() ? Status.DUPLICATE : Status.FAILED,
+                                null, failure.message());
+            }
+            eventPublisher.publishAll(events);
+        }
+
+        int created = (int) Arrays.stream(results)
+                .filter(result -> result.status() == Status.CREATED)
+                .count();
+        log.info("Bulk import finished: {} created, {} rejected", created, commands.size() - created);
+        return new BulkImportResultDTO(created, commands.size() - created, List.of(results));
+    }
+
+    private static BulkImportRowDTO row(int index, String email, Status status, String userId, String message) {
+        return new BulkImportRowDTO(index, email, status, userId, message);
+    }
+}
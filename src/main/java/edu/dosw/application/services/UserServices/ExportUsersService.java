@@ -0,0 +1,74 @@
+package edu.dosw.application.services.UserServices;
+
+import edu.dosw.application.dto.UserExportDTO;
+import edu.dosw.application.ports.UserUseCase.ExportUsersUseCase;
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserExportPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Streams users out of the repository one record at a time, paced to at most
+ * {@code maxDocsPerSecond} so a nightly export does not compete with live traffic.
+ */
+@Slf4j
+public class ExportUsersService implements ExportUsersUseCase {
+
+    private static final long MIN_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final UserExportPort userExportPort;
+    private final int maxDocsPerSecond;
+
+    /**
+     * @param maxDocsPerSecond export rate limit; 0 or less disables throttling
+     */
+    public ExportUsersService(UserExportPort userExportPort, int maxDocsPerSecond) {
+        this.userExportPort = userExportPort;
+        this.maxDocsPerSecond = maxDocsPerSecond;
+    }
+
+    @Override
+    public long exportUsers(Role role, LocalDateTime since, Consumer<UserExportDTO> sink) {
+        long start = System.nanoTime();
+        long nanosPerDoc = maxDocsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDocsPerSecond : 0;
+        long[] exported = {0};
+
+        userExportPort.forEach(role, since, record -> {
+            if (nanosPerDoc > 0) {
+                pace(start + exported[0] * nanosPerDoc);
+            }
+            sink.accept(toDTO(record));
+            exported[0]++;
+        });
+
+        log.info("Exported {} {} users in {} ms", exported[0], role,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return exported[0];
+    }
+
+    private static void pace(long dueAt) {
+        long ahead = dueAt - System.nanoTime();
+        if (ahead >= MIN_PARK_NANOS) {
+            LockSupport.parkNanos(ahead);
+        }
+    }
+
+    private static UserExportDTO toDTO(UserExportRecord record) {
+        return new UserExportDTO(
+                record.userId().value(),
+                record.identityDocument().value(),
+                record.email().value(),
+                record.fullName().value(),
+                record.role(),
+                record.createdAt(),
+                record.phoneNumber(),
+                record.companyName(),
+                record.businessAddress()
+        );
+    }
+}
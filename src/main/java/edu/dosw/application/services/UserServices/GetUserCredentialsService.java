@@ -4,18 +4,24 @@ import edu.dosw.application.ports.UserUseCase.GetUserCredentialsUseCase;
 import edu.dosw.application.dto.UserCredentialsDTO;
 import edu.dosw.domain.model.User;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.PasswordHash;
 import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.UserWebMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.Executor;
+
+@Slf4j
 @RequiredArgsConstructor
 public class GetUserCredentialsService implements GetUserCredentialsUseCase {
 
     private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final UserWebMapper userWebMapper;
+    private final Executor rehashExecutor;
 
     @Override
     public UserCredentialsDTO getCredentialsByEmail(Email email) {
@@ -33,6 +39,28 @@ public class GetUserCredentialsService implements GetUserCredentialsUseCase {
             throw new ResourceNotFoundException("Invalid password");
         }
 
-        return userWebMapper.toCredentialsDTO(user);
+        UserCredentialsDTO credentials = userWebMapper.toCredentialsDTO(user);
+        if (passwordEncoder.needsRehash(user.getPasswordHash().value())) {
+            rehashExecutor.execute(() -> rehash(user, password));
+        }
+        return credentials;
+    }
+
+    /**
+     * Replaces the hash that was verified at login, and only that one: a password changed or reset
+     * before this task runs keeps its new hash. The loaded user is left untouched, since it may be
+     * the instance the user cache hands to other requests.
+     */
+    private void rehash(User user, String password) {
+        try {
+            PasswordHash rehashed = new PasswordHash(passwordEncoder.encode(password));
+            if (userRepository.updatePasswordHash(user.getUserId(), user.getPasswordHash(), rehashed)) {
+                log.info("Password hash upgraded for userId: {}", user.getUserId().value());
+            } else {
+                log.info("Password changed since login, hash upgrade skipped for userId: {}", user.getUserId().value());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not upgrade password hash for userId: {}", user.getUserId().value(), e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,15 @@ package edu.dosw.config;
 
 import edu.dosw.application.ports.*;
 import edu.dosw.application.ports.CustomerUseCases.*;
+import edu.dosw.application.ports.UserUseCase.BulkImportUsersUseCase;
+import edu.dosw.application.ports.UserUseCase.ExportUsersUseCase;
 import edu.dosw.application.ports.UserUseCase.GetUserCredentialsUseCase;
 import edu.dosw.application.ports.AdminUseCases.*;
 import edu.dosw.application.ports.SellerUseCases.*;
 import edu.dosw.application.services.*;
 import edu.dosw.application.services.CustomerServices.*;
+import edu.dosw.application.services.UserServices.BulkImportUsersService;
+import edu.dosw.application.services.UserServices.ExportUsersService;
 import edu.dosw.application.services.UserServices.GetUserCredentialsService;
 import edu.dosw.application.services.AdminServices.*;
 import edu.dosw.application.services.SellerServices.*;
@@ -15,16 +19,24 @@ import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.AdminRepositoryPort;
 import edu.dosw.domain.ports.SellerRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.domain.ports.UserExportPort;
 import edu.dosw.utils.IdGenerator;
 import edu.dosw.infrastructure.web.mappers.CustomerWebMapper;
 import edu.dosw.infrastructure.web.mappers.UserWebMapper;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.Executor;
 
 @Configuration
+@EnableScheduling
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
@@ -34,6 +46,7 @@ public class ApplicationConfig {
     private final SellerRepositoryPort sellerRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final IdGenerator idGenerator;
+    private final UserEventPublisherPort userEventPublisher;
     private final CustomerWebMapper customerWebMapper;
     private final UserWebMapper userWebMapper;
     private final AdminWebMapper adminWebMapper;
@@ -42,7 +55,7 @@ public class ApplicationConfig {
 
     @Bean
     public CreateCustomerUseCase createCustomerUseCase() {
-        return new CreateCustomerService(customerRepository, userRepository, passwordEncoder, idGenerator, customerWebMapper);
+        return new CreateCustomerService(customerRepository, passwordEncoder, idGenerator, customerWebMapper, userEventPublisher);
     }
 
     @Bean
@@ -51,13 +64,21 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public UpdateCustomerUseCase updateCustomerUseCase() {
-        return new UpdateCustomerService(customerRepository, userRepository, customerWebMapper);
+    public OptimisticRetry optimisticRetry(
+            @Value("${app.persistence.optimistic-retry.max-attempts:3}") int maxAttempts,
+            @Value("${app.persistence.optimistic-retry.backoff-millis:10}") long backoffMillis) {
+        return new OptimisticRetry(maxAttempts, backoffMillis);
     }
 
     @Bean
-    public DeleteCustomerUseCase deleteCustomerUseCase() {
-        return new DeleteCustomerService(customerRepository, userRepository);
+    public UpdateCustomerUseCase updateCustomerUseCase(OptimisticRetry optimisticRetry) {
+        return new UpdateCustomerService(customerRepository, customerWebMapper, optimisticRetry, userEventPublisher);
+    }
+
+    @Bean
+    public DeleteCustomerUseCase deleteCustomerUseCase(
+            @Value("${app.delete.max-batch-size:1000}") int maxBatchSize) {
+        return new DeleteCustomerService(customerRepository, userEventPublisher, maxBatchSize);
     }
 
 
@@ -67,14 +88,30 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public GetUserCredentialsUseCase getUserCredentialsUseCase() {
-        return new GetUserCredentialsService(userRepository, passwordEncoder, userWebMapper);
+    public GetUserCredentialsUseCase getUserCredentialsUseCase(
+            @Qualifier("passwordRehashExecutor") Executor passwordRehashExecutor) {
+        return new GetUserCredentialsService(userRepository, passwordEncoder, userWebMapper, passwordRehashExecutor);
+    }
+
+    @Bean
+    public BulkImportUsersUseCase bulkImportUsersUseCase(
+            UserBulkWritePort userBulkWritePort,
+            @Value("${app.import.max-batch-size:1000}") int maxBatchSize) {
+        return new BulkImportUsersService(userRepository, userBulkWritePort, passwordEncoder, idGenerator,
+                userEventPublisher, maxBatchSize);
+    }
+
+    @Bean
+    public ExportUsersUseCase exportUsersUseCase(
+            UserExportPort userExportPort,
+            @Value("${app.export.max-docs-per-second:2000}") int maxDocsPerSecond) {
+        return new ExportUsersService(userExportPort, maxDocsPerSecond);
     }
 
 
     @Bean
     public CreateAdminUseCase createAdminUseCase() {
-        return new CreateAdminService(adminRepository, userRepository, passwordEncoder, idGenerator, adminWebMapper);
+        return new CreateAdminService(adminRepository, passwordEncoder, idGenerator, adminWebMapper, userEventPublisher);
     }
 
     @Bean
@@ -83,19 +120,20 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public UpdateAdminUseCase updateAdminUseCase() {
-        return new UpdateAdminService(adminRepository, userRepository, adminWebMapper);
+    public UpdateAdminUseCase updateAdminUseCase(OptimisticRetry optimisticRetry) {
+        return new UpdateAdminService(adminRepository, adminWebMapper, optimisticRetry, userEventPublisher);
     }
 
     @Bean
-    public DeleteAdminUseCase deleteAdminUseCase() {
-        return new DeleteAdminService(adminRepository, userRepository);
+    public DeleteAdminUseCase deleteAdminUseCase(
+            @Value("${app.delete.max-batch-size:1000}") int maxBatchSize) {
+        return new DeleteAdminService(adminRepository, userEventPublisher, maxBatchSize);
     }
 
 
     @Bean
     public CreateSellerUseCase createSellerUseCase() {
-        return new CreateSellerService(sellerRepository, userRepository, passwordEncoder, idGenerator, sellerWebMapper);
+        return new CreateSellerService(sellerRepository, passwordEncoder, idGenerator, sellerWebMapper, userEventPublisher);
     }
 
     @Bean
@@ -104,17 +142,20 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public GetAllSellersUseCase getAllSellersUseCase() {
-        return new GetAllSellersService(sellerRepository);
+    public GetAllSellersUseCase getAllSellersUseCase(
+            @Value("${app.sellers.page-size.default:50}") int defaultPageSize,
+            @Value("${app.sellers.page-size.max:200}") int maxPageSize) {
+        return new GetAllSellersService(sellerRepository, sellerWebMapper, defaultPageSize, maxPageSize);
     }
 
     @Bean
-    public UpdateSellerUseCase updateSellerUseCase() {
-        return new UpdateSellerService(sellerRepository, userRepository, sellerWebMapper);
+    public UpdateSellerUseCase updateSellerUseCase(OptimisticRetry optimisticRetry) {
+        return new UpdateSellerService(sellerRepository, sellerWebMapper, optimisticRetry, userEventPublisher);
     }
 
     @Bean
-    public DeleteSellerUseCase deleteSellerUseCase() {
-        return new DeleteSellerService(sellerRepository, userRepository);
+    public DeleteSellerUseCase deleteSellerUseCase(
+            @Value("${app.delete.max-batch-size:1000}") int maxBatchSize) {
+        return new DeleteSellerService(sellerRepository, userEventPublisher, maxBatchSize);
     }
 }
\ No newline at end of file
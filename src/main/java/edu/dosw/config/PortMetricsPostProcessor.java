@@ -0,0 +1,159 @@
+package edu.dosw.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every method a bean exposes through one of our use case ({@code *UseCase}) or port
+ * ({@code *Port}) interfaces, as {@code usecase.duration} and {@code port.duration} timers with
+ * percentile histograms. Tags stay low-cardinality:
+ * <ul>
+ *   <li>{@code port} and {@code method}: the interface and method called;</li>
+ *   <li>{@code implementation}: the bean class, which tells a cache from the store behind it;</li>
+ *   <li>{@code role}: customer, seller or admin when the interface is role-specific, else none;</li>
+ *   <li>{@code outcome} (success or error) and {@code exception}, so the error count of a method is
+ *   the count of its error series.</li>
+ * </ul>
+ * Proxies are class-based, so beans injected by their concrete class keep working.
+ */
+public class PortMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final String BASE_PACKAGE = "edu.dosw.";
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new PortMethods(), new TimingInterceptor(meterRegistry));
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    /**
+     * The use case or port interface of {@code targetClass} that declares {@code method}, if any.
+     */
+    static Optional<Class<?>> portOf(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (isPort(candidate) && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isPort(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith(BASE_PACKAGE) && (name.endsWith("UseCase") || name.endsWith("Port"));
+    }
+
+    static String roleOf(Class<?> port) {
+        String name = port.getSimpleName();
+        for (String role : new String[] {"Customer", "Seller", "Admin"}) {
+            if (name.contains(role)) {
+                return role.toLowerCase(Locale.ROOT);
+            }
+        }
+        return "none";
+    }
+
+    private static final class PortMethods extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return portOf(method, targetClass).isPresent();
+        }
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+        private final Map<MethodKey, Series> series = new ConcurrentHashMap<>();
+        private volatile MeterRegistry meterRegistry;
+
+        TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            this.meterRegistryProvider = meterRegistryProvider;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Series timers = series.computeIfAbsent(
+                    new MethodKey(ClassUtils.getUserClass(invocation.getThis().getClass()), invocation.getMethod()),
+                    this::series);
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                timers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                // Errors are rare enough to look their timer up on each failure
+                timers.timer(registry(), "error", e.getClass().getSimpleName())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private Series series(MethodKey key) {
+            Class<?> port = portOf(key.method(), key.targetClass()).orElseThrow();
+            boolean useCase = port.getSimpleName().endsWith("UseCase");
+            Tags tags = Tags.of(
+                    "port", port.getSimpleName(),
+                    "method", key.method().getName(),
+                    "implementation", key.targetClass().getSimpleName(),
+                    "role", roleOf(port));
+            return new Series(useCase ? "usecase.duration" : "port.duration",
+                    useCase ? "Use case latency" : "Port (repository, encoder, publisher) latency", tags, registry());
+        }
+
+        private MeterRegistry registry() {
+            MeterRegistry registry = meterRegistry;
+            if (registry == null) {
+                registry = meterRegistryProvider.getObject();
+                meterRegistry = registry;
+            }
+            return registry;
+        }
+    }
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private static final class Series {
+
+        private final String name;
+        private final String description;
+        private final Tags tags;
+        private final Timer success;
+
+        Series(String name, String description, Tags tags, MeterRegistry registry) {
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+            this.success = timer(registry, "success", "none");
+        }
+
+        Timer success() {
+            return success;
+        }
+
+        Timer timer(MeterRegistry registry, String outcome, String exception) {
+            return Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .tags("outcome", outcome, "exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package edu.dosw.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -8,6 +13,14 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -22,8 +35,81 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Uses the pinned {@code app.security.bcrypt.strength} when set. Calibrating is meant for
+     * picking that value: replicas on different hardware would each settle on their own cost and
+     * keep rehashing each other's hashes, so the result is logged to be pinned in the deployment and
+     * every replica reports the cost it runs with.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:0}") int strength,
+            @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${app.security.bcrypt.max-strength:16}") int maxStrength,
+            @Value("${app.security.bcrypt.target-verify-millis:50}") long targetVerifyMillis,
+            MeterRegistry meterRegistry) {
+        int cost = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(minStrength, maxStrength, Duration.ofMillis(targetVerifyMillis));
+        if (strength <= 0) {
+            log.warn("BCrypt cost calibrated on this host only; set app.security.bcrypt.strength={} on every replica",
+                    cost);
+        }
+        Gauge.builder("security.bcrypt.cost", () -> cost)
+                .description("BCrypt cost new hashes are written with")
+                .tag("source", strength > 0 ? "configured" : "calibrated")
+                .register(meterRegistry);
+        return new BCryptPasswordEncoder(cost);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${app.security.hashing.threads:0}") int threads,
+            @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Rehashes are an optimization that the next login retries, so a full queue drops them; the
+     * drops are counted so a queue that is too small shows up.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordRehashExecutor(
+            @Value("${app.security.bcrypt.rehash-queue-capacity:256}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        Counter dropped = Counter.builder("security.password.rehash.dropped")
+                .description("Password rehashes dropped because the rehash queue was full")
+                .register(meterRegistry);
+        return new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    dropped.increment();
+                    log.debug("Password rehash dropped, {} rehashes already queued", executor.getQueue().size());
+                }
+        );
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,119 @@
 package edu.dosw.config;
 
 import edu.dosw.domain.ports.PasswordEncoderPort;
+import edu.dosw.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs BCrypt on a dedicated, bounded pool so hashing bursts cannot occupy every request thread.
+ * When the pool and its queue are full the call is rejected immediately with a 429.
+ */
 @Component
 public class SpringPasswordEncoderAdapter implements PasswordEncoderPort {
 
     private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashingExecutor;
+    private final int parallelism;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
 
-    public SpringPasswordEncoderAdapter(PasswordEncoder passwordEncoder) {
+    public SpringPasswordEncoderAdapter(PasswordEncoder passwordEncoder,
+                                        @Qualifier("passwordHashingExecutor") ThreadPoolExecutor hashingExecutor,
+                                        MeterRegistry meterRegistry) {
         this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = ExecutorServiceMetrics.monitor(meterRegistry, hashingExecutor, "password.hashing");
+        this.parallelism = hashingExecutor.getMaximumPoolSize();
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
     }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return runOnHashingPool(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Submits at most one hash per pool thread at a time, so a bulk import never fills the
+     * queue that interactive logins and sign-ups rely on.
+     */
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += parallelism) {
+            List<Future<String>> window = new ArrayList<>(parallelism);
+            try {
+                for (String rawPassword : rawPasswords.subList(from, Math.min(from + parallelism, rawPasswords.size()))) {
+                    Callable<String> encode = () -> passwordEncoder.encode(rawPassword);
+                    window.add(hashingExecutor.submit(encodeTimer.wrap(encode)));
+                }
+                for (Future<String> hash : window) {
+                    encoded.add(await(hash));
+                }
+            } catch (RejectedExecutionException e) {
+                window.forEach(hash -> hash.cancel(false));
+                throw new TooManyRequestsException("Password hashing capacity exhausted, retry later", e);
+            }
+        }
+        return encoded;
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return runOnHashingPool(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        try {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> T runOnHashingPool(Timer timer, Callable<T> operation) {
+        Future<T> result;
+        try {
+            result = hashingExecutor.submit(timer.wrap(operation));
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Password hashing capacity exhausted, retry later", e);
+        }
+        return await(result);
+    }
+
+    private static <T> T await(Future<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing.duration")
+                .description("Time spent running BCrypt on the hashing pool")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package edu.dosw.domain.model;
+
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.FullName;
+import edu.dosw.domain.model.ValueObject.UserId;
+
+/**
+ * Listing view of a seller: the public profile fields only, never credentials.
+ */
+public record SellerSummary(
+        UserId userId,
+        Email email,
+        FullName fullName,
+        String companyName,
+        String businessAddress
+) {}
@@ -12,6 +12,7 @@ public class User {
     private PasswordHash passwordHash;
     private final Role role;
     private final LocalDateTime createdAt;
+    private Long version;
 
     public User(UserId userId, IdentityDocument identityDocument, Email email,
                 FullName fullName, PasswordHash passwordHash, Role role) {
@@ -35,4 +36,10 @@ public class User {
     public PasswordHash getPasswordHash() { return passwordHash; }
     public Role getRole() { return role; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+
+    /**
+     * Storage version this user was loaded at; null until it has been persisted.
+     */
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package edu.dosw.domain.model;
+
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.FullName;
+import edu.dosw.domain.model.ValueObject.IdentityDocument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The profile fields an update actually changes. A null component means the field keeps its
+ * stored value; role-specific components are null for the other roles.
+ */
+public record UserChanges(
+        IdentityDocument identityDocument,
+        Email email,
+        FullName fullName,
+        String phoneNumber,
+        String companyName,
+        String businessAddress
+) {
+
+    /**
+     * Field-by-field difference between the stored user and its edited copy.
+     */
+    public static UserChanges between(User before, User after) {
+        return new UserChanges(
+                changed(before.getIdentityDocument(), after.getIdentityDocument()),
+                changed(before.getEmail(), after.getEmail()),
+                changed(before.getFullName(), after.getFullName()),
+                before instanceof Customer b && after instanceof Customer a
+                        ? changed(b.getPhoneNumber(), a.getPhoneNumber()) : null,
+                before instanceof Seller b && after instanceof Seller a
+                        ? changed(b.getCompanyName(), a.getCompanyName()) : null,
+                before instanceof Seller b && after instanceof Seller a
+                        ? changed(b.getBusinessAddress(), a.getBusinessAddress()) : null
+        );
+    }
+
+    /**
+     * Every profile field of the user, as if it were set from scratch.
+     */
+    public static UserChanges of(User user) {
+        return new UserChanges(
+                user.getIdentityDocument(),
+                user.getEmail(),
+                user.getFullName(),
+                user instanceof Customer customer ? customer.getPhoneNumber() : null,
+                user instanceof Seller seller ? seller.getCompanyName() : null,
+                user instanceof Seller seller ? seller.getBusinessAddress() : null
+        );
+    }
+
+    /**
+     * The changed fields by name, with their new plain values, in declaration order.
+     */
+    public Map<String, String> fields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        put(fields, "identityDocument", identityDocument != null ? identityDocument.value() : null);
+        put(fields, "email", email != null ? email.value() : null);
+        put(fields, "fullName", fullName != null ? fullName.value() : null);
+        put(fields, "phoneNumber", phoneNumber);
+        put(fields, "companyName", companyName);
+        put(fields, "businessAddress", businessAddress);
+        return fields;
+    }
+
+    public boolean isEmpty() {
+        return Stream.of(identityDocument, email, fullName, phoneNumber, companyName, businessAddress)
+                .allMatch(Objects::isNull);
+    }
+
+    private static void put(Map<String, String> fields, String name, String value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+
+    private static <T> T changed(T before, T after) {
+        return after != null && !after.equals(before) ? after : null;
+    }
+}
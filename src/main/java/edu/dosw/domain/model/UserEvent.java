@@ -0,0 +1,42 @@
+package edu.dosw.domain.model;
+
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+
+import java.util.Map;
+
+/**
+ * Lifecycle change of a user, for services that keep their own copy of users instead of polling
+ * ours. {@code fields} holds every profile field on creation, only the changed ones on update, and
+ * nothing on deletion; credentials are never included.
+ */
+public record UserEvent(Type type, UserId userId, Role role, Map<String, String> fields) {
+
+    public enum Type {
+        CREATED("user.created"),
+        UPDATED("user.updated"),
+        DELETED("user.deleted");
+
+        private final String eventType;
+
+        Type(String eventType) {
+            this.eventType = eventType;
+        }
+
+        public String eventType() {
+            return eventType;
+        }
+    }
+
+    public static UserEvent created(User user) {
+        return new UserEvent(Type.CREATED, user.getUserId(), user.getRole(), UserChanges.of(user).fields());
+    }
+
+    public static UserEvent updated(User user, UserChanges changes) {
+        return new UserEvent(Type.UPDATED, user.getUserId(), user.getRole(), changes.fields());
+    }
+
+    public static UserEvent deleted(UserId userId, Role role) {
+        return new UserEvent(Type.DELETED, userId, role, Map.of());
+    }
+}
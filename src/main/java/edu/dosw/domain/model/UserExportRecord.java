@@ -0,0 +1,25 @@
+package edu.dosw.domain.model;
+
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.FullName;
+import edu.dosw.domain.model.ValueObject.IdentityDocument;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exported view of a user as stored, without credentials. Role-specific fields are null
+ * for the other roles.
+ */
+public record UserExportRecord(
+        UserId userId,
+        IdentityDocument identityDocument,
+        Email email,
+        FullName fullName,
+        Role role,
+        LocalDateTime createdAt,
+        String phoneNumber,
+        String companyName,
+        String businessAddress
+) {}
@@ -1,9 +1,111 @@
 package edu.dosw.domain.model.ValueObject;
 
-public record Email(String value) {
-    public Email {
-        if (value == null || !value.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+import java.util.Locale;
+
+/**
+ * An email address in canonical form, lower-cased with {@link Locale#ROOT}: addresses that differ
+ * only in case are equal values and make the same cache and lookup keys.
+ * <p>
+ * Accepts exactly what {@code ^[A-Za-z0-9+_.-]+@(.+)$} accepts, checked in one pass over the
+ * characters instead of compiling that pattern on every construction.
+ * <p>
+ * A final class with record semantics rather than a record, so that {@link #of} can build the
+ * instance it interns without validating the address a second time.
+ */
+public final class Email {
+
+    // Power of two, so that a hash picks a slot with a mask
+    private static final int INTERNED_SLOTS = 1024;
+
+    // Direct-mapped and unsynchronized: a race only loses a slot to another address, and the
+    // final field is published safely
+    private static final Email[] INTERNED = new Email[INTERNED_SLOTS];
+
+    private final String value;
+
+    public Email(String value) {
+        this.value = canonical(value);
+    }
+
+    /**
+     * Wraps an address that already passed {@link #isValid} and was lower-cased. The flag only
+     * tells this constructor apart from the validating one.
+     */
+    private Email(String canonical, boolean validated) {
+        this.value = canonical;
+    }
+
+    /**
+     * Same as the constructor, but returns the instance built for the same address most recently
+     * when it is still interned, so the addresses seen on every request do not allocate again.
+     */
+    public static Email of(String value) {
+        String canonical = canonical(value);
+        int slot = canonical.hashCode() & (INTERNED_SLOTS - 1);
+        Email interned = INTERNED[slot];
+        if (interned != null && interned.value.equals(canonical)) {
+            return interned;
+        }
+        Email email = new Email(canonical, true);
+        INTERNED[slot] = email;
+        return email;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Email email && value.equals(email.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Email[value=" + value + "]";
+    }
+
+    private static String canonical(String value) {
+        if (!isValid(value)) {
             throw new IllegalArgumentException("Invalid email format");
         }
+        // Returns value itself when it is already lower case
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isValid(String value) {
+        if (value == null) {
+            return false;
+        }
+        int at = value.indexOf('@');
+        if (at < 1 || at == value.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            if (!isLocalPartChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        // The domain is the regex's "." part: any character but a line terminator
+        for (int i = at + 1; i < value.length(); i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 }
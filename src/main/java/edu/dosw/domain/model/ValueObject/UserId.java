@@ -1,10 +1,14 @@
 package edu.dosw.domain.model.ValueObject;
 
-
+/**
+ * Any non-blank id is accepted: random UUIDs issued before ids became time-ordered stay valid next
+ * to the ULIDs and version 7 UUIDs issued now.
+ */
 public record UserId(String value) {
+
     public UserId {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
     }
-}
\ No newline at end of file
+}
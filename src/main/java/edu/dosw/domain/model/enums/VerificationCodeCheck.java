@@ -0,0 +1,14 @@
+package edu.dosw.domain.model.enums;
+
+/**
+ * Outcome of checking a submitted verification code against the stored one.
+ */
+public enum VerificationCodeCheck {
+    VALID,
+    INVALID,
+    EXPIRED,
+    USED,
+    NOT_FOUND,
+    /** Too many failed attempts for the email; the code is rejected even when it matches. */
+    LOCKED,
+}
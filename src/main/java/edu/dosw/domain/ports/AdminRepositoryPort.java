@@ -1,17 +1,35 @@
 package edu.dosw.domain.ports;
 
 import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AdminRepositoryPort {
     Admin save(Admin admin);
+
+    /**
+     * Writes only the changed fields of an existing admin, provided it is still at the version
+     * it was loaded with; otherwise throws {@link edu.dosw.exception.ConcurrentUpdateException}.
+     */
+    void update(Admin admin, UserChanges changes);
     Optional<Admin> findByUserId(UserId userId);
     Optional<Admin> findByEmail(Email email);
-    List<Admin> findAll();
     boolean existsByEmail(Email email);
-    void delete(Admin admin);
-}
+    /**
+     * Deletes the admin with the given id, without loading it first.
+     *
+     * @return false when no admin has that id
+     */
+    boolean deleteByUserId(UserId userId);
 
+    /**
+     * Deletes every admin among the given ids with one {@code $in} per collection.
+     *
+     * @return the ids that were deleted; ids that are unknown or belong to another role are left out
+     */
+    List<UserId> deleteByUserIds(Collection<UserId> userIds);
+}
@@ -1,13 +1,34 @@
 package edu.dosw.domain.ports;
 
 import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepositoryPort {
     Customer save(Customer customer);
+
+    /**
+     * Writes only the changed fields of an existing customer, provided it is still at the version
+     * it was loaded with; otherwise throws {@link edu.dosw.exception.ConcurrentUpdateException}.
+     */
+    void update(Customer customer, UserChanges changes);
     Optional<Customer> findByUserId(UserId userId);
     boolean existsByEmail(Email email);
-    void delete(Customer customer);
-}
\ No newline at end of file
+    /**
+     * Deletes the customer with the given id, without loading it first.
+     *
+     * @return false when no customer has that id
+     */
+    boolean deleteByUserId(UserId userId);
+
+    /**
+     * Deletes every customer among the given ids with one {@code $in} per collection.
+     *
+     * @return the ids that were deleted; ids that are unknown or belong to another role are left out
+     */
+    List<UserId> deleteByUserIds(Collection<UserId> userIds);
+}
@@ -1,6 +1,14 @@
 package edu.dosw.domain.ports;
 
+import java.util.List;
+
 public interface PasswordEncoderPort {
     String encode(String rawPassword);
+
+    /**
+     * Encodes several passwords in parallel, returning the hashes in input order.
+     */
+    List<String> encodeAll(List<String> rawPasswords);
     boolean matches(String rawPassword, String encodedPassword);
-}
\ No newline at end of file
+    boolean needsRehash(String encodedPassword);
+}
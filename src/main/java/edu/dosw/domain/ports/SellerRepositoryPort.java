@@ -1,17 +1,45 @@
 package edu.dosw.domain.ports;
 
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SellerRepositoryPort {
     Seller save(Seller seller);
+
+    /**
+     * Writes only the changed fields of an existing seller, provided it is still at the version
+     * it was loaded with; otherwise throws {@link edu.dosw.exception.ConcurrentUpdateException}.
+     */
+    void update(Seller seller, UserChanges changes);
     Optional<Seller> findByUserId(UserId userId);
     Optional<Seller> findByEmail(Email email);
-    List<Seller> findAll();
-    List<Seller> findByApproved(boolean approved);
+
+    /**
+     * Keyset page of seller summaries ordered by userId.
+     *
+     * @param approved approval filter, or null for every seller
+     * @param after userId of the last seller of the previous page, or null for the first page
+     * @param limit maximum number of summaries to return
+     */
+    List<SellerSummary> findSummaries(Boolean approved, UserId after, int limit);
     boolean existsByEmail(Email email);
-    void delete(Seller seller);
-}
\ No newline at end of file
+    /**
+     * Deletes the seller with the given id, without loading it first.
+     *
+     * @return false when no seller has that id
+     */
+    boolean deleteByUserId(UserId userId);
+
+    /**
+     * Deletes every seller among the given ids with one {@code $in} per collection.
+     *
+     * @return the ids that were deleted; ids that are unknown or belong to another role are left out
+     */
+    List<UserId> deleteByUserIds(Collection<UserId> userIds);
+}
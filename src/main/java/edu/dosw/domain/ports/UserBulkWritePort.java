@@ -0,0 +1,22 @@
+package edu.dosw.domain.ports;
+
+import edu.dosw.domain.model.User;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserBulkWritePort {
+
+    /**
+     * Inserts new users in as few round trips as possible. A row that fails does not stop the others.
+     *
+     * @return failures keyed by position in {@code users}; empty when every row was written
+     */
+    Map<Integer, Failure> insertAll(List<? extends User> users);
+
+    /**
+     * Why a row was not written; {@code duplicate} when another user already holds its email.
+     */
+    record Failure(boolean duplicate, String message) {
+    }
+}
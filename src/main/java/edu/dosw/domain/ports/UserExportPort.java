@@ -0,0 +1,17 @@
+package edu.dosw.domain.ports;
+
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface UserExportPort {
+
+    /**
+     * Streams every user of the given role to {@code consumer}, one record at a time.
+     *
+     * @param since only records with createdAt at or after this instant, or null for all
+     */
+    void forEach(Role role, LocalDateTime since, Consumer<UserExportRecord> consumer);
+}
@@ -1,14 +1,56 @@
 package edu.dosw.domain.ports;
 
 import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.PasswordHash;
+import edu.dosw.domain.model.enums.Role;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepositoryPort {
     User save(User user);
     Optional<User> findByEmail(Email email);
     Optional<User> findByUserId(UserId userId);
     boolean existsByEmail(Email email);
+
+    /**
+     * Which of the given emails are already registered, in a single query.
+     *
+     * @return the registered emails, lower-cased
+     */
+    Set<String> findExistingEmails(Collection<Email> emails);
+
+    /**
+     * Replaces only the stored password hash, without loading or rewriting the rest of the user.
+     *
+     * @return false when no user has the given id
+     */
+    boolean updatePasswordHash(UserId userId, PasswordHash passwordHash);
+
+    /**
+     * Replaces the stored password hash only while it is still {@code expected}, so a hash computed
+     * from an older password cannot overwrite one set since.
+     *
+     * @return false when no user has the given id and hash
+     */
+    boolean updatePasswordHash(UserId userId, PasswordHash expected, PasswordHash passwordHash);
+
+    /**
+     * Sets only the changed profile fields of the user in a single update, provided it is still at
+     * the version it was loaded with; otherwise throws {@link edu.dosw.exception.ConcurrentUpdateException}.
+     */
+    void update(User user, UserChanges changes);
     void deleteByUserId(UserId userId);
+
+    /**
+     * Deletes the users with the given ids that have the given role: one query finds them, one
+     * removes them.
+     *
+     * @return the ids that were deleted
+     */
+    List<UserId> deleteByUserIds(Collection<UserId> userIds, Role role);
 }
\ No newline at end of file
@@ -2,12 +2,22 @@ package edu.dosw.domain.ports;
 
 import edu.dosw.domain.model.ValueObject.Email;
 import edu.dosw.domain.model.ValueObject.VerificationCode;
+import edu.dosw.domain.model.enums.VerificationCodeCheck;
 
 import java.util.Optional;
 
 public interface VerificationCodeRepositoryPort {
     VerificationCode save(VerificationCode verificationCode);
     Optional<VerificationCode> findByEmail(Email email);
+
+    /**
+     * Checks {@code code} against the stored code in one atomic step. A mismatch counts as a failed
+     * attempt of the email, and once {@code maxAttempts} have failed every code of that email is
+     * locked, including codes issued afterwards, until the latest one expires.
+     *
+     * @param consume whether a matching code is also marked used, so it cannot be checked again
+     */
+    VerificationCodeCheck check(Email email, String code, int maxAttempts, boolean consume);
     void deleteByEmail(Email email);
     boolean existsByEmail(Email email);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package edu.dosw.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    /**
+     * Constructs a ConcurrentUpdateException with the specified detail message
+     *
+     * @param message The detail message naming the resource that changed since it was read
+     */
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
@@ -1,13 +1,16 @@
 package edu.dosw.exception;
 
 import edu.dosw.application.dto.ErrorResponse;
+import edu.dosw.infrastructure.persistence.MongoIndexManager;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -65,6 +68,58 @@ public class GlobalExceptionHandler {
                 HttpStatus.CONFLICT, "RESOURCE_ALREADY_EXISTS", ex.getMessage(), request.getRequestURI());
     }
 
+    /**
+     * Handles unique index violations. Duplicate emails are detected on write by the email index;
+     * any other unique index gets a generic conflict
+     *
+     * @param ex The DuplicateKeyException that was thrown
+     * @param request The HTTP request that caused the exception
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateKey(
+            DuplicateKeyException ex, HttpServletRequest request) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message != null && message.contains("index: " + MongoIndexManager.EMAIL_INDEX + " ")) {
+            return handleResourceAlreadyExists(
+                    new ResourceAlreadyExistsException("A user with this email already exists", ex), request);
+        }
+        logger.error("Duplicate key at {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+        return buildResponse(
+                HttpStatus.CONFLICT, "DUPLICATE_KEY", "A resource with the same unique key already exists",
+                request.getRequestURI());
+    }
+
+    /**
+     * Handles writes that kept losing the version check against concurrent writers
+     *
+     * @param ex The ConcurrentUpdateException that was thrown
+     * @param request The HTTP request that caused the exception
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(
+            ConcurrentUpdateException ex, HttpServletRequest request) {
+        logger.warn("Concurrent update conflict at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(
+                HttpStatus.CONFLICT, "CONCURRENT_UPDATE", ex.getMessage(), request.getRequestURI());
+    }
+
+    /**
+     * Handles requests rejected because a bounded worker pool is saturated
+     *
+     * @param ex The TooManyRequestsException that was thrown
+     * @param request The HTTP request that caused the exception
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        logger.warn("Request rejected at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(
+                HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", ex.getMessage(), request.getRequestURI());
+    }
+
     /**
      * Handles general validation exceptions
      *
@@ -160,14 +215,24 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles all other uncaught exceptions
+     * Handles all other uncaught exceptions. Once a streamed response is committed its status can
+     * no longer change, so the exception is rethrown for the container to abort the connection
+     * rather than appending an error body to a response that would then end as a 200
      *
      * @param ex The Exception that was thrown
      * @param request The HTTP request that caused the exception
+     * @param response The HTTP response being written
      * @return ResponseEntity with error details
+     * @throws Exception the same exception, when the response is already committed
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGeneral(Exception ex, HttpServletRequest request) {
+    public ResponseEntity<ErrorResponse> handleGeneral(
+            Exception ex, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (response.isCommitted()) {
+            logger.error("Unexpected error after the response was committed at {}: {}",
+                    request.getRequestURI(), ex.getMessage(), ex);
+            throw ex;
+        }
         logger.error("Unexpected error at {}: {}", request.getRequestURI(), ex.getMessage(), ex);
         return buildResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
@@ -9,4 +9,14 @@ public class ResourceAlreadyExistsException extends RuntimeException {
     public ResourceAlreadyExistsException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    /**
+     * Constructs a ResourceAlreadyExistsException with the specified detail message and cause
+     *
+     * @param message The detail message explaining the resource conflict
+     * @param cause The underlying cause of the exception
+     */
+    public ResourceAlreadyExistsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,22 @@
+package edu.dosw.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    /**
+     * Constructs a TooManyRequestsException with the specified detail message
+     *
+     * @param message The detail message explaining which capacity limit was reached
+     */
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a TooManyRequestsException with the specified detail message and cause
+     *
+     * @param message The detail message explaining which capacity limit was reached
+     * @param cause The underlying cause of the exception
+     */
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
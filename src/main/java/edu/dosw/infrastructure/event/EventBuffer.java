@@ -0,0 +1,341 @@
+package edu.dosw.infrastructure.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded buffer between the request threads that raise events and Redis. {@link #offer} only
+ * enqueues; a single background drainer sends what has accumulated through the configured
+ * {@link EventTransport}, up to {@code batch-size} events per pipelined round trip.
+ * <p>
+ * When the buffer is full the {@link Overflow} policy applies: {@code BLOCK} waits up to
+ * {@code block-timeout-ms} for room and then drops, {@code DROP} drops at once, and {@code SPILL}
+ * appends the event to a local file that the drainer replays once the buffer is empty again. A
+ * batch Redis rejects is spilled under {@code SPILL} and dropped otherwise; either way it is
+ * counted. Replayed events may arrive after newer ones.
+ * <p>
+ * Events offered before {@link #start} wait in the buffer; events offered after {@link #stop},
+ * when no drainer is left, are spilled under {@code SPILL} and dropped otherwise.
+ */
+@Slf4j
+@Component
+public class EventBuffer implements SmartLifecycle {
+
+    public enum Overflow { BLOCK, DROP, SPILL }
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(5);
+    // Below the web server (DEFAULT_PHASE - 1024), so requests stop raising events before the final
+    // drain, and above the Redis connection factory (0), so that drain still has a connection
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EventTransport transport;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final Overflow overflow;
+    private final long blockTimeoutMillis;
+    private final Path spillFile;
+    private final Object spillLock = new Object();
+    private final Timer latency;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter failed;
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread drainer;
+
+    public EventBuffer(RedisTemplate<String, Object> redisTemplate,
+                       EventTransport transport,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.events.publisher.capacity:8192}") int capacity,
+                       @Value("${app.events.publisher.batch-size:256}") int batchSize,
+                       @Value("${app.events.publisher.overflow:block}") String overflow,
+                       @Value("${app.events.publisher.block-timeout-ms:50}") long blockTimeoutMillis,
+                       @Value("${app.events.publisher.spill-file:${java.io.tmpdir}/users-service-events.spill}") String spillFile) {
+        this.redisTemplate = redisTemplate;
+        this.transport = transport;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflow = Overflow.valueOf(overflow.trim().toUpperCase(Locale.ROOT));
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.spillFile = Path.of(spillFile);
+
+        Gauge.builder("events.publish.queue.depth", queue, BlockingQueue::size)
+                .description("Events waiting to be sent to Redis")
+                .register(meterRegistry);
+        this.latency = Timer.builder("events.publish.latency")
+                .description("Time from enqueueing an event to Redis accepting it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dropped = outcome(meterRegistry, "dropped");
+        this.spilled = outcome(meterRegistry, "spilled");
+        this.failed = outcome(meterRegistry, "failed");
+    }
+
+    /**
+     * Queues the event for the drainer. Never throws for a full buffer or an unavailable Redis;
+     * those outcomes are applied by the overflow policy and show up in the metrics.
+     */
+    public void offer(String channel, EventWrapper event) {
+        PendingEvent pending = new PendingEvent(channel, event, System.nanoTime());
+        if (stopped) {
+            undeliverable(pending, "buffer stopped");
+            return;
+        }
+        if (queue.offer(pending)) {
+            // stop() may have taken its last look at the queue between the check and the offer
+            if (stopped && queue.remove(pending)) {
+                undeliverable(pending, "buffer stopped");
+            }
+            return;
+        }
+        switch (overflow) {
+            case BLOCK -> {
+                if (!offerWithin(pending)) {
+                    drop(event, "buffer still full after " + blockTimeoutMillis + " ms");
+                }
+            }
+            case DROP -> drop(event, "buffer full");
+            case SPILL -> spill(List.of(serialize(pending)));
+        }
+    }
+
+    /**
+     * Sends up to one batch of queued events, then replays spilled events if nothing was queued.
+     *
+     * @return number of queued events taken
+     */
+    int drainOnce() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            replaySpilled();
+            return 0;
+        }
+        send(batch);
+        return batch.size();
+    }
+
+    int depth() {
+        return queue.size();
+    }
+
+    private void send(List<PendingEvent> batch) {
+        List<SerializedEvent> serialized = batch.stream().map(this::serialize).toList();
+        if (publish(serialized)) {
+            long now = System.nanoTime();
+            batch.forEach(pending -> latency.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        } else if (overflow == Overflow.SPILL) {
+            spill(serialized);
+        } else {
+            dropped.increment(batch.size());
+            log.error("Dropped {} events that Redis did not accept", batch.size());
+        }
+    }
+
+    private boolean publish(List<SerializedEvent> events) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                events.forEach(event -> transport.send(connection, event.channel(), event.body()));
+                return null;
+            });
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment(events.size());
+            log.warn("Publishing {} events to Redis failed: {}", events.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean offerWithin(PendingEvent pending) {
+        try {
+            return queue.offer(pending, blockTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void undeliverable(PendingEvent pending, String reason) {
+        if (overflow == Overflow.SPILL) {
+            spill(List.of(serialize(pending)));
+        } else {
+            drop(pending.event(), reason);
+        }
+    }
+
+    private void drop(EventWrapper event, String reason) {
+        dropped.increment();
+        log.warn("Dropped event {} ({}): {}", event.getEventId(), event.getEventType(), reason);
+    }
+
+    // One line per event: channel, a tab, then the JSON body, which never contains a raw newline
+    private void spill(List<SerializedEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (SerializedEvent event : events) {
+            lines.append(event.channel()).append('\t')
+                    .append(new String(event.body(), StandardCharsets.UTF_8)).append('\n');
+        }
+        synchronized (spillLock) {
+            try {
+                Files.writeString(spillFile, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spilled.increment(events.size());
+            } catch (IOException e) {
+                dropped.increment(events.size());
+                log.error("Could not spill {} events to {}: {}", events.size(), spillFile, e.getMessage());
+            }
+        }
+    }
+
+    private void replaySpilled() {
+        List<String> lines;
+        synchronized (spillLock) {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+            Path replaying = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+            try {
+                Files.move(spillFile, replaying, StandardCopyOption.REPLACE_EXISTING);
+                lines = Files.readAllLines(replaying, StandardCharsets.UTF_8);
+                Files.delete(replaying);
+            } catch (IOException e) {
+                log.error("Could not read spilled events from {}: {}", spillFile, e.getMessage());
+                return;
+            }
+        }
+
+        List<SerializedEvent> events = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) {
+                events.add(new SerializedEvent(line.substring(0, tab),
+                        line.substring(tab + 1).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        for (int from = 0; from < events.size(); from += batchSize) {
+            List<SerializedEvent> batch = events.subList(from, Math.min(from + batchSize, events.size()));
+            if (!publish(batch)) {
+                spill(events.subList(from, events.size()));
+                return;
+            }
+        }
+        if (!events.isEmpty()) {
+            log.info("Replayed {} spilled events", events.size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SerializedEvent serialize(PendingEvent pending) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        return new SerializedEvent(pending.channel(), serializer.serialize(pending.event()));
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpilled();
+                    continue;
+                }
+                List<PendingEvent> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Event drainer error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "event-buffer-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Lets the drainer empty the buffer for a few seconds before the application stops. Whatever is
+     * still queued after that is spilled under {@code SPILL}, and reported as lost otherwise.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        stopped = true;
+        try {
+            drainer.join(SHUTDOWN_GRACE.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingEvent> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (left.isEmpty()) {
+            return;
+        }
+        if (overflow == Overflow.SPILL) {
+            spill(left.stream().map(this::serialize).toList());
+        } else {
+            dropped.increment(left.size());
+            log.error("{} events were still queued at shutdown and are lost", left.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("events.publish.undelivered")
+                .description("Events not delivered on the first attempt, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PendingEvent(String channel, EventWrapper event, long enqueuedAt) {
+    }
+
+    private record SerializedEvent(String channel, byte[] body) {
+    }
+}
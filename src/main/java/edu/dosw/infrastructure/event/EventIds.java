@@ -0,0 +1,29 @@
+package edu.dosw.infrastructure.event;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event ids made of a random per-process prefix and a sequence number: unique across replicas and
+ * restarts without asking {@link SecureRandom} for fresh bytes on every event, as
+ * {@link java.util.UUID#randomUUID()} does.
+ */
+final class EventIds {
+
+    private static final String PREFIX = randomPrefix();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private EventIds() {
+    }
+
+    static String next() {
+        return PREFIX + Long.toHexString(SEQUENCE.incrementAndGet());
+    }
+
+    private static String randomPrefix() {
+        byte[] bytes = new byte[8];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes) + "-";
+    }
+}
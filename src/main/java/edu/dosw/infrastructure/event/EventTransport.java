@@ -0,0 +1,13 @@
+package edu.dosw.infrastructure.event;
+
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * How {@link EventBuffer} hands a serialized event to Redis, selected with
+ * {@code app.events.transport}. Implementations are called inside the pipeline the buffer opens
+ * for each batch, so they must only queue commands on the connection.
+ */
+public interface EventTransport {
+
+    void send(RedisConnection connection, String channel, byte[] body);
+}
@@ -2,11 +2,28 @@ package edu.dosw.infrastructure.event;
 
 import lombok.Data;
 
+import java.time.Instant;
+
 @Data
 public class EventWrapper {
+    static final String VERSION = "1.0";
+
     private String eventId;
     private String eventType;
     private String timestamp;
     private String version;
     private Object data;
-}
\ No newline at end of file
+
+    /**
+     * Envelope for a new event: fresh id, current time and the current envelope version.
+     */
+    public static EventWrapper of(String eventType, Object data) {
+        EventWrapper wrapper = new EventWrapper();
+        wrapper.eventId = EventIds.next();
+        wrapper.eventType = eventType;
+        wrapper.timestamp = Instant.now().toString();
+        wrapper.version = VERSION;
+        wrapper.data = data;
+        return wrapper;
+    }
+}
@@ -0,0 +1,137 @@
+package edu.dosw.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consumer side of the event streams written by {@link RedisStreamTransport}: consumer groups,
+ * acknowledgements and replay from a record id. Each record carries the serialized
+ * {@link EventWrapper} in its {@code event} field.
+ * <p>
+ * At startup every group in {@code app.events.streams.groups} is created on every stream in
+ * {@code app.events.streams.keys}, starting at the tail, so events raised before a consumer first
+ * connects are kept for it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "streams")
+public class RedisEventStream implements ApplicationRunner {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final List<String> streams;
+    private final List<String> groups;
+
+    public RedisEventStream(RedisTemplate<String, Object> redisTemplate,
+                            @Value("${app.events.streams.keys:" + PasswordResetEventPublisher.CHANNEL + ","
+                                    + UserEventPublisher.CHANNEL + "}") String streams,
+                            @Value("${app.events.streams.groups:}") String groups) {
+        this.redisTemplate = redisTemplate;
+        this.streams = names(streams);
+        this.groups = names(groups);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String stream : streams) {
+            for (String group : groups) {
+                try {
+                    if (createGroup(stream, group, ReadOffset.latest())) {
+                        log.info("Created consumer group {} on event stream {}", group, stream);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Could not create consumer group {} on event stream {}: {}", group, stream, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the group, and the stream if it does not exist yet.
+     *
+     * @return false if the group already existed
+     */
+    public boolean createGroup(String stream, String group, ReadOffset offset) {
+        byte[] key = stream.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection, key, group, offset));
+            return true;
+        } catch (RedisSystemException e) {
+            if (e.getMessage() != null && e.getMessage().contains("BUSYGROUP")) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static String createGroup(RedisConnection connection, byte[] key, String group, ReadOffset offset) {
+        return connection.streamCommands().xGroupCreate(key, group, offset, true);
+    }
+
+    /**
+     * Next records never delivered to the group.
+     */
+    public List<MapRecord<String, Object, Object>> read(String stream, String group, String consumer, int count) {
+        return readGroup(stream, group, consumer, count, ReadOffset.lastConsumed());
+    }
+
+    /**
+     * Records already delivered to this consumer but not acknowledged, oldest first; a consumer
+     * that restarts reads these before {@link #read}.
+     */
+    public List<MapRecord<String, Object, Object>> readPending(String stream, String group, String consumer, int count) {
+        return readGroup(stream, group, consumer, count, ReadOffset.from("0"));
+    }
+
+    public long acknowledge(String stream, String group, String... recordIds) {
+        Long acknowledged = redisTemplate.opsForStream().acknowledge(stream, group, recordIds);
+        return acknowledged != null ? acknowledged : 0;
+    }
+
+    /**
+     * Records after {@code afterRecordId} ({@code "0"} for the oldest retained), independent of any
+     * group: for rebuilding a local replica or inspecting history.
+     */
+    public List<MapRecord<String, Object, Object>> replay(String stream, String afterRecordId, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(stream,
+                Range.rightUnbounded(Range.Bound.exclusive(afterRecordId)), Limit.limit().count(count));
+        return records != null ? records : List.of();
+    }
+
+    private List<MapRecord<String, Object, Object>> readGroup(String stream, String group, String consumer,
+                                                              int count, ReadOffset offset) {
+        // read only comes with StreamOffset<K>... and no single-offset overload; the one-element
+        // generic array it creates here holds exactly the declared type, so nothing is polluted
+        @SuppressWarnings("unchecked")
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(stream, offset));
+        return records != null ? records : List.of();
+    }
+
+    private static List<String> names(String commaSeparated) {
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+}
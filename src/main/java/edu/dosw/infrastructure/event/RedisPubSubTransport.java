@@ -0,0 +1,21 @@
+package edu.dosw.infrastructure.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fire-and-forget delivery with {@code PUBLISH}: only subscribers connected at that moment get the
+ * event.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "pubsub", matchIfMissing = true)
+public class RedisPubSubTransport implements EventTransport {
+
+    @Override
+    public void send(RedisConnection connection, String channel, byte[] body) {
+        connection.publish(channel.getBytes(StandardCharsets.UTF_8), body);
+    }
+}
@@ -0,0 +1,37 @@
+package edu.dosw.infrastructure.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Durable delivery with {@code XADD} to a stream named after the channel, so consumer groups
+ * that were down catch up from where they left off (see {@link RedisEventStream}). Each stream is
+ * trimmed with {@code MAXLEN ~}, which lets Redis drop whole nodes instead of single entries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "streams")
+public class RedisStreamTransport implements EventTransport {
+
+    static final String EVENT_FIELD = "event";
+    private static final byte[] EVENT_FIELD_BYTES = EVENT_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final XAddOptions options;
+
+    public RedisStreamTransport(@Value("${app.events.streams.max-length:100000}") long maxLength) {
+        this.options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void send(RedisConnection connection, String channel, byte[] body) {
+        MapRecord<byte[], byte[], byte[]> record =
+                MapRecord.create(channel.getBytes(StandardCharsets.UTF_8), Map.of(EVENT_FIELD_BYTES, body));
+        connection.streamCommands().xAdd(record, options);
+    }
+}
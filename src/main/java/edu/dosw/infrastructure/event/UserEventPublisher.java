@@ -0,0 +1,48 @@
+package edu.dosw.infrastructure.event;
+
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.domain.model.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Raises user lifecycle events on {@link #CHANNEL}, through the same {@link EventBuffer} as the
+ * password reset events.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventPublisher implements UserEventPublisherPort {
+
+    static final String CHANNEL = "events.user";
+
+    private final EventBuffer eventBuffer;
+
+    @Override
+    public void publish(UserEvent event) {
+        try {
+            eventBuffer.offer(CHANNEL, EventWrapper.of(event.type().eventType(), UserEventData.of(event)));
+        } catch (Exception e) {
+            log.error("Error publishing {} event for userId {}: {}",
+                    event.type().eventType(), event.userId().value(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void publishAll(Collection<UserEvent> events) {
+        events.forEach(this::publish);
+    }
+
+    public record UserEventData(String userId, String role, Map<String, String> fields) {
+
+        static UserEventData of(UserEvent event) {
+            return new UserEventData(event.userId().value(),
+                    event.role() != null ? event.role().name() : null,
+                    event.fields());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.PasswordHash;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier read-through cache for user lookups by email and by id, placed in front of
+ * {@link MongoUserRepository}: a bounded near cache in this JVM, then the {@link RedisUserCache}
+ * shared by every replica, then Mongo. Concurrent misses on the same key share one load.
+ * <p>
+ * Every write or delete evicts the user from this near cache before it runs, and from both tiers
+ * after it, or after its transaction completes; that eviction is broadcast so other replicas drop their near-cache entries too. Only
+ * present users are cached.
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachingUserRepository implements UserRepositoryPort {
+
+    static final String CACHE_NAME = "users.credentials";
+    private static final String EMAIL_KEY = "email:";
+    private static final String ID_KEY = "id:";
+
+    private final UserRepositoryPort delegate;
+    private final RedisUserCache sharedCache;
+    private final Cache<String, User> nearCache;
+    private final ConcurrentMap<String, String> emailByUserId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Optional<User>>> loading = new ConcurrentHashMap<>();
+    // Bumped by every eviction, so a load that raced with a write does not cache what it read
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public CachingUserRepository(MongoUserRepository delegate,
+                                 RedisUserCache sharedCache,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.credentials.max-size:10000}") long maxSize,
+                                 @Value("${app.cache.credentials.ttl-seconds:60}") long ttlSeconds) {
+        this(delegate, sharedCache, maxSize, Duration.ofSeconds(ttlSeconds));
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, CACHE_NAME);
+    }
+
+    CachingUserRepository(UserRepositoryPort delegate, RedisUserCache sharedCache, long maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.sharedCache = sharedCache;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, User>evictionListener((key, user, cause) -> {
+                    if (user != null && key != null && key.startsWith(EMAIL_KEY)) {
+                        emailByUserId.remove(user.getUserId().value(), key.substring(EMAIL_KEY.length()));
+                    }
+                })
+                .build();
+        sharedCache.subscribe(this::evictNear);
+    }
+
+    @Override
+    public User save(User user) {
+        List<String> emails = List.of(user.getEmail().value());
+        evictNear(user.getUserId(), emails);
+        try {
+            return delegate.save(user);
+        } finally {
+            evict(List.of(user.getUserId()), emails);
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        String key = email.value();
+        User cached = nearCache.getIfPresent(EMAIL_KEY + key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return loadOnce(EMAIL_KEY + key, () -> sharedCache.findByEmail(key), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<User> findByUserId(UserId userId) {
+        User cached = nearCache.getIfPresent(ID_KEY + userId.value());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return loadOnce(ID_KEY + userId.value(),
+                () -> sharedCache.findByUserId(userId.value()), () -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        if (nearCache.getIfPresent(EMAIL_KEY + email.value()) != null) {
+            return true;
+        }
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<Email> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public boolean updatePasswordHash(UserId userId, PasswordHash passwordHash) {
+        evictNear(userId, List.of());
+        try {
+            return delegate.updatePasswordHash(userId, passwordHash);
+        } finally {
+            evict(List.of(userId), List.of());
+        }
+    }
+
+    @Override
+    public boolean updatePasswordHash(UserId userId, PasswordHash expected, PasswordHash passwordHash) {
+        evictNear(userId, List.of());
+        try {
+            return delegate.updatePasswordHash(userId, expected, passwordHash);
+        } finally {
+            evict(List.of(userId), List.of());
+        }
+    }
+
+    @Override
+    public void update(User user, UserChanges changes) {
+        List<String> emails = new ArrayList<>(List.of(user.getEmail().value()));
+        if (changes.email() != null) {
+            emails.add(changes.email().value());
+        }
+        evictNear(user.getUserId(), emails);
+        try {
+            delegate.update(user, changes);
+        } finally {
+            evict(List.of(user.getUserId()), emails);
+        }
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        try {
+            delegate.deleteByUserId(userId);
+        } finally {
+            evict(List.of(userId), List.of());
+        }
+    }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds, Role role) {
+        try {
+            return delegate.deleteByUserIds(userIds, role);
+        } finally {
+            evict(userIds, List.of());
+        }
+    }
+
+    /**
+     * Loads {@code key} at most once at a time in this JVM: concurrent misses wait for the first
+     * caller's result instead of each going to Redis and Mongo.
+     */
+    private Optional<User> loadOnce(String key, Supplier<Optional<User>> shared, Supplier<Optional<User>> source) {
+        CompletableFuture<Optional<User>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<User>> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            long evictionsBefore = evictions.get();
+            Optional<User> fromShared = shared.get();
+            Optional<User> loaded = fromShared.isPresent() ? fromShared : source.get();
+            if (loaded.isPresent() && evictions.get() == evictionsBefore) {
+                if (fromShared.isEmpty()) {
+                    sharedCache.put(loaded.get());
+                }
+                putNear(loaded.get());
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private static Optional<User> await(CompletableFuture<Optional<User>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void putNear(User user) {
+        String userId = user.getUserId().value();
+        String email = user.getEmail().value();
+        nearCache.put(ID_KEY + userId, user);
+        nearCache.put(EMAIL_KEY + email, user);
+        emailByUserId.put(userId, email);
+    }
+
+    /**
+     * Evicts the users from both tiers once a write is done; the broadcast also reaches this
+     * replica, which is harmless. Inside a transaction (split writes on a replica set) the write is
+     * only visible after commit, and a read before then would cache the old document again, so the
+     * eviction runs once the transaction completes.
+     */
+    private void evict(Collection<UserId> userIds, Collection<String> emails) {
+        List<String> ids = userIds.stream().map(UserId::value).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> evictedEmails = List.copyOf(emails);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictBoth(ids, evictedEmails);
+                }
+            });
+            return;
+        }
+        evictBoth(ids, emails);
+    }
+
+    private void evictBoth(List<String> userIds, Collection<String> emails) {
+        evictNear(userIds, emails);
+        sharedCache.evict(userIds, emails);
+    }
+
+    private void evictNear(UserId userId, Collection<String> emails) {
+        evictNear(List.of(userId.value()), emails);
+    }
+
+    private void evictNear(Collection<String> userIds, Collection<String> emails) {
+        evictions.incrementAndGet();
+        emails.forEach(email -> nearCache.invalidate(EMAIL_KEY + email));
+        for (String userId : userIds) {
+            nearCache.invalidate(ID_KEY + userId);
+            String email = emailByUserId.remove(userId);
+            if (email != null) {
+                nearCache.invalidate(EMAIL_KEY + email);
+                log.debug("User cache entries evicted for userId: {}", userId);
+            }
+        }
+    }
+}
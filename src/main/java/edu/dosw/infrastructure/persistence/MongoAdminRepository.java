@@ -2,66 +2,101 @@ package edu.dosw.infrastructure.persistence;
 
 
 import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.AdminRepositoryPort;
+import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
 public class MongoAdminRepository implements AdminRepositoryPort {
 
     private final MongoTemplate mongoTemplate;
     private final AdminMongoMapper adminMapper;
+    private final UserRepositoryPort userRepository;
+    private final MongoSplitWrites splitWrites;
 
     @Override
     public Admin save(Admin admin) {
-        AdminDocument document = adminMapper.toDocument(admin);
-        AdminDocument saved = mongoTemplate.save(document);
-        return adminMapper.toDomain(saved);
+        return splitWrites.call(admin.getUserId(), () -> {
+            userRepository.save(admin);
+            AdminDocument document = adminMapper.toDocument(admin);
+            document.setUpdatedAt(LocalDateTime.now());
+            AdminDocument saved = mongoTemplate.save(document);
+            return adminMapper.toDomain(saved);
+        });
+    }
+
+    @Override
+    public void update(Admin admin, UserChanges changes) {
+        splitWrites.run(admin.getUserId(), () -> {
+            userRepository.update(admin, changes);
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(admin.getUserId().value())),
+                    MongoUserChanges.forRoleCollection(changes, admin.getVersion()), AdminDocument.class);
+        });
     }
 
     @Override
     public Optional<Admin> findByUserId(UserId userId) {
-        Query query = new Query(Criteria.where("userId").is(userId.value()));
-        AdminDocument document = mongoTemplate.findOne(query, AdminDocument.class);
-        return Optional.ofNullable(adminMapper.toDomain(document));
+        UserDocument user = MongoUserRepository.findVersion(mongoTemplate, userId, Role.ADMIN);
+        if (user == null) {
+            return Optional.empty();
+        }
+        Admin admin = adminMapper.toDomain(mongoTemplate.findById(userId.value(), AdminDocument.class));
+        if (admin != null) {
+            admin.setVersion(user.getVersion());
+        }
+        return Optional.ofNullable(admin);
     }
 
     @Override
     public Optional<Admin> findByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         AdminDocument document = mongoTemplate.findOne(query, AdminDocument.class);
         return Optional.ofNullable(adminMapper.toDomain(document));
     }
 
     @Override
-    public List<Admin> findAll() {
-        List<AdminDocument> documents = mongoTemplate.findAll(AdminDocument.class);
-        return documents.stream()
-                .map(adminMapper::toDomain)
-                .collect(Collectors.toList());
+    public boolean existsByEmail(Email email) {
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
+        return mongoTemplate.exists(query, AdminDocument.class);
     }
 
     @Override
-    public boolean existsByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
-        return mongoTemplate.exists(query, AdminDocument.class);
+    public boolean deleteByUserId(UserId userId) {
+        return !splitWrites.call(userId, () -> deleteAll(List.of(userId))).isEmpty();
     }
 
     @Override
-    public void delete(Admin admin) {
-        AdminDocument document = adminMapper.toDocument(admin);
-        mongoTemplate.remove(document);
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return splitWrites.call(userIds, () -> deleteAll(userIds));
+    }
+
+    private List<UserId> deleteAll(Collection<UserId> userIds) {
+        // users decides what counts as deleted: the id must exist there with this role
+        List<UserId> deleted = userRepository.deleteByUserIds(userIds, Role.ADMIN);
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(userIds.stream().map(UserId::value).toList())),
+                AdminDocument.class);
+        return deleted;
     }
 }
\ No newline at end of file
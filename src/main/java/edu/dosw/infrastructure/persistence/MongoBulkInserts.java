@@ -0,0 +1,47 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.bulk.BulkWriteError;
+import edu.dosw.domain.ports.UserBulkWritePort.Failure;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unordered bulk insert that reports per-document failures instead of failing the whole batch.
+ */
+final class MongoBulkInserts {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    static final Failure EMAIL_TAKEN = new Failure(true, "Email already registered");
+
+    private MongoBulkInserts() {
+    }
+
+    /**
+     * @return failures keyed by position in {@code documents}
+     */
+    static Map<Integer, Failure> insert(MongoTemplate mongoTemplate, Class<?> documentType, List<?> documents) {
+        if (documents.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentType)
+                    .insert(documents)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, Failure> failures = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getCode() == DUPLICATE_KEY
+                        ? EMAIL_TAKEN
+                        : new Failure(false, error.getMessage()));
+            }
+            return failures;
+        }
+    }
+}
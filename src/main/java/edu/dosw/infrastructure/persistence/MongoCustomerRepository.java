@@ -2,49 +2,94 @@ package edu.dosw.infrastructure.persistence;
 
 
 import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
+import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
 public class MongoCustomerRepository implements CustomerRepositoryPort {
 
     private final MongoTemplate mongoTemplate;
     private final CustomerMongoMapper customerMapper;
+    private final UserRepositoryPort userRepository;
+    private final MongoSplitWrites splitWrites;
 
     @Override
     public Customer save(Customer customer) {
-        CustomerDocument document = customerMapper.toDocument(customer);
-        CustomerDocument saved = mongoTemplate.save(document);
-        return customerMapper.toDomain(saved);
+        return splitWrites.call(customer.getUserId(), () -> {
+            userRepository.save(customer);
+            CustomerDocument document = customerMapper.toDocument(customer);
+            document.setUpdatedAt(LocalDateTime.now());
+            CustomerDocument saved = mongoTemplate.save(document);
+            return customerMapper.toDomain(saved);
+        });
+    }
+
+    @Override
+    public void update(Customer customer, UserChanges changes) {
+        splitWrites.run(customer.getUserId(), () -> {
+            userRepository.update(customer, changes);
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(customer.getUserId().value())),
+                    MongoUserChanges.forRoleCollection(changes, customer.getVersion()), CustomerDocument.class);
+        });
     }
 
     @Override
     public Optional<Customer> findByUserId(UserId userId) {
-        Query query = new Query(Criteria.where("userId").is(userId.value()));
-        CustomerDocument document = mongoTemplate.findOne(query, CustomerDocument.class);
-        return Optional.ofNullable(customerMapper.toDomain(document));
+        UserDocument user = MongoUserRepository.findVersion(mongoTemplate, userId, Role.CUSTOMER);
+        if (user == null) {
+            return Optional.empty();
+        }
+        Customer customer = customerMapper.toDomain(mongoTemplate.findById(userId.value(), CustomerDocument.class));
+        if (customer != null) {
+            customer.setVersion(user.getVersion());
+        }
+        return Optional.ofNullable(customer);
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         return mongoTemplate.exists(query, CustomerDocument.class);
     }
 
     @Override
-    public void delete(Customer customer) {
-        CustomerDocument document = customerMapper.toDocument(customer);
-        mongoTemplate.remove(document);
+    public boolean deleteByUserId(UserId userId) {
+        return !splitWrites.call(userId, () -> deleteAll(List.of(userId))).isEmpty();
+    }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return splitWrites.call(userIds, () -> deleteAll(userIds));
+    }
+
+    private List<UserId> deleteAll(Collection<UserId> userIds) {
+        // users decides what counts as deleted: the id must exist there with this role
+        List<UserId> deleted = userRepository.deleteByUserIds(userIds, Role.CUSTOMER);
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(userIds.stream().map(UserId::value).toList())),
+                CustomerDocument.class);
+        return deleted;
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package edu.dosw.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reports the indexes managed by {@link MongoIndexManager} as of its startup run, without querying
+ * the server: {@link #DEGRADED} when one failed to build or is missing without a build running,
+ * UNKNOWN before the run finished or when its check failed, UP otherwise.
+ * <p>
+ * A missing index slows queries down but does not make the instance unable to serve, so this is
+ * kept out of the liveness and readiness probes. DEGRADED is only listed in the status order of the
+ * {@code indexes} health group, which maps it to 503; the default order leaves it out, so the
+ * overall status ignores it while still showing it under the component.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoIndexHealthIndicator extends AbstractHealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Managed Mongo indexes are missing");
+
+    private final MongoIndexManager indexManager;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Map<String, MongoIndexManager.IndexState> states = indexManager.getStates();
+        Map<String, String> failures = indexManager.getFailures();
+        MongoIndexManager.Verification verification = indexManager.getLastVerification();
+
+        builder.withDetail("indexes", states);
+        if (!failures.isEmpty()) {
+            builder.withDetail("failures", failures);
+        }
+        if (verification == null) {
+            builder.unknown().withDetail("verification", "pending");
+            return;
+        }
+        builder.withDetail("checkedAt", verification.checkedAt().toString());
+        if (!verification.missing().isEmpty()) {
+            builder.withDetail("missing", verification.missing())
+                    .withDetail("buildsInProgress", verification.buildsInProgress());
+        }
+
+        boolean unrecoverable = verification.missing().stream()
+                .anyMatch(key -> states.get(key) != MongoIndexManager.IndexState.BUILDING);
+        if (unrecoverable || !failures.isEmpty()) {
+            builder.status(DEGRADED);
+        } else if (verification.error() != null) {
+            builder.unknown().withDetail("verification", "failed: " + verification.error());
+        } else {
+            builder.up();
+        }
+    }
+}
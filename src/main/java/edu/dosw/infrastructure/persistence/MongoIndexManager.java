@@ -0,0 +1,236 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Ensures the indexes behind the email, userId, approval and change-cursor lookups exist on startup
+ * and keeps track of each build so {@link MongoIndexHealthIndicator} can report progress and missing
+ * indexes.
+ * Runs before any other {@link ApplicationRunner}, so data migrations write into indexed collections.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoIndexManager implements ApplicationRunner {
+
+    /**
+     * Case-insensitive collation of the unique email indexes. Email queries must use it
+     * to be served by those indexes.
+     */
+    public static final Collation EMAIL_COLLATION = Collation.of("en").strength(2);
+
+    /**
+     * Name of the unique email indexes, as reported in duplicate key errors.
+     */
+    public static final String EMAIL_INDEX = "email_ci_unique";
+    static final String APPROVED_INDEX = "approved_id";
+    static final String ROLE_APPROVED_INDEX = "role_seller_approved_id";
+    static final String UPDATED_AT_INDEX = "updated_at_id";
+
+    public enum IndexState { PENDING, BUILDING, READY, FAILED }
+
+    /**
+     * What the server reported after the startup run: the managed indexes it lacked and, when some
+     * were missing, the builds running on it; {@code error} is set when the check itself failed.
+     */
+    public record Verification(Instant checkedAt, List<String> missing, Object buildsInProgress, String error) {
+    }
+
+    public record ManagedIndex(String collection, Index definition, String name) {
+        public String key() {
+            return collection + "." + name;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean autoCreate;
+    private final List<ManagedIndex> managedIndexes;
+    private final Map<String, IndexState> states = new ConcurrentHashMap<>();
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile Verification lastVerification;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate,
+                             @Value("${app.persistence.indexes.auto-create:true}") boolean autoCreate) {
+        this.mongoTemplate = mongoTemplate;
+        this.autoCreate = autoCreate;
+        this.managedIndexes = List.of(
+                emailIndex(mongoTemplate.getCollectionName(UserDocument.class)),
+                emailIndex(mongoTemplate.getCollectionName(CustomerDocument.class)),
+                emailIndex(mongoTemplate.getCollectionName(SellerDocument.class)),
+                emailIndex(mongoTemplate.getCollectionName(AdminDocument.class)),
+                new ManagedIndex(mongoTemplate.getCollectionName(SellerDocument.class),
+                        new Index().on("approved", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                                .named(APPROVED_INDEX), APPROVED_INDEX),
+                new ManagedIndex(mongoTemplate.getCollectionName(UserDocument.class),
+                        new Index().on("role", Sort.Direction.ASC).on("seller.approved", Sort.Direction.ASC)
+                                .on("_id", Sort.Direction.ASC)
+                                .named(ROLE_APPROVED_INDEX), ROLE_APPROVED_INDEX),
+                updatedAtIndex(mongoTemplate.getCollectionName(UserDocument.class)),
+                updatedAtIndex(mongoTemplate.getCollectionName(CustomerDocument.class)),
+                updatedAtIndex(mongoTemplate.getCollectionName(SellerDocument.class)),
+                updatedAtIndex(mongoTemplate.getCollectionName(AdminDocument.class))
+        );
+        managedIndexes.forEach(index -> states.put(index.key(), IndexState.PENDING));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!autoCreate) {
+            log.info("Mongo index creation disabled; {} managed indexes are only checked", managedIndexes.size());
+        } else {
+            managedIndexes.forEach(this::ensure);
+        }
+        verify();
+    }
+
+    /**
+     * Checks the server once for the managed indexes, so health probes read the result instead of
+     * running {@code listIndexes} and {@code currentOp} each time.
+     */
+    void verify() {
+        try {
+            List<String> missing = findMissingIndexes();
+            lastVerification = new Verification(Instant.now(), missing,
+                    missing.isEmpty() ? List.of() : buildsInProgressOrReason(), null);
+            if (!missing.isEmpty()) {
+                log.warn("Mongo indexes missing after startup: {}", missing);
+            }
+        } catch (RuntimeException e) {
+            lastVerification = new Verification(Instant.now(), List.of(), List.of(), e.getMessage());
+            log.warn("Could not check the Mongo indexes: {}", e.getMessage());
+        }
+    }
+
+    private Object buildsInProgressOrReason() {
+        try {
+            return findBuildsInProgress();
+        } catch (RuntimeException e) {
+            return "unavailable: " + e.getMessage();
+        }
+    }
+
+    private void ensure(ManagedIndex index) {
+        states.put(index.key(), IndexState.BUILDING);
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.indexOps(index.collection()).ensureIndex(index.definition());
+            states.put(index.key(), IndexState.READY);
+            failures.remove(index.key());
+            log.info("Mongo index {} ready in {} ms", index.key(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            states.put(index.key(), IndexState.FAILED);
+            failures.put(index.key(), e.getMessage());
+            log.error("Could not create Mongo index {}: {}", index.key(), e.getMessage());
+        }
+    }
+
+    public List<ManagedIndex> getManagedIndexes() {
+        return managedIndexes;
+    }
+
+    public Map<String, IndexState> getStates() {
+        Map<String, IndexState> snapshot = new LinkedHashMap<>();
+        managedIndexes.forEach(index -> snapshot.put(index.key(), states.get(index.key())));
+        return snapshot;
+    }
+
+    public Map<String, String> getFailures() {
+        return Map.copyOf(failures);
+    }
+
+    /**
+     * @return the result of the check at the end of the startup run, or null until it has finished
+     */
+    public Verification getLastVerification() {
+        return lastVerification;
+    }
+
+    /**
+     * Managed indexes that are not present on the server right now.
+     */
+    public List<String> findMissingIndexes() {
+        Map<String, Set<String>> existingByCollection = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (ManagedIndex index : managedIndexes) {
+            Set<String> existing = existingByCollection.computeIfAbsent(index.collection(), collection ->
+                    mongoTemplate.indexOps(collection).getIndexInfo().stream()
+                            .map(IndexInfo::getName)
+                            .collect(Collectors.toSet()));
+            if (!existing.contains(index.name())) {
+                missing.add(index.key());
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Index builds currently running on this database, as reported by {@code currentOp}.
+     * Needs the {@code inprog} privilege; callers should treat failures as "progress unavailable".
+     */
+    public List<Document> findBuildsInProgress() {
+        String namespacePrefix = mongoTemplate.getDb().getName() + ".";
+        Document command = new Document("currentOp", true)
+                .append("$or", List.of(
+                        new Document("command.createIndexes", new Document("$exists", true)),
+                        new Document("msg", new Document("$regex", "^Index Build"))));
+        Document result = mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin").runCommand(command);
+
+        List<Document> builds = new ArrayList<>();
+        for (Document operation : result.getList("inprog", Document.class, List.of())) {
+            String namespace = operation.getString("ns");
+            if (namespace == null || !namespace.startsWith(namespacePrefix)) {
+                continue;
+            }
+            Document build = new Document("ns", namespace);
+            if (operation.containsKey("msg")) {
+                build.append("msg", operation.getString("msg"));
+            }
+            if (operation.containsKey("progress")) {
+                build.append("progress", operation.get("progress"));
+            }
+            builds.add(build);
+        }
+        return builds;
+    }
+
+    // Walked by SplitWriteReconciler from its checkpoints
+    private static ManagedIndex updatedAtIndex(String collection) {
+        return new ManagedIndex(collection,
+                new Index().on("updatedAt", Sort.Direction.ASC).on("_id", Sort.Direction.ASC).named(UPDATED_AT_INDEX),
+                UPDATED_AT_INDEX);
+    }
+
+    private static ManagedIndex emailIndex(String collection) {
+        Index definition = new Index()
+                .on("email", Sort.Direction.ASC)
+                .unique()
+                .collation(EMAIL_COLLATION)
+                .named(EMAIL_INDEX);
+        return new ManagedIndex(collection, definition, EMAIL_INDEX);
+    }
+}
@@ -2,75 +2,123 @@ package edu.dosw.infrastructure.persistence;
 
 
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.SellerRepositoryPort;
+import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
 public class MongoSellerRepository implements SellerRepositoryPort {
 
     private final MongoTemplate mongoTemplate;
     private final SellerMongoMapper sellerMapper;
+    private final UserRepositoryPort userRepository;
+    private final MongoSplitWrites splitWrites;
 
     @Override
     public Seller save(Seller seller) {
-        SellerDocument document = sellerMapper.toDocument(seller);
-        SellerDocument saved = mongoTemplate.save(document);
-        return sellerMapper.toDomain(saved);
+        return splitWrites.call(seller.getUserId(), () -> {
+            userRepository.save(seller);
+            SellerDocument document = sellerMapper.toDocument(seller);
+            document.setUpdatedAt(LocalDateTime.now());
+            SellerDocument saved = mongoTemplate.save(document);
+            return sellerMapper.toDomain(saved);
+        });
+    }
+
+    @Override
+    public void update(Seller seller, UserChanges changes) {
+        splitWrites.run(seller.getUserId(), () -> {
+            userRepository.update(seller, changes);
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(seller.getUserId().value())),
+                    MongoUserChanges.forRoleCollection(changes, seller.getVersion()), SellerDocument.class);
+        });
     }
 
     @Override
     public Optional<Seller> findByUserId(UserId userId) {
-        Query query = new Query(Criteria.where("userId").is(userId.value()));
-        SellerDocument document = mongoTemplate.findOne(query, SellerDocument.class);
-        return Optional.ofNullable(sellerMapper.toDomain(document));
+        UserDocument user = MongoUserRepository.findVersion(mongoTemplate, userId, Role.SELLER);
+        if (user == null) {
+            return Optional.empty();
+        }
+        Seller seller = sellerMapper.toDomain(mongoTemplate.findById(userId.value(), SellerDocument.class));
+        if (seller != null) {
+            seller.setVersion(user.getVersion());
+        }
+        return Optional.ofNullable(seller);
     }
 
     @Override
     public Optional<Seller> findByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         SellerDocument document = mongoTemplate.findOne(query, SellerDocument.class);
         return Optional.ofNullable(sellerMapper.toDomain(document));
     }
 
     @Override
-    public List<Seller> findAll() {
-        List<SellerDocument> documents = mongoTemplate.findAll(SellerDocument.class);
-        return documents.stream()
-                .map(sellerMapper::toDomain)
-                .collect(Collectors.toList());
-    }
+    public List<SellerSummary> findSummaries(Boolean approved, UserId after, int limit) {
+        Criteria criteria = new Criteria();
+        if (approved != null) {
+            criteria.and("approved").is(approved);
+        }
+        if (after != null) {
+            criteria.and("_id").gt(after.value());
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        query.fields().include("email", "fullName", "companyName", "businessAddress");
 
-    @Override
-    public List<Seller> findByApproved(boolean approved) {
-        Query query = new Query(Criteria.where("approved").is(approved));
-        List<SellerDocument> documents = mongoTemplate.find(query, SellerDocument.class);
-        return documents.stream()
-                .map(sellerMapper::toDomain)
+        return mongoTemplate.find(query, SellerDocument.class).stream()
+                .map(sellerMapper::toSummary)
                 .collect(Collectors.toList());
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         return mongoTemplate.exists(query, SellerDocument.class);
     }
 
     @Override
-    public void delete(Seller seller) {
-        SellerDocument document = sellerMapper.toDocument(seller);
-        mongoTemplate.remove(document);
+    public boolean deleteByUserId(UserId userId) {
+        return !splitWrites.call(userId, () -> deleteAll(List.of(userId))).isEmpty();
+    }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return splitWrites.call(userIds, () -> deleteAll(userIds));
+    }
+
+    private List<UserId> deleteAll(Collection<UserId> userIds) {
+        // users decides what counts as deleted: the id must exist there with this role
+        List<UserId> deleted = userRepository.deleteByUserIds(userIds, Role.SELLER);
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(userIds.stream().map(UserId::value).toList())),
+                SellerDocument.class);
+        return deleted;
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.infrastructure.persistence.documents.UserWriteIntentDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Makes the pair of writes behind a split-storage save, update or delete all-or-nothing. On a
+ * replica set they run in one Mongo transaction. On a standalone server they are bracketed by an
+ * outbox entry in {@code user_write_intents}; a failure reconciles the user right away, and an
+ * entry left behind by a crash is replayed by {@link SplitWriteReconciler}.
+ * <p>
+ * Role repositories write {@code users} first. It carries the cross-role unique email index and
+ * the version check, so a duplicate email or a stale update fails before the role copy is touched.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
+public class MongoSplitWrites {
+
+    public enum Mode { AUTO, TRANSACTION, OUTBOX }
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoUserRoleSync roleSync;
+    private final Mode configuredMode;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Mode resolvedMode;
+
+    public MongoSplitWrites(MongoTemplate mongoTemplate,
+                            MongoUserRoleSync roleSync,
+                            @Value("${app.persistence.split-writes.mode:auto}") String configuredMode) {
+        this.mongoTemplate = mongoTemplate;
+        this.roleSync = roleSync;
+        this.configuredMode = Mode.valueOf(configuredMode.trim().toUpperCase(Locale.ROOT));
+        this.transactionTemplate = new TransactionTemplate(
+                new MongoTransactionManager(mongoTemplate.getMongoDatabaseFactory()));
+    }
+
+    public void run(UserId userId, Runnable writes) {
+        call(userId, () -> {
+            writes.run();
+            return null;
+        });
+    }
+
+    public <T> T call(UserId userId, Supplier<T> writes) {
+        if (mode() == Mode.TRANSACTION) {
+            return transactionTemplate.execute(status -> writes.get());
+        }
+
+        UserWriteIntentDocument intent = mongoTemplate.insert(UserWriteIntentDocument.builder()
+                .userId(userId.value())
+                .createdAt(LocalDateTime.now())
+                .build());
+        T result;
+        try {
+            result = writes.get();
+        } catch (RuntimeException e) {
+            roleSync.reconcile(userId.value());
+            mongoTemplate.remove(intent);
+            throw e;
+        }
+        mongoTemplate.remove(intent);
+        return result;
+    }
+
+    /**
+     * Batch form of {@link #call(UserId, Supplier)}: one outbox entry per user, written and cleared
+     * with one insert and one delete.
+     */
+    public <T> T call(Collection<UserId> userIds, Supplier<T> writes) {
+        if (mode() == Mode.TRANSACTION) {
+            return transactionTemplate.execute(status -> writes.get());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Collection<UserWriteIntentDocument> intents = mongoTemplate.insertAll(userIds.stream()
+                .map(userId -> UserWriteIntentDocument.builder().userId(userId.value()).createdAt(now).build())
+                .toList());
+        Query intentsQuery = new Query(Criteria.where("_id").in(intents.stream().map(UserWriteIntentDocument::getId).toList()));
+        T result;
+        try {
+            result = writes.get();
+        } catch (RuntimeException e) {
+            userIds.forEach(userId -> roleSync.reconcile(userId.value()));
+            mongoTemplate.remove(intentsQuery, UserWriteIntentDocument.class);
+            throw e;
+        }
+        mongoTemplate.remove(intentsQuery, UserWriteIntentDocument.class);
+        return result;
+    }
+
+    /**
+     * The configured mode, with {@code AUTO} resolved once: transactions when the server reports
+     * a replica set name, the outbox otherwise.
+     */
+    public Mode mode() {
+        Mode mode = resolvedMode;
+        if (mode == null) {
+            mode = configuredMode != Mode.AUTO ? configuredMode : detect();
+            resolvedMode = mode;
+            log.info("Split-storage writes use mode {}", mode);
+        }
+        return mode;
+    }
+
+    private Mode detect() {
+        Document hello = mongoTemplate.executeCommand(new Document("hello", 1));
+        return hello.containsKey("setName") ? Mode.TRANSACTION : Mode.OUTBOX;
+    }
+}
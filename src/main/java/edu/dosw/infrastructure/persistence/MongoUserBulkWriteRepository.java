@@ -0,0 +1,157 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk writes for split storage: one unordered insert per role collection, then one into
+ * {@code users} for the rows that made it. A row rejected by {@code users} is removed from
+ * its role collection again, so the two stay in step.
+ * <p>
+ * The batch goes through {@link MongoSplitWrites} like single-user writes. In outbox mode a crash
+ * between the two inserts is repaired from the intents. In transaction mode the batch commits as a
+ * whole; since a write error aborts the transaction, a rejected batch is retried one user per
+ * transaction to find the rows at fault.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
+public class MongoUserBulkWriteRepository implements UserBulkWritePort {
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerMongoMapper customerMapper;
+    private final SellerMongoMapper sellerMapper;
+    private final AdminMongoMapper adminMapper;
+    private final UserMongoMapper userMapper;
+    private final MongoSplitWrites splitWrites;
+
+    @Override
+    public Map<Integer, Failure> insertAll(List<? extends User> users) {
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+        List<UserId> userIds = users.stream().map(User::getUserId).toList();
+        if (splitWrites.mode() != MongoSplitWrites.Mode.TRANSACTION) {
+            return splitWrites.call(userIds, () -> insertBatch(users));
+        }
+        try {
+            return splitWrites.call(userIds, () -> {
+                if (!insertBatch(users).isEmpty()) {
+                    throw new BatchRejectedException();
+                }
+                return Map.of();
+            });
+        } catch (RuntimeException e) {
+            log.info("Bulk insert of {} users rolled back ({}), retrying one by one", users.size(), e.getMessage());
+            return insertOneByOne(users);
+        }
+    }
+
+    private Map<Integer, Failure> insertOneByOne(List<? extends User> users) {
+        Map<Integer, Failure> failures = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            try {
+                splitWrites.run(user.getUserId(), () -> {
+                    mongoTemplate.insert(toRoleDocument(user));
+                    mongoTemplate.insert(userMapper.toDocument(user));
+                });
+            } catch (DuplicateKeyException e) {
+                failures.put(i, MongoBulkInserts.EMAIL_TAKEN);
+            } catch (RuntimeException e) {
+                failures.put(i, new Failure(false, e.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    private Map<Integer, Failure> insertBatch(List<? extends User> users) {
+        Map<Integer, Failure> failures = new HashMap<>();
+
+        Map<Role, List<Integer>> positionsByRole = new EnumMap<>(Role.class);
+        for (int i = 0; i < users.size(); i++) {
+            positionsByRole.computeIfAbsent(users.get(i).getRole(), role -> new ArrayList<>()).add(i);
+        }
+        positionsByRole.forEach((role, positions) -> {
+            List<Object> documents = positions.stream().map(i -> toRoleDocument(users.get(i))).toList();
+            MongoBulkInserts.insert(mongoTemplate, MongoUserRepository.roleDocumentType(role), documents)
+                    .forEach((index, message) -> failures.put(positions.get(index), message));
+        });
+
+        List<Integer> written = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            if (!failures.containsKey(i)) {
+                written.add(i);
+            }
+        }
+        List<UserDocument> mirrors = written.stream().map(i -> userMapper.toDocument(users.get(i))).toList();
+        Map<Integer, Failure> mirrorFailures = MongoBulkInserts.insert(mongoTemplate, UserDocument.class, mirrors);
+
+        Map<Role, List<String>> orphanIdsByRole = new EnumMap<>(Role.class);
+        mirrorFailures.forEach((index, message) -> {
+            User user = users.get(written.get(index));
+            failures.put(written.get(index), message);
+            orphanIdsByRole.computeIfAbsent(user.getRole(), role -> new ArrayList<>()).add(user.getUserId().value());
+        });
+        orphanIdsByRole.forEach((role, ids) ->
+                mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), MongoUserRepository.roleDocumentType(role)));
+
+        return failures;
+    }
+
+    private Object toRoleDocument(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        return switch (user.getRole()) {
+            case CUSTOMER -> {
+                CustomerDocument document = customerMapper.toDocument((Customer) user);
+                document.setUpdatedAt(now);
+                yield document;
+            }
+            case SELLER -> {
+                SellerDocument document = sellerMapper.toDocument((Seller) user);
+                document.setUpdatedAt(now);
+                yield document;
+            }
+            case ADMIN -> {
+                AdminDocument document = adminMapper.toDocument((Admin) user);
+                document.setUpdatedAt(now);
+                yield document;
+            }
+        };
+    }
+
+    private static final class BatchRejectedException extends RuntimeException {
+        BatchRejectedException() {
+            super("some rows were rejected", null, false, false);
+        }
+    }
+}
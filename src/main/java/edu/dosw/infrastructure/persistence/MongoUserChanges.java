@@ -0,0 +1,62 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.UserChanges;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+/**
+ * Turns {@link UserChanges} into a {@code $set} of the changed fields only. Paths are document
+ * property names, mapped to stored field names by the template for the target document class.
+ */
+final class MongoUserChanges {
+
+    private MongoUserChanges() {
+    }
+
+    /**
+     * Update for {@code users}, where role-specific fields live in the profile sub-documents.
+     */
+    static Update forUsers(UserChanges changes) {
+        Update update = common(changes).inc("version", 1).set("updatedAt", LocalDateTime.now());
+        setIfChanged(update, "customerProfile.phoneNumber", changes.phoneNumber());
+        setIfChanged(update, "sellerProfile.companyName", changes.companyName());
+        setIfChanged(update, "sellerProfile.businessAddress", changes.businessAddress());
+        return update;
+    }
+
+    /**
+     * Update for the {@code customers}, {@code sellers} or {@code administrators} collection. The
+     * copy takes the version {@code users} moved to rather than incrementing its own, so a copy
+     * whose version drifted is realigned by its next update.
+     */
+    static Update forRoleCollection(UserChanges changes, Long expectedVersion) {
+        Update update = common(changes)
+                .set("version", (expectedVersion != null ? expectedVersion : 0L) + 1)
+                .set("updatedAt", LocalDateTime.now());
+        setIfChanged(update, "phoneNumber", changes.phoneNumber());
+        setIfChanged(update, "companyName", changes.companyName());
+        setIfChanged(update, "businessAddress", changes.businessAddress());
+        return update;
+    }
+
+    private static Update common(UserChanges changes) {
+        Update update = new Update();
+        if (changes.identityDocument() != null) {
+            update.set("identityDocument", changes.identityDocument().value());
+        }
+        if (changes.email() != null) {
+            update.set("email", changes.email().value());
+        }
+        if (changes.fullName() != null) {
+            update.set("fullName", changes.fullName().value());
+        }
+        return update;
+    }
+
+    private static void setIfChanged(Update update, String path, String value) {
+        if (value != null) {
+            update.set(path, value);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserExportPort;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams the role collections through a server-side cursor, so an export holds one batch
+ * in memory regardless of collection size. Password hashes are excluded by the projection.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
+public class MongoUserExportRepository implements UserExportPort {
+
+    static final int CURSOR_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerMongoMapper customerMapper;
+    private final SellerMongoMapper sellerMapper;
+    private final AdminMongoMapper adminMapper;
+
+    @Override
+    public void forEach(Role role, LocalDateTime since, Consumer<UserExportRecord> consumer) {
+        switch (role) {
+            case CUSTOMER -> stream(CustomerDocument.class, since, customerMapper::toExportRecord, consumer);
+            case SELLER -> stream(SellerDocument.class, since, sellerMapper::toExportRecord, consumer);
+            case ADMIN -> stream(AdminDocument.class, since, adminMapper::toExportRecord, consumer);
+        }
+    }
+
+    private <T> void stream(Class<T> documentType, LocalDateTime since,
+                            Function<T, UserExportRecord> mapper, Consumer<UserExportRecord> consumer) {
+        Query query = since != null
+                ? new Query(Criteria.where("createdAt").gte(since))
+                : new Query();
+        query.fields().exclude("passwordHash");
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        try (Stream<T> documents = mongoTemplate.stream(query, documentType)) {
+            documents.map(mapper).forEach(consumer);
+        }
+    }
+}
@@ -1,56 +1,187 @@
 package edu.dosw.infrastructure.persistence;
 
+import com.mongodb.client.result.UpdateResult;
 import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.PasswordHash;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ConcurrentUpdateException;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
 import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
-@RequiredArgsConstructor
 public class MongoUserRepository implements UserRepositoryPort {
 
     private final MongoTemplate mongoTemplate;
     private final UserMongoMapper userMapper;
+    private final boolean splitStorage;
+    // Only defined in split storage
+    private final ObjectProvider<MongoSplitWrites> splitWrites;
+
+    public MongoUserRepository(MongoTemplate mongoTemplate,
+                               UserMongoMapper userMapper,
+                               @Value("${app.persistence.user-storage:split}") String userStorage,
+                               ObjectProvider<MongoSplitWrites> splitWrites) {
+        this.mongoTemplate = mongoTemplate;
+        this.userMapper = userMapper;
+        this.splitStorage = !"single".equals(userStorage);
+        this.splitWrites = splitWrites;
+    }
 
     @Override
     public User save(User user) {
         UserDocument document = userMapper.toDocument(user);
+        document.setUpdatedAt(LocalDateTime.now());
         UserDocument saved = mongoTemplate.save(document);
         return userMapper.toDomain(saved);
     }
 
     @Override
     public Optional<User> findByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         UserDocument document = mongoTemplate.findOne(query, UserDocument.class);
         return Optional.ofNullable(userMapper.toDomain(document));
     }
 
     @Override
     public Optional<User> findByUserId(UserId userId) {
-        Query query = new Query(Criteria.where("userId").is(userId.value()));
-        UserDocument document = mongoTemplate.findOne(query, UserDocument.class);
+        UserDocument document = mongoTemplate.findById(userId.value(), UserDocument.class);
         return Optional.ofNullable(userMapper.toDomain(document));
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        Query query = new Query(Criteria.where("email").is(email.value()));
+        Query query = new Query(Criteria.where("email").is(email.value())).collation(MongoIndexManager.EMAIL_COLLATION);
         return mongoTemplate.exists(query, UserDocument.class);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Query query = new Query(Criteria.where("email").in(emails.stream().map(Email::value).toList()))
+                .collation(MongoIndexManager.EMAIL_COLLATION);
+        query.fields().include("email");
+        return mongoTemplate.find(query, UserDocument.class).stream()
+                .map(document -> document.getEmail().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * One {@code $set} on {@code users}, projected down to the role so split storage knows which
+     * role collection carries the other copy of the hash, then one {@code $set} on that collection.
+     */
+    @Override
+    public boolean updatePasswordHash(UserId userId, PasswordHash passwordHash) {
+        return setPasswordHash(Criteria.where("_id").is(userId.value()), userId, passwordHash);
+    }
+
+    @Override
+    public boolean updatePasswordHash(UserId userId, PasswordHash expected, PasswordHash passwordHash) {
+        return setPasswordHash(Criteria.where("_id").is(userId.value()).and("passwordHash").is(expected.value()),
+                userId, passwordHash);
+    }
+
+    private boolean setPasswordHash(Criteria criteria, UserId userId, PasswordHash passwordHash) {
+        if (!splitStorage) {
+            return setUsersPasswordHash(criteria, passwordHash) != null;
+        }
+        // Both copies change together, like every other split-storage write
+        return splitWrites.getObject().call(userId, () -> {
+            UserDocument previous = setUsersPasswordHash(criteria, passwordHash);
+            if (previous == null) {
+                return false;
+            }
+            if (previous.getRole() != null) {
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(userId.value())),
+                        Update.update("passwordHash", passwordHash.value())
+                                .set("updatedAt", LocalDateTime.now())
+                                .inc("version", 1),
+                        roleDocumentType(previous.getRole()));
+            }
+            return true;
+        });
+    }
+
+    private UserDocument setUsersPasswordHash(Criteria criteria, PasswordHash passwordHash) {
+        Query query = new Query(criteria);
+        query.fields().include("role");
+        Update update = new Update()
+                .set("passwordHash", passwordHash.value())
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+        return mongoTemplate.findAndModify(query, update, UserDocument.class);
+    }
+
+    /**
+     * The {@code users} document of the user with only its version, or null when there is no user
+     * with that id and role. Role repositories load the version from here because {@link #update}
+     * checks it here: the role copy keeps a version of its own that can drift after a repair.
+     */
+    static UserDocument findVersion(MongoTemplate mongoTemplate, UserId userId, Role role) {
+        Query query = new Query(Criteria.where("_id").is(userId.value()).and("role").is(role));
+        query.fields().include("version");
+        return mongoTemplate.findOne(query, UserDocument.class);
+    }
+
+    @Override
+    public void update(User user, UserChanges changes) {
+        Query query = new Query(Criteria.where("_id").is(user.getUserId().value())
+                .and("version").is(user.getVersion()));
+        UpdateResult result = mongoTemplate.updateFirst(query, MongoUserChanges.forUsers(changes), UserDocument.class);
+        if (result.getMatchedCount() == 0) {
+            throw new ConcurrentUpdateException("User " + user.getUserId().value() + " was modified concurrently");
+        }
+    }
+
     @Override
     public void deleteByUserId(UserId userId) {
-        Query query = new Query(Criteria.where("userId").is(userId.value()));
+        Query query = new Query(Criteria.where("_id").is(userId.value()));
         mongoTemplate.remove(query, UserDocument.class);
     }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds, Role role) {
+        Query existing = new Query(Criteria.where("_id").in(userIds.stream().map(UserId::value).toList())
+                .and("role").is(role));
+        existing.fields().include("_id");
+        List<String> ids = mongoTemplate.find(existing, UserDocument.class).stream()
+                .map(UserDocument::getUserId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(ids).and("role").is(role)), UserDocument.class);
+        return ids.stream().map(UserId::new).toList();
+    }
+
+    static Class<?> roleDocumentType(Role role) {
+        return switch (role) {
+            case CUSTOMER -> CustomerDocument.class;
+            case SELLER -> SellerDocument.class;
+            case ADMIN -> AdminDocument.class;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs the role-collection copy of users in split storage. {@code users} is the source of
+ * truth: its document is copied over the role copy, version included, and a user that no longer
+ * exists in {@code users} is removed from every role collection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
+public class MongoUserRoleSync {
+
+    private final MongoTemplate mongoTemplate;
+
+    public void reconcile(String userId) {
+        UserDocument user = mongoTemplate.findById(userId, UserDocument.class);
+        for (Role role : Role.values()) {
+            if (user != null && user.getRole() == role) {
+                mongoTemplate.findAndReplace(byId(userId), toRoleDocument(user),
+                        FindAndReplaceOptions.options().upsert());
+            } else {
+                mongoTemplate.remove(byId(userId), MongoUserRepository.roleDocumentType(role));
+            }
+        }
+        log.info("Role copy of userId {} reconciled from users", userId);
+    }
+
+    /**
+     * Which of the given {@code users} documents have no role copy at the same version. Needs
+     * {@code _id}, {@code role} and {@code version} only, and issues one query per role.
+     */
+    public List<String> findOutOfSync(Collection<UserDocument> users) {
+        Map<Role, List<UserDocument>> byRole = users.stream()
+                .filter(user -> user.getRole() != null)
+                .collect(Collectors.groupingBy(UserDocument::getRole));
+
+        Map<String, Long> roleVersions = new HashMap<>();
+        byRole.forEach((role, documents) -> {
+            Query query = new Query(Criteria.where("_id").in(documents.stream().map(UserDocument::getUserId).toList()));
+            query.fields().include("version");
+            String collection = mongoTemplate.getCollectionName(MongoUserRepository.roleDocumentType(role));
+            mongoTemplate.find(query, Document.class, collection).forEach(document -> {
+                Number version = document.get("version", Number.class);
+                roleVersions.put(document.getString("_id"), version != null ? version.longValue() : null);
+            });
+        });
+
+        return byRole.values().stream()
+                .flatMap(List::stream)
+                .filter(user -> !roleVersions.containsKey(user.getUserId())
+                        || !Objects.equals(roleVersions.get(user.getUserId()), user.getVersion()))
+                .map(UserDocument::getUserId)
+                .toList();
+    }
+
+    private static Object toRoleDocument(UserDocument user) {
+        return switch (user.getRole()) {
+            case CUSTOMER -> {
+                CustomerProfileDocument profile = user.getCustomerProfile();
+                yield CustomerDocument.builder()
+                        .userId(user.getUserId())
+                        .identityDocument(user.getIdentityDocument())
+                        .email(user.getEmail())
+                        .fullName(user.getFullName())
+                        .passwordHash(user.getPasswordHash())
+                        .role(user.getRole())
+                        .phoneNumber(profile != null ? profile.getPhoneNumber() : null)
+                        .createdAt(user.getCreatedAt())
+                        .updatedAt(user.getUpdatedAt())
+                        .version(user.getVersion())
+                        .build();
+            }
+            case SELLER -> {
+                SellerProfileDocument profile = user.getSellerProfile();
+                yield SellerDocument.builder()
+                        .userId(user.getUserId())
+                        .identityDocument(user.getIdentityDocument())
+                        .email(user.getEmail())
+                        .fullName(user.getFullName())
+                        .passwordHash(user.getPasswordHash())
+                        .role(user.getRole())
+                        .companyName(profile != null ? profile.getCompanyName() : null)
+                        .businessAddress(profile != null ? profile.getBusinessAddress() : null)
+                        .createdAt(user.getCreatedAt())
+                        .updatedAt(user.getUpdatedAt())
+                        .version(user.getVersion())
+                        .build();
+            }
+            case ADMIN -> AdminDocument.builder()
+                    .userId(user.getUserId())
+                    .identityDocument(user.getIdentityDocument())
+                    .email(user.getEmail())
+                    .fullName(user.getFullName())
+                    .passwordHash(user.getPasswordHash())
+                    .role(user.getRole())
+                    .createdAt(user.getCreatedAt())
+                    .updatedAt(user.getUpdatedAt())
+                    .version(user.getVersion())
+                    .build();
+        };
+    }
+
+    private static Query byId(String userId) {
+        return new Query(Criteria.where("_id").is(userId));
+    }
+}
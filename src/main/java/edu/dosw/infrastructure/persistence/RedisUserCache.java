@@ -0,0 +1,228 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.FullName;
+import edu.dosw.domain.model.ValueObject.IdentityDocument;
+import edu.dosw.domain.model.ValueObject.PasswordHash;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Shared Redis tier of the user cache, seen by every replica.
+ * <ul>
+ *   <li>{@code users:cache:id:<userId>} holds the user itself;</li>
+ *   <li>{@code users:cache:email:<email>} only points at the userId, and is trusted only when the
+ *   user it points at still has that email. Evicting a user is therefore a single delete of its
+ *   id key, with no need to know which emails it was cached under.</li>
+ * </ul>
+ * Invalidations are also broadcast on {@link #CHANNEL} so that each replica drops its near cache.
+ * Redis being unavailable degrades to cache misses, never to failed lookups.
+ * <p>
+ * Eviction leaves a short-lived {@code users:cache:evicted:<userId>} tombstone, and {@link #put}
+ * is a script that does nothing while one exists: a replica that read the user from Mongo just
+ * before a write, and puts it after that write's eviction, cannot bring the old version back for
+ * the whole TTL.
+ */
+@Slf4j
+@Component
+public class RedisUserCache implements MessageListener {
+
+    static final String CHANNEL = "users:cache:invalidations";
+    private static final String ID_PREFIX = "users:cache:id:";
+    private static final String EMAIL_PREFIX = "users:cache:email:";
+    private static final String TOMBSTONE_PREFIX = "users:cache:evicted:";
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/put-user-cache.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration ttl;
+    private final Duration tombstoneTtl;
+    private volatile BiConsumer<Collection<String>, Collection<String>> invalidationListener;
+
+    public RedisUserCache(RedisTemplate<String, Object> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${app.cache.users.redis-ttl-seconds:300}") long ttlSeconds,
+                          @Value("${app.cache.users.tombstone-seconds:10}") long tombstoneSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.tombstoneTtl = Duration.ofSeconds(tombstoneSeconds);
+    }
+
+    /**
+     * Registers the callback run for every invalidation broadcast, including this replica's own.
+     * It receives the userIds and the emails the publisher knew about.
+     */
+    public void subscribe(BiConsumer<Collection<String>, Collection<String>> listener) {
+        this.invalidationListener = listener;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<User> findByUserId(String userId) {
+        try {
+            return Optional.ofNullable(decode(redisTemplate.opsForValue().get(ID_PREFIX + userId)));
+        } catch (RuntimeException e) {
+            log.warn("Shared user cache read failed for userId {}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param email {@link Email#value()}, which is already lower case
+     */
+    public Optional<User> findByEmail(String email) {
+        try {
+            Object userId = redisTemplate.opsForValue().get(EMAIL_PREFIX + email);
+            if (userId == null) {
+                return Optional.empty();
+            }
+            return findByUserId(userId.toString())
+                    .filter(user -> user.getEmail().value().equals(email));
+        } catch (RuntimeException e) {
+            log.warn("Shared user cache read failed for email {}: {}", email, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the user and its email pointer in one script call, unless the user was evicted less
+     * than the tombstone TTL ago.
+     */
+    public void put(User user) {
+        String userId = user.getUserId().value();
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        try {
+            // Pre-serialized: the user and pointer as the template stores them, the TTL as plain text
+            redisTemplate.execute(PUT_SCRIPT, RedisSerializer.byteArray(), null,
+                    List.of(ID_PREFIX + userId, EMAIL_PREFIX + user.getEmail().value(), TOMBSTONE_PREFIX + userId),
+                    valueSerializer.serialize(encode(user)),
+                    valueSerializer.serialize(userId),
+                    Long.toString(ttl.toMillis()).getBytes(StandardCharsets.US_ASCII));
+        } catch (RuntimeException e) {
+            log.warn("Shared user cache write failed for userId {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the shared entries of the users and leaves their tombstones, then tells every replica
+     * to drop its near-cache entries with one message, all in one pipelined round trip.
+     */
+    @SuppressWarnings("unchecked")
+    public void evict(Collection<String> userIds, Collection<String> emails) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                    redis.delete(userIds.stream().map(userId -> ID_PREFIX + userId).toList());
+                    userIds.forEach(userId -> redis.opsForValue().set(TOMBSTONE_PREFIX + userId, "", tombstoneTtl));
+                    redis.convertAndSend(CHANNEL, Map.of("userIds", List.copyOf(userIds), "emails", List.copyOf(emails)));
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            // Other replicas fall back on their near-cache TTL
+            log.warn("Shared user cache eviction failed for userIds {}: {}", userIds, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        BiConsumer<Collection<String>, Collection<String>> listener = invalidationListener;
+        if (listener == null) {
+            return;
+        }
+        try {
+            Map<?, ?> body = (Map<?, ?>) redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body != null) {
+                listener.accept(strings(body.get("userIds")), strings(body.get("emails")));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed user cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> strings(Object values) {
+        return values instanceof Collection<?> collection
+                ? collection.stream().map(Object::toString).toList()
+                : List.of();
+    }
+
+    static Map<String, Object> encode(User user) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("userId", user.getUserId().value());
+        fields.put("identityDocument", user.getIdentityDocument().value());
+        fields.put("email", user.getEmail().value());
+        fields.put("fullName", user.getFullName().value());
+        fields.put("passwordHash", user.getPasswordHash().value());
+        fields.put("role", user.getRole() != null ? user.getRole().name() : null);
+        fields.put("version", user.getVersion());
+        if (user instanceof Customer customer) {
+            fields.put("phoneNumber", customer.getPhoneNumber());
+        } else if (user instanceof Seller seller) {
+            fields.put("companyName", seller.getCompanyName());
+            fields.put("businessAddress", seller.getBusinessAddress());
+        }
+        return fields;
+    }
+
+    static User decode(Object value) {
+        if (!(value instanceof Map<?, ?> fields)) {
+            return null;
+        }
+        UserId userId = new UserId((String) fields.get("userId"));
+        IdentityDocument identityDocument = new IdentityDocument((String) fields.get("identityDocument"));
+        Email email = Email.of((String) fields.get("email"));
+        FullName fullName = new FullName((String) fields.get("fullName"));
+        PasswordHash passwordHash = new PasswordHash((String) fields.get("passwordHash"));
+        Role role = fields.get("role") != null ? Role.valueOf((String) fields.get("role")) : null;
+
+        User user;
+        if (role == null) {
+            user = new User(userId, identityDocument, email, fullName, passwordHash, null);
+        } else {
+            user = switch (role) {
+                case CUSTOMER -> new Customer(userId, identityDocument, email, fullName, passwordHash,
+                        (String) fields.get("phoneNumber"));
+                case SELLER -> new Seller(userId, identityDocument, email, fullName, passwordHash,
+                        (String) fields.get("companyName"), (String) fields.get("businessAddress"));
+                case ADMIN -> new Admin(userId, identityDocument, email, fullName, passwordHash);
+            };
+        }
+        Number version = (Number) fields.get("version");
+        user.setVersion(version != null ? version.longValue() : null);
+        return user;
+    }
+}
@@ -2,17 +2,20 @@ package edu.dosw.infrastructure.persistence;
 
 import edu.dosw.domain.model.ValueObject.Email;
 import edu.dosw.domain.model.ValueObject.VerificationCode;
+import edu.dosw.domain.model.enums.VerificationCodeCheck;
 import edu.dosw.domain.ports.VerificationCodeRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Repository
@@ -21,25 +24,30 @@ public class RedisVerificationCodeRepository implements VerificationCodeReposito
 
     private final RedisTemplate<String, Object> redisTemplate;
     private static final String KEY_PREFIX = "verification_code:";
+    // Outlives each code: save only pushes its expiry to the new code's, so re-issuing keeps the count
+    private static final String ATTEMPTS_PREFIX = "verification_code_attempts:";
+    private static final RedisScript<String> CHECK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/check-verification-code.lua"), String.class);
 
     @Override
     public VerificationCode save(VerificationCode verificationCode) {
-        String key = KEY_PREFIX + verificationCode.email();
+        byte[] key = VerificationCodeRedisCodec.bytes(KEY_PREFIX + verificationCode.email());
+        byte[] attemptsKey = VerificationCodeRedisCodec.bytes(ATTEMPTS_PREFIX + verificationCode.email());
+        Map<byte[], byte[]> fields = VerificationCodeRedisCodec.encode(verificationCode);
+        long expiresAtMillis = VerificationCodeRedisCodec.epochMillis(verificationCode.expiresAt());
 
         try {
-
-            Map<String, Object> codeData = Map.of(
-                    "code", verificationCode.code(),
-                    "expiresAt", verificationCode.expiresAt().toString(),
-                    "email", verificationCode.email(),
-                    "used", verificationCode.used()
-            );
-
-            redisTemplate.opsForValue().set(key, codeData);
-
-            long ttl = Duration.between(LocalDateTime.now(), verificationCode.expiresAt())
-                    .toMinutes();
-            redisTemplate.expire(key, Math.max(ttl, 1), TimeUnit.MINUTES);
+            // One round trip; DEL also clears a value written in an older format under the same key
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.multi();
+                connection.keyCommands().del(key);
+                connection.hashCommands().hMSet(key, fields);
+                connection.keyCommands().pExpireAt(key, expiresAtMillis);
+                // No-op without failed attempts
+                connection.keyCommands().pExpireAt(attemptsKey, expiresAtMillis);
+                connection.exec();
+                return null;
+            });
 
             log.debug("Verification code saved for email: {}", verificationCode.email());
             return verificationCode;
@@ -52,23 +60,16 @@ public class RedisVerificationCodeRepository implements VerificationCodeReposito
 
     @Override
     public Optional<VerificationCode> findByEmail(Email email) {
-        String key = KEY_PREFIX + email.value();
+        byte[] key = VerificationCodeRedisCodec.bytes(KEY_PREFIX + email.value());
 
         try {
-            Map<String, Object> codeData = (Map<String, Object>) redisTemplate.opsForValue().get(key);
+            Map<byte[], byte[]> fields = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key));
 
-            if (codeData == null) {
+            if (fields == null || fields.isEmpty()) {
                 return Optional.empty();
             }
-
-            VerificationCode verificationCode = new VerificationCode(
-                    (String) codeData.get("code"),
-                    LocalDateTime.parse((String) codeData.get("expiresAt")),
-                    (String) codeData.get("email"),
-                    (Boolean) codeData.get("used")
-            );
-
-            return Optional.of(verificationCode);
+            return Optional.ofNullable(VerificationCodeRedisCodec.decode(email.value(), fields));
 
         } catch (Exception e) {
             log.error("Error retrieving verification code for email: {}", email.value(), e);
@@ -76,6 +77,21 @@ public class RedisVerificationCodeRepository implements VerificationCodeReposito
         }
     }
 
+    @Override
+    public VerificationCodeCheck check(Email email, String code, int maxAttempts, boolean consume) {
+        try {
+            // Plain string arguments: the template's JSON value serializer would quote them
+            String result = redisTemplate.execute(CHECK_SCRIPT, StringRedisSerializer.UTF_8, StringRedisSerializer.UTF_8,
+                    List.of(KEY_PREFIX + email.value(), ATTEMPTS_PREFIX + email.value()),
+                    code, Long.toString(System.currentTimeMillis()), Integer.toString(maxAttempts), consume ? "1" : "0");
+            return VerificationCodeCheck.valueOf(result);
+
+        } catch (Exception e) {
+            log.error("Error checking verification code for email: {}", email.value(), e);
+            throw new RuntimeException("Failed to check verification code", e);
+        }
+    }
+
     @Override
     public void deleteByEmail(Email email) {
         String key = KEY_PREFIX + email.value();
@@ -0,0 +1,70 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.CustomerRepositoryPort;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Customer view over the {@code users} collection, used when users is the single source of truth.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "single")
+public class SingleDocumentCustomerRepository implements CustomerRepositoryPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserMongoMapper userMapper;
+    private final UserRepositoryPort userRepository;
+
+    @Override
+    public Customer save(Customer customer) {
+        return (Customer) userRepository.save(customer);
+    }
+
+    @Override
+    public void update(Customer customer, UserChanges changes) {
+        userRepository.update(customer, changes);
+    }
+
+    @Override
+    public Optional<Customer> findByUserId(UserId userId) {
+        Query query = new Query(Criteria.where("_id").is(userId.value()).and("role").is(Role.CUSTOMER));
+        UserDocument document = mongoTemplate.findOne(query, UserDocument.class);
+        return Optional.ofNullable((Customer) userMapper.toDomain(document));
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        Query query = new Query(Criteria.where("email").is(email.value()).and("role").is(Role.CUSTOMER)).collation(MongoIndexManager.EMAIL_COLLATION);
+        return mongoTemplate.exists(query, UserDocument.class);
+    }
+
+    @Override
+    public boolean deleteByUserId(UserId userId) {
+        return !userRepository.deleteByUserIds(List.of(userId), Role.CUSTOMER).isEmpty();
+    }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.deleteByUserIds(userIds, Role.CUSTOMER);
+    }
+}
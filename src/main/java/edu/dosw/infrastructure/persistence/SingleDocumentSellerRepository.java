@@ -0,0 +1,99 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.SellerSummary;
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.SellerRepositoryPort;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Seller view over the {@code users} collection, used when users is the single source of truth.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "single")
+public class SingleDocumentSellerRepository implements SellerRepositoryPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserMongoMapper userMapper;
+    private final UserRepositoryPort userRepository;
+
+    @Override
+    public Seller save(Seller seller) {
+        return (Seller) userRepository.save(seller);
+    }
+
+    @Override
+    public void update(Seller seller, UserChanges changes) {
+        userRepository.update(seller, changes);
+    }
+
+    @Override
+    public Optional<Seller> findByUserId(UserId userId) {
+        Query query = new Query(Criteria.where("_id").is(userId.value()).and("role").is(Role.SELLER));
+        UserDocument document = mongoTemplate.findOne(query, UserDocument.class);
+        return Optional.ofNullable((Seller) userMapper.toDomain(document));
+    }
+
+    @Override
+    public Optional<Seller> findByEmail(Email email) {
+        Query query = new Query(Criteria.where("email").is(email.value()).and("role").is(Role.SELLER)).collation(MongoIndexManager.EMAIL_COLLATION);
+        UserDocument document = mongoTemplate.findOne(query, UserDocument.class);
+        return Optional.ofNullable((Seller) userMapper.toDomain(document));
+    }
+
+    @Override
+    public List<SellerSummary> findSummaries(Boolean approved, UserId after, int limit) {
+        Criteria criteria = Criteria.where("role").is(Role.SELLER);
+        if (approved != null) {
+            criteria.and("seller.approved").is(approved);
+        }
+        if (after != null) {
+            criteria.and("_id").gt(after.value());
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        query.fields().include("email", "fullName", "sellerProfile");
+
+        return mongoTemplate.find(query, UserDocument.class).stream()
+                .map(userMapper::toSellerSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        Query query = new Query(Criteria.where("email").is(email.value()).and("role").is(Role.SELLER)).collation(MongoIndexManager.EMAIL_COLLATION);
+        return mongoTemplate.exists(query, UserDocument.class);
+    }
+
+    @Override
+    public boolean deleteByUserId(UserId userId) {
+        return !userRepository.deleteByUserIds(List.of(userId), Role.SELLER).isEmpty();
+    }
+
+    @Override
+    public List<UserId> deleteByUserIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.deleteByUserIds(userIds, Role.SELLER);
+    }
+}
@@ -0,0 +1,31 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk writes straight into the {@code users} collection, used when users is the single source of truth.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "single")
+public class SingleDocumentUserBulkWriteRepository implements UserBulkWritePort {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserMongoMapper userMapper;
+
+    @Override
+    public Map<Integer, Failure> insertAll(List<? extends User> users) {
+        List<UserDocument> documents = users.stream().map(userMapper::toDocument).toList();
+        return MongoBulkInserts.insert(mongoTemplate, UserDocument.class, documents);
+    }
+}
@@ -0,0 +1,44 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserExportPort;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Export view over the {@code users} collection, used when users is the single source of truth.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "single")
+public class SingleDocumentUserExportRepository implements UserExportPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserMongoMapper userMapper;
+
+    @Override
+    public void forEach(Role role, LocalDateTime since, Consumer<UserExportRecord> consumer) {
+        Criteria criteria = Criteria.where("role").is(role);
+        if (since != null) {
+            criteria.and("createdAt").gte(since);
+        }
+        Query query = new Query(criteria);
+        query.fields().exclude("passwordHash");
+        query.cursorBatchSize(MongoUserExportRepository.CURSOR_BATCH_SIZE);
+
+        try (Stream<UserDocument> documents = mongoTemplate.stream(query, UserDocument.class)) {
+            documents.map(userMapper::toExportRecord).forEach(consumer);
+        }
+    }
+}
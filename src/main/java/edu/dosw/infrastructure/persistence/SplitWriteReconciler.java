@@ -0,0 +1,227 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.LeaseDocument;
+import edu.dosw.infrastructure.persistence.documents.SyncCheckpointDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.documents.UserWriteIntentDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Background repair for split storage, in three cheap passes:
+ * <ul>
+ *   <li>replays outbox entries older than the grace period, which only a crash leaves behind;</li>
+ *   <li>walks {@code users} forward from a stored checkpoint on (updatedAt, _id) and compares the
+ *   version of each changed user with its role copy, instead of scanning whole collections;</li>
+ *   <li>walks each role collection forward the same way, from its own checkpoint, for copies
+ *   written since the last run whose user is missing from {@code users} or has another role:
+ *   orphans the first two passes cannot see, such as a role copy whose {@code users} insert
+ *   failed.</li>
+ * </ul>
+ * Polling is used rather than a change stream: change streams need a replica set, and on one the
+ * split writes already commit in a transaction, so the standalone outbox mode, where repairs are
+ * needed, is the one a change stream cannot serve. The checkpoints only move forward, so role
+ * copies last written before they were created are not revisited.
+ * Documents younger than the grace period are skipped, so writes still in flight are not "repaired".
+ * Replicas take turns through a lease in {@code leases}: a run is skipped while another replica
+ * holds it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.persistence.user-storage", havingValue = "split", matchIfMissing = true)
+public class SplitWriteReconciler {
+
+    static final String CHECKPOINT = "users-role-sync";
+    static final String ORPHAN_CHECKPOINT_PREFIX = "role-orphans-";
+    static final String LEASE = "split-write-reconciler";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoUserRoleSync roleSync;
+    private final Duration grace;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final String owner = UUID.randomUUID().toString();
+
+    public SplitWriteReconciler(MongoTemplate mongoTemplate,
+                                MongoUserRoleSync roleSync,
+                                @Value("${app.persistence.split-writes.grace-seconds:30}") long graceSeconds,
+                                @Value("${app.persistence.split-writes.batch-size:500}") int batchSize,
+                                @Value("${app.persistence.split-writes.lease-seconds:300}") long leaseSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.roleSync = roleSync;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.persistence.split-writes.reconcile-interval-ms:60000}",
+            initialDelayString = "${app.persistence.split-writes.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            if (!acquireLease()) {
+                log.debug("Split storage reconciliation skipped: another replica holds the lease");
+                return;
+            }
+            try {
+                LocalDateTime settledBefore = LocalDateTime.now().minus(grace);
+                int replayed = replayIntents(settledBefore);
+                int repaired = checkChangedUsers(settledBefore);
+                int orphans = removeOrphanRoleCopies(settledBefore);
+                if (replayed > 0 || repaired > 0 || orphans > 0) {
+                    log.warn("Split storage reconciled: {} interrupted writes replayed, {} role copies repaired, "
+                            + "{} orphan role copies removed", replayed, repaired, orphans);
+                }
+            } finally {
+                releaseLease();
+            }
+        } catch (RuntimeException e) {
+            log.error("Split storage reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Takes the lease when it is free, expired or already ours. A lease held by another replica
+     * matches nothing, so the upsert tries to insert a second document with the same name and fails.
+     * A run longer than the lease lets another replica start; the passes are idempotent, so that
+     * only costs duplicate work.
+     */
+    boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Query free = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(LEASE),
+                new Criteria().orOperator(Criteria.where("expiresAt").lt(now), Criteria.where("owner").is(owner))));
+        Update claim = new Update().set("owner", owner).set("expiresAt", now.plus(leaseDuration));
+        try {
+            mongoTemplate.findAndModify(free, claim, FindAndModifyOptions.options().upsert(true), LeaseDocument.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void releaseLease() {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(LEASE).and("owner").is(owner)), LeaseDocument.class);
+    }
+
+    int replayIntents(LocalDateTime settledBefore) {
+        Query query = new Query(Criteria.where("createdAt").lt(settledBefore)).limit(batchSize);
+        List<UserWriteIntentDocument> intents = mongoTemplate.find(query, UserWriteIntentDocument.class);
+        for (UserWriteIntentDocument intent : intents) {
+            roleSync.reconcile(intent.getUserId());
+            mongoTemplate.remove(intent);
+        }
+        return intents.size();
+    }
+
+    int checkChangedUsers(LocalDateTime settledBefore) {
+        SyncCheckpointDocument checkpoint = mongoTemplate.findById(CHECKPOINT, SyncCheckpointDocument.class);
+        if (checkpoint == null) {
+            // First run: start from now rather than walking the existing collection
+            mongoTemplate.save(new SyncCheckpointDocument(CHECKPOINT, settledBefore, ""));
+            return 0;
+        }
+
+        int repaired = 0;
+        List<UserDocument> changed;
+        do {
+            Query page = changedSince(checkpoint, settledBefore);
+            page.fields().include("role", "version", "updatedAt");
+            changed = mongoTemplate.find(page, UserDocument.class);
+            for (String userId : roleSync.findOutOfSync(changed)) {
+                roleSync.reconcile(userId);
+                repaired++;
+            }
+            if (!changed.isEmpty()) {
+                UserDocument last = changed.get(changed.size() - 1);
+                checkpoint = new SyncCheckpointDocument(CHECKPOINT, last.getUpdatedAt(), last.getUserId());
+                mongoTemplate.save(checkpoint);
+            }
+        } while (changed.size() == batchSize);
+        return repaired;
+    }
+
+    int removeOrphanRoleCopies(LocalDateTime settledBefore) {
+        int removed = 0;
+        for (Role role : Role.values()) {
+            removed += removeOrphans(role, settledBefore);
+        }
+        return removed;
+    }
+
+    private int removeOrphans(Role role, LocalDateTime settledBefore) {
+        String checkpointName = ORPHAN_CHECKPOINT_PREFIX + role.name().toLowerCase(Locale.ROOT);
+        SyncCheckpointDocument checkpoint = mongoTemplate.findById(checkpointName, SyncCheckpointDocument.class);
+        if (checkpoint == null) {
+            mongoTemplate.save(new SyncCheckpointDocument(checkpointName, settledBefore, ""));
+            return 0;
+        }
+
+        String collection = mongoTemplate.getCollectionName(MongoUserRepository.roleDocumentType(role));
+        int removed = 0;
+        List<Document> copies;
+        do {
+            Query page = changedSince(checkpoint, settledBefore);
+            page.fields().include("updatedAt");
+            copies = mongoTemplate.find(page, Document.class, collection);
+            if (copies.isEmpty()) {
+                break;
+            }
+
+            List<String> ids = copies.stream().map(copy -> copy.getString("_id")).toList();
+            Query owners = new Query(Criteria.where("_id").in(ids).and("role").is(role));
+            owners.fields().include("_id");
+            Set<String> owned = mongoTemplate.find(owners, UserDocument.class).stream()
+                    .map(UserDocument::getUserId)
+                    .collect(Collectors.toSet());
+            for (String userId : ids) {
+                if (!owned.contains(userId)) {
+                    roleSync.reconcile(userId);
+                    removed++;
+                }
+            }
+
+            // Raw documents carry updatedAt as the Date the mapping converted it to, in the default zone
+            Document last = copies.get(copies.size() - 1);
+            LocalDateTime lastUpdatedAt = LocalDateTime.ofInstant(last.getDate("updatedAt").toInstant(), ZoneId.systemDefault());
+            checkpoint = new SyncCheckpointDocument(checkpointName, lastUpdatedAt, last.getString("_id"));
+            mongoTemplate.save(checkpoint);
+        } while (copies.size() == batchSize);
+        return removed;
+    }
+
+    /**
+     * Documents written after the checkpoint and before {@code settledBefore}, in (updatedAt, _id)
+     * order; the caller picks the fields.
+     */
+    private Query changedSince(SyncCheckpointDocument checkpoint, LocalDateTime settledBefore) {
+        Criteria after = new Criteria().orOperator(
+                Criteria.where("updatedAt").gt(checkpoint.getUpdatedAt()),
+                new Criteria().andOperator(
+                        Criteria.where("updatedAt").is(checkpoint.getUpdatedAt()),
+                        Criteria.where("_id").gt(checkpoint.getUserId())));
+        return new Query(new Criteria().andOperator(after, Criteria.where("updatedAt").lt(settledBefore)))
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt", "_id"))
+                .limit(batchSize);
+    }
+}
@@ -0,0 +1,110 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * One-off migration that merges customers, sellers and administrators into the {@code users}
+ * collection with a role discriminator and role sub-documents.
+ * Profile fields come from the role collections. The password hash and creation date already in
+ * {@code users} are kept, because password changes were only ever written there. The migration
+ * can be re-run safely.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.user-storage-migration.enabled", havingValue = "true")
+public class UserStorageMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long customers = merge(CustomerDocument.class, document -> baseUpdate(
+                document.getIdentityDocument(), document.getEmail(), document.getFullName(),
+                document.getPasswordHash(), document.getRole(), document.getCreatedAt())
+                .set("customer", CustomerProfileDocument.builder()
+                        .phoneNumber(document.getPhoneNumber())
+                        .build()), CustomerDocument::getUserId);
+
+        long sellers = merge(SellerDocument.class, document -> baseUpdate(
+                document.getIdentityDocument(), document.getEmail(), document.getFullName(),
+                document.getPasswordHash(), document.getRole(), document.getCreatedAt())
+                .set("seller", SellerProfileDocument.builder()
+                        .companyName(document.getCompanyName())
+                        .businessAddress(document.getBusinessAddress())
+                        .build()), SellerDocument::getUserId);
+
+        long admins = merge(AdminDocument.class, document -> baseUpdate(
+                document.getIdentityDocument(), document.getEmail(), document.getFullName(),
+                document.getPasswordHash(), document.getRole(), document.getCreatedAt()),
+                AdminDocument::getUserId);
+
+        log.info("User storage migration merged {} customers, {} sellers and {} admins into users",
+                customers, sellers, admins);
+    }
+
+    private <T> long merge(Class<T> type, Function<T, Update> toUpdate, Function<T, String> idOf) {
+        long merged = 0;
+        List<Pair<Query, Update>> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Stream<T> documents = mongoTemplate.stream(new Query(), type)) {
+            for (T document : (Iterable<T>) documents::iterator) {
+                batch.add(Pair.of(new Query(Criteria.where("_id").is(idOf.apply(document))),
+                        toUpdate.apply(document)));
+                if (batch.size() == BATCH_SIZE) {
+                    merged += flush(batch);
+                }
+            }
+        }
+        return merged + flush(batch);
+    }
+
+    private int flush(List<Pair<Query, Update>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserDocument.class);
+        operations.upsert(batch);
+        operations.execute();
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static Update baseUpdate(String identityDocument, String email, String fullName,
+                                     String passwordHash, Role role, LocalDateTime createdAt) {
+        return new Update()
+                .set("identityDocument", identityDocument)
+                .set("email", email)
+                .set("fullName", fullName)
+                .set("role", role)
+                .setOnInsert("passwordHash", passwordHash)
+                .setOnInsert("createdAt", createdAt);
+    }
+}
@@ -0,0 +1,69 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.ValueObject.VerificationCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores a verification code as a Redis hash of plain fields, without type metadata:
+ * {@code code} as text, {@code exp} as epoch millis and {@code used} as 0 or 1. The email is the
+ * key itself, so it is not repeated in the value.
+ */
+final class VerificationCodeRedisCodec {
+
+    static final byte[] CODE = bytes("code");
+    static final byte[] EXPIRES_AT = bytes("exp");
+    static final byte[] USED = bytes("used");
+
+    private static final byte[] TRUE = bytes("1");
+    private static final byte[] FALSE = bytes("0");
+
+    private VerificationCodeRedisCodec() {
+    }
+
+    static Map<byte[], byte[]> encode(VerificationCode verificationCode) {
+        Map<byte[], byte[]> fields = new HashMap<>(4);
+        fields.put(CODE, bytes(verificationCode.code()));
+        fields.put(EXPIRES_AT, bytes(Long.toString(epochMillis(verificationCode.expiresAt()))));
+        fields.put(USED, verificationCode.used() ? TRUE : FALSE);
+        return fields;
+    }
+
+    /**
+     * @return the code, or null when the hash is empty (missing key) or incomplete
+     */
+    static VerificationCode decode(String email, Map<byte[], byte[]> fields) {
+        String code = null;
+        Long expiresAt = null;
+        boolean used = false;
+        // byte[] keys have identity equality, so match field names by content
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            String name = new String(field.getKey(), StandardCharsets.UTF_8);
+            String value = new String(field.getValue(), StandardCharsets.UTF_8);
+            switch (name) {
+                case "code" -> code = value;
+                case "exp" -> expiresAt = Long.parseLong(value);
+                case "used" -> used = "1".equals(value);
+                default -> { }
+            }
+        }
+        if (code == null || expiresAt == null) {
+            return null;
+        }
+        LocalDateTime expires = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault());
+        return new VerificationCode(code, expires, email, used);
+    }
+
+    static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
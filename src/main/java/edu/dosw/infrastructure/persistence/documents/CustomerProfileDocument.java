@@ -0,0 +1,16 @@
+package edu.dosw.infrastructure.persistence.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerProfileDocument {
+    @Field("phone_number")
+    private String phoneNumber;
+}
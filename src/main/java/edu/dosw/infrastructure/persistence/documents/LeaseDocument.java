@@ -0,0 +1,26 @@
+package edu.dosw.infrastructure.persistence.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-limited claim on a background job, so only one replica runs it at a time. Whoever holds
+ * an unexpired lease is its {@code owner}; an expired one can be taken by anybody.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "leases")
+public class LeaseDocument {
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package edu.dosw.infrastructure.persistence.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerProfileDocument {
+    @Field("company_name")
+    private String companyName;
+
+    @Field("business_address")
+    private String businessAddress;
+}
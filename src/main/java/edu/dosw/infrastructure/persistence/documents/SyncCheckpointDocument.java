@@ -0,0 +1,25 @@
+package edu.dosw.infrastructure.persistence.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of an incremental scan over {@code users}, ordered by (updatedAt, _id).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sync_checkpoints")
+public class SyncCheckpointDocument {
+    @Id
+    private String name;
+    private LocalDateTime updatedAt;
+    private String userId;
+}
@@ -6,7 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 
@@ -24,4 +26,14 @@ public class UserDocument {
     private String passwordHash;
     private Role role;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    @Field("customer")
+    private CustomerProfileDocument customerProfile;
+
+    @Field("seller")
+    private SellerProfileDocument sellerProfile;
+}
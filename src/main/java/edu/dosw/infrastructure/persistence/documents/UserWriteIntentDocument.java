@@ -0,0 +1,26 @@
+package edu.dosw.infrastructure.persistence.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry recording that a split-storage write of {@code userId} is in progress. It is removed
+ * once both collections are written; any entry left behind marks a user to reconcile.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "user_write_intents")
+public class UserWriteIntentDocument {
+    @Id
+    private String id;
+    private String userId;
+    private LocalDateTime createdAt;
+}
@@ -2,7 +2,9 @@ package edu.dosw.infrastructure.persistence.mappers;
 
 
 import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserExportRecord;
 import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.infrastructure.persistence.documents.AdminDocument;
 import org.springframework.stereotype.Component;
 
@@ -18,18 +20,35 @@ public class AdminMongoMapper {
                 .passwordHash(admin.getPasswordHash().value())
                 .role(admin.getRole())
                 .createdAt(admin.getCreatedAt())
+                .version(admin.getVersion())
                 .build();
     }
 
     public Admin toDomain(AdminDocument document) {
         if (document == null) return null;
 
-        return new Admin(
+        Admin admin = new Admin(
                 new UserId(document.getUserId()),
                 new IdentityDocument(document.getIdentityDocument()),
-                new Email(document.getEmail()),
+                Email.of(document.getEmail()),
                 new FullName(document.getFullName()),
                 new PasswordHash(document.getPasswordHash())
         );
+        admin.setVersion(document.getVersion());
+        return admin;
     }
-}
\ No newline at end of file
+
+    public UserExportRecord toExportRecord(AdminDocument document) {
+        return new UserExportRecord(
+                new UserId(document.getUserId()),
+                new IdentityDocument(document.getIdentityDocument()),
+                Email.of(document.getEmail()),
+                new FullName(document.getFullName()),
+                Role.ADMIN,
+                document.getCreatedAt(),
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -2,7 +2,9 @@ package edu.dosw.infrastructure.persistence.mappers;
 
 
 import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserExportRecord;
 import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
 import org.springframework.stereotype.Component;
 
@@ -19,19 +21,36 @@ public class CustomerMongoMapper {
                 .role(customer.getRole())
                 .phoneNumber(customer.getPhoneNumber())
                 .createdAt(customer.getCreatedAt())
+                .version(customer.getVersion())
                 .build();
     }
 
     public Customer toDomain(CustomerDocument document) {
         if (document == null) return null;
 
-        return new Customer(
+        Customer customer = new Customer(
                 new UserId(document.getUserId()),
                 new IdentityDocument(document.getIdentityDocument()),
-                new Email(document.getEmail()),
+                Email.of(document.getEmail()),
                 new FullName(document.getFullName()),
                 new PasswordHash(document.getPasswordHash()),
                 document.getPhoneNumber()
         );
+        customer.setVersion(document.getVersion());
+        return customer;
     }
-}
\ No newline at end of file
+
+    public UserExportRecord toExportRecord(CustomerDocument document) {
+        return new UserExportRecord(
+                new UserId(document.getUserId()),
+                new IdentityDocument(document.getIdentityDocument()),
+                Email.of(document.getEmail()),
+                new FullName(document.getFullName()),
+                Role.CUSTOMER,
+                document.getCreatedAt(),
+                document.getPhoneNumber(),
+                null,
+                null
+        );
+    }
+}
@@ -2,7 +2,10 @@ package edu.dosw.infrastructure.persistence.mappers;
 
 
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
+import edu.dosw.domain.model.UserExportRecord;
 import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
 import edu.dosw.infrastructure.persistence.documents.SellerDocument;
 import org.springframework.stereotype.Component;
 
@@ -20,20 +23,47 @@ public class SellerMongoMapper {
                 .companyName(seller.getCompanyName())
                 .businessAddress(seller.getBusinessAddress())
                 .createdAt(seller.getCreatedAt())
+                .version(seller.getVersion())
                 .build();
     }
 
     public Seller toDomain(SellerDocument document) {
         if (document == null) return null;
 
-        return new Seller(
+        Seller seller = new Seller(
                 new UserId(document.getUserId()),
                 new IdentityDocument(document.getIdentityDocument()),
-                new Email(document.getEmail()),
+                Email.of(document.getEmail()),
                 new FullName(document.getFullName()),
                 new PasswordHash(document.getPasswordHash()),
                 document.getCompanyName(),
                 document.getBusinessAddress()
         );
+        seller.setVersion(document.getVersion());
+        return seller;
     }
-}
\ No newline at end of file
+
+    public SellerSummary toSummary(SellerDocument document) {
+        return new SellerSummary(
+                new UserId(document.getUserId()),
+                Email.of(document.getEmail()),
+                new FullName(document.getFullName()),
+                document.getCompanyName(),
+                document.getBusinessAddress()
+        );
+    }
+
+    public UserExportRecord toExportRecord(SellerDocument document) {
+        return new UserExportRecord(
+                new UserId(document.getUserId()),
+                new IdentityDocument(document.getIdentityDocument()),
+                Email.of(document.getEmail()),
+                new FullName(document.getFullName()),
+                Role.SELLER,
+                document.getCreatedAt(),
+                null,
+                document.getCompanyName(),
+                document.getBusinessAddress()
+        );
+    }
+}
@@ -1,7 +1,14 @@
 package edu.dosw.infrastructure.persistence.mappers;
 
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserExportRecord;
 import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.infrastructure.persistence.documents.CustomerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerProfileDocument;
 import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import org.springframework.stereotype.Component;
 
@@ -9,7 +16,7 @@ import org.springframework.stereotype.Component;
 public class UserMongoMapper {
 
     public UserDocument toDocument(User user) {
-        return UserDocument.builder()
+        UserDocument.UserDocumentBuilder builder = UserDocument.builder()
                 .userId(user.getUserId().value())
                 .identityDocument(user.getIdentityDocument().value())
                 .email(user.getEmail().value())
@@ -17,19 +24,80 @@ public class UserMongoMapper {
                 .passwordHash(user.getPasswordHash().value())
                 .role(user.getRole())
                 .createdAt(user.getCreatedAt())
-                .build();
+                .version(user.getVersion());
+
+        if (user instanceof Customer customer) {
+            builder.customerProfile(CustomerProfileDocument.builder()
+                    .phoneNumber(customer.getPhoneNumber())
+                    .build());
+        } else if (user instanceof Seller seller) {
+            builder.sellerProfile(SellerProfileDocument.builder()
+                    .companyName(seller.getCompanyName())
+                    .businessAddress(seller.getBusinessAddress())
+                    .build());
+        }
+        return builder.build();
     }
 
     public User toDomain(UserDocument document) {
         if (document == null) return null;
 
-        return new User(
+        User user = toRoleModel(document);
+        user.setVersion(document.getVersion());
+        return user;
+    }
+
+    private User toRoleModel(UserDocument document) {
+        UserId userId = new UserId(document.getUserId());
+        IdentityDocument identityDocument = new IdentityDocument(document.getIdentityDocument());
+        Email email = Email.of(document.getEmail());
+        FullName fullName = new FullName(document.getFullName());
+        PasswordHash passwordHash = new PasswordHash(document.getPasswordHash());
+
+        if (document.getRole() == null) {
+            return new User(userId, identityDocument, email, fullName, passwordHash, null);
+        }
+
+        return switch (document.getRole()) {
+            case CUSTOMER -> {
+                CustomerProfileDocument profile = document.getCustomerProfile();
+                yield new Customer(userId, identityDocument, email, fullName, passwordHash,
+                        profile != null ? profile.getPhoneNumber() : null);
+            }
+            case SELLER -> {
+                SellerProfileDocument profile = document.getSellerProfile();
+                yield new Seller(userId, identityDocument, email, fullName, passwordHash,
+                        profile != null ? profile.getCompanyName() : null,
+                        profile != null ? profile.getBusinessAddress() : null);
+            }
+            case ADMIN -> new Admin(userId, identityDocument, email, fullName, passwordHash);
+        };
+    }
+
+    public SellerSummary toSellerSummary(UserDocument document) {
+        SellerProfileDocument profile = document.getSellerProfile();
+        return new SellerSummary(
+                new UserId(document.getUserId()),
+                Email.of(document.getEmail()),
+                new FullName(document.getFullName()),
+                profile != null ? profile.getCompanyName() : null,
+                profile != null ? profile.getBusinessAddress() : null
+        );
+    }
+
+    public UserExportRecord toExportRecord(UserDocument document) {
+        CustomerProfileDocument customer = document.getCustomerProfile();
+        SellerProfileDocument seller = document.getSellerProfile();
+        return new UserExportRecord(
                 new UserId(document.getUserId()),
                 new IdentityDocument(document.getIdentityDocument()),
-                new Email(document.getEmail()),
+                Email.of(document.getEmail()),
                 new FullName(document.getFullName()),
-                new PasswordHash(document.getPasswordHash()),
-                document.getRole()
+                document.getRole(),
+                document.getCreatedAt(),
+                customer != null ? customer.getPhoneNumber() : null,
+                seller != null ? seller.getCompanyName() : null,
+                seller != null ? seller.getBusinessAddress() : null
         );
     }
-}
\ No newline at end of file
+}
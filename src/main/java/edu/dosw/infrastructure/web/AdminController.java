@@ -7,10 +7,15 @@ import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.application.dto.AdminDTO;
 import edu.dosw.application.dto.AdminUpdateDTO;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.ports.UserUseCase.BulkImportUsersUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/users/admins")
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ public class AdminController {
     private final GetAdminUseCase getAdminUseCase;
     private final UpdateAdminUseCase updateAdminUseCase;
     private final DeleteAdminUseCase deleteAdminUseCase;
+    private final BulkImportUsersUseCase bulkImportUsersUseCase;
     private final AdminWebMapper adminWebMapper;
 
     @PostMapping
@@ -29,6 +35,13 @@ public class AdminController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResultDTO> bulkCreateAdmins(@RequestBody List<AdminDTO> adminDTOs) {
+        var commands = adminDTOs.stream().map(adminWebMapper::toCommand).toList();
+        BulkImportResultDTO result = bulkImportUsersUseCase.importAdmins(commands);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{adminId}")
     public ResponseEntity<AdminDTO> getAdmin(@PathVariable String adminId) {
         AdminDTO admin = getAdminUseCase.getAdminById(new UserId(adminId));
@@ -48,4 +61,11 @@ public class AdminController {
         deleteAdminUseCase.deleteAdmin(new UserId(adminId));
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDTO> bulkDeleteAdmins(@RequestBody List<String> adminIds) {
+        var ids = adminIds.stream().map(UserId::new).toList();
+        BulkDeleteResultDTO result = deleteAdminUseCase.deleteAdmins(ids);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
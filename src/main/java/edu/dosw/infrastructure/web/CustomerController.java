@@ -11,10 +11,15 @@ import edu.dosw.application.dto.CustomerDTO;
 import edu.dosw.application.dto.CustomerUpdateDTO;
 import edu.dosw.application.dto.PasswordUpdateRequestDTO;
 import edu.dosw.infrastructure.web.mappers.CustomerWebMapper;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.ports.UserUseCase.BulkImportUsersUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/users/customers")
 @RequiredArgsConstructor
@@ -25,6 +30,7 @@ public class CustomerController {
     private final UpdateCustomerUseCase updateCustomerUseCase;
     private final UpdatePasswordUseCase updatePasswordUseCase;
     private final DeleteCustomerUseCase deleteCustomerUseCase;
+    private final BulkImportUsersUseCase bulkImportUsersUseCase;
     private final CustomerWebMapper customerWebMapper;
 
     @PostMapping
@@ -34,6 +40,13 @@ public class CustomerController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResultDTO> bulkCreateCustomers(@RequestBody List<CustomerDTO> customerDTOs) {
+        var commands = customerDTOs.stream().map(customerWebMapper::toCommand).toList();
+        BulkImportResultDTO result = bulkImportUsersUseCase.importCustomers(commands);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{customerId}")
     public ResponseEntity<CustomerDTO> getCustomer(@PathVariable String customerId) {
         CustomerDTO customer = getCustomerUseCase.getCustomerById(new UserId(customerId));
@@ -61,4 +74,11 @@ public class CustomerController {
         deleteCustomerUseCase.deleteCustomer(new UserId(customerId));
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDTO> bulkDeleteCustomers(@RequestBody List<String> customerIds) {
+        var ids = customerIds.stream().map(UserId::new).toList();
+        BulkDeleteResultDTO result = deleteCustomerUseCase.deleteCustomers(ids);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class PasswordResetController {
 
     @PostMapping("/password/reset-request")
     public ResponseEntity<VerificationResponse> requestPasswordReset(@RequestBody @Valid PasswordResetRequest request) {
-        Email email = new Email(request.email());
+        Email email = Email.of(request.email());
         passwordResetService.requestPasswordReset(email);
 
         return ResponseEntity.ok(new VerificationResponse(true, "If the email exists, a verification code has been sent"));
@@ -25,7 +25,7 @@ public class PasswordResetController {
 
     @PostMapping("/password/verify-code")
     public ResponseEntity<VerificationResponse> verifyResetCode(@RequestBody @Valid VerifyCodeRequest request) {
-        Email email = new Email(request.email());
+        Email email = Email.of(request.email());
         passwordResetService.verifyCode(email, request.code());
 
         return ResponseEntity.ok(new VerificationResponse(true, "Code verified successfully"));
@@ -33,7 +33,7 @@ public class PasswordResetController {
 
     @PutMapping("/password/reset")
     public ResponseEntity<VerificationResponse> resetPassword(@RequestBody @Valid PasswordResetConfirmRequest request) {
-        Email email = new Email(request.email());
+        Email email = Email.of(request.email());
         passwordResetService.resetPassword(email, request.code(), request.newPassword());
 
         return ResponseEntity.ok(new VerificationResponse(true, "Password reset successfully"));
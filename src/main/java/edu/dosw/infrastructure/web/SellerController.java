@@ -3,11 +3,14 @@ package edu.dosw.infrastructure.web;
 import edu.dosw.application.ports.SellerUseCases.*;
 import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
 import edu.dosw.application.dto.command.SellerCommands.UpdateSellerCommand;
-import edu.dosw.domain.model.Seller;
 import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.application.dto.SellerDTO;
+import edu.dosw.application.dto.SellerPageDTO;
 import edu.dosw.application.dto.SellerUpdateDTO;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.ports.UserUseCase.BulkImportUsersUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +27,7 @@ public class SellerController {
     private final GetAllSellersUseCase getAllSellersUseCase;
     private final UpdateSellerUseCase updateSellerUseCase;
     private final DeleteSellerUseCase deleteSellerUseCase;
+    private final BulkImportUsersUseCase bulkImportUsersUseCase;
     private final SellerWebMapper sellerWebMapper;
 
     @PostMapping
@@ -33,6 +37,13 @@ public class SellerController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResultDTO> bulkCreateSellers(@RequestBody List<SellerDTO> sellerDTOs) {
+        var commands = sellerDTOs.stream().map(sellerWebMapper::toCommand).toList();
+        BulkImportResultDTO result = bulkImportUsersUseCase.importSellers(commands);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{sellerId}")
     public ResponseEntity<SellerDTO> getSeller(@PathVariable String sellerId) {
         SellerDTO seller = getSellerUseCase.getSellerById(new UserId(sellerId));
@@ -40,14 +51,16 @@ public class SellerController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Seller>> getAllSellers() {
-        List<Seller> sellers = getAllSellersUseCase.getAllSellers();
+    public ResponseEntity<SellerPageDTO> getAllSellers(@RequestParam(required = false) String continuationToken,
+                                                       @RequestParam(required = false) Integer pageSize) {
+        SellerPageDTO sellers = getAllSellersUseCase.getAllSellers(continuationToken, pageSize);
         return ResponseEntity.ok(sellers);
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<Seller>> getPendingSellers() {
-        List<Seller> sellers = getAllSellersUseCase.getPendingSellers();
+    public ResponseEntity<SellerPageDTO> getPendingSellers(@RequestParam(required = false) String continuationToken,
+                                                           @RequestParam(required = false) Integer pageSize) {
+        SellerPageDTO sellers = getAllSellersUseCase.getPendingSellers(continuationToken, pageSize);
         return ResponseEntity.ok(sellers);
     }
 
@@ -64,4 +77,11 @@ public class SellerController {
         deleteSellerUseCase.deleteSeller(new UserId(sellerId));
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDTO> bulkDeleteSellers(@RequestBody List<String> sellerIds) {
+        var ids = sellerIds.stream().map(UserId::new).toList();
+        BulkDeleteResultDTO result = deleteSellerUseCase.deleteSellers(ids);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
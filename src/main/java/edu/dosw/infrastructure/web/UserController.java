@@ -16,14 +16,14 @@ public class UserController {
 
     @GetMapping("/credentials/{email}")
     public ResponseEntity<UserCredentialsDTO> getUserCredentials(@PathVariable String email) {
-        UserCredentialsDTO credentials = getUserCredentialsUseCase.getCredentialsByEmail(new Email(email));
+        UserCredentialsDTO credentials = getUserCredentialsUseCase.getCredentialsByEmail(Email.of(email));
         return ResponseEntity.ok(credentials);
     }
 
     @GetMapping("/credentials/auth")
     public ResponseEntity<UserCredentialsDTO> authenticateUser(@RequestParam String email,
                                                                @RequestParam String password) {
-        UserCredentialsDTO credentials = getUserCredentialsUseCase.getUserByEmailAndPassword(new Email(email), password);
+        UserCredentialsDTO credentials = getUserCredentialsUseCase.getUserByEmailAndPassword(Email.of(email), password);
         return ResponseEntity.ok(credentials);
     }
 }
\ No newline at end of file
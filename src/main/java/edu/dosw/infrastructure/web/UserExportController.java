@@ -0,0 +1,86 @@
+package edu.dosw.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.dosw.application.ports.UserUseCase.ExportUsersUseCase;
+import edu.dosw.domain.model.enums.Role;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Newline-delimited JSON exports for batch consumers. Each user is serialized and written
+ * as it comes off the database cursor, so memory use does not grow with the collection.
+ * The export runs on the request thread on purpose: it keeps async request timeouts out of
+ * long nightly runs. A failure before the first buffer is flushed gets the usual error response;
+ * one after it propagates, so the container aborts the connection instead of ending the stream.
+ */
+@RestController
+@RequestMapping("/users/export")
+@RequiredArgsConstructor
+public class UserExportController {
+
+    static final String NDJSON = "application/x-ndjson";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/sellers", produces = NDJSON)
+    public void exportSellers(@RequestParam(required = false)
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                              HttpServletResponse response) throws IOException {
+        export(Role.SELLER, since, response);
+    }
+
+    @GetMapping(value = "/customers", produces = NDJSON)
+    public void exportCustomers(@RequestParam(required = false)
+                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                                HttpServletResponse response) throws IOException {
+        export(Role.CUSTOMER, since, response);
+    }
+
+    @GetMapping(value = "/admins", produces = NDJSON)
+    public void exportAdmins(@RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                             HttpServletResponse response) throws IOException {
+        export(Role.ADMIN, since, response);
+    }
+
+    private void export(Role role, LocalDateTime since, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        ObjectWriter writer = objectMapper.writer();
+
+        // Only flushed once the export completed: flushing on a failure would commit a 200 with the
+        // lines written so far, which the error handler could no longer turn into an error status
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        try {
+            exportUsersUseCase.exportUsers(role, since, user -> {
+                try {
+                    out.write(writer.writeValueAsBytes(user));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                // Drops the NDJSON content type along with the buffer, so the error body can be written
+                response.reset();
+            }
+            if (e instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+        out.flush();
+    }
+}
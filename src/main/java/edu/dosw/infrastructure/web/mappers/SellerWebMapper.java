@@ -3,7 +3,9 @@ package edu.dosw.infrastructure.web.mappers;
 import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
 import edu.dosw.application.dto.command.SellerCommands.UpdateSellerCommand;
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.application.dto.SellerDTO;
+import edu.dosw.application.dto.SellerSummaryDTO;
 import edu.dosw.application.dto.SellerUpdateDTO;
 import org.springframework.stereotype.Component;
 
@@ -51,4 +53,14 @@ public class SellerWebMapper {
                 seller.getBusinessAddress()
         );
     }
-}
\ No newline at end of file
+
+    public SellerSummaryDTO toSummaryDTO(SellerSummary summary) {
+        return new SellerSummaryDTO(
+                summary.userId().value(),
+                summary.email().value(),
+                summary.fullName().value(),
+                summary.companyName(),
+                summary.businessAddress()
+        );
+    }
+}
@@ -1,12 +1,118 @@
 package edu.dosw.utils;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
+/**
+ * Generates user ids, which are also the {@code _id} of their Mongo documents. The strategy is set
+ * with {@code app.ids.strategy}:
+ * <ul>
+ *   <li>{@code ulid} (default): 26 Crockford base32 characters;</li>
+ *   <li>{@code uuid-v7}: the 36-character UUID text form, version 7;</li>
+ *   <li>{@code uuid-v4}: random UUIDs, as every id issued before the others existed.</li>
+ * </ul>
+ * ULIDs and UUIDv7s start with the creation millisecond followed by a 12-bit sequence, so their
+ * text sorts in generation order and new documents land at the right edge of the {@code _id}
+ * index instead of on random pages. The millisecond and sequence advance together with a CAS, and
+ * the remaining bits are random, so ids from other instances do not collide.
+ */
 @Component
 public class IdGenerator {
 
+    public enum Strategy { ULID, UUID_V7, UUID_V4 }
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final byte[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    private static final int ULID_LENGTH = 26;
+
+    // The kind of source UUID.randomUUID uses, so no strategy makes ids easier to guess
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Strategy strategy;
+    private final LongSupplier clock;
+    // Milliseconds shifted left by SEQUENCE_BITS, plus the sequence within that millisecond
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Autowired
+    public IdGenerator(@Value("${app.ids.strategy:ulid}") String strategy) {
+        this(Strategy.valueOf(strategy.trim().replace('-', '_').toUpperCase(Locale.ROOT)), System::currentTimeMillis);
+    }
+
+    IdGenerator(Strategy strategy, LongSupplier clock) {
+        this.strategy = strategy;
+        this.clock = clock;
+    }
+
     public String generateUniqueId() {
-        return UUID.randomUUID().toString();
+        return switch (strategy) {
+            case ULID -> ulid();
+            case UUID_V7 -> uuidV7();
+            case UUID_V4 -> UUID.randomUUID().toString();
+        };
+    }
+
+    private String ulid() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        byte[] random = randomBytes();
+        // 48-bit millisecond, 12-bit sequence and 68 random bits, 130 bits with two leading zeros
+        long high = timestampAndSequence << 4 | (random[8] & 0xF);
+        long low = toLong(random);
+        byte[] text = new byte[ULID_LENGTH];
+        for (int i = ULID_LENGTH - 1, shift = 0; i >= 0; i--, shift += 5) {
+            text[i] = CROCKFORD[fiveBits(high, low, shift)];
+        }
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    private String uuidV7() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long millis = timestampAndSequence >>> SEQUENCE_BITS;
+        long mostSignificant = millis << 16 | 0x7000L | (timestampAndSequence & SEQUENCE_MASK);
+        long leastSignificant = toLong(randomBytes()) >>> 2 | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant).toString();
+    }
+
+    /**
+     * The current millisecond with sequence 0, or one past the last value when that is not behind:
+     * a burst of more than 4096 ids in a millisecond, or a clock that went back, borrows from the
+     * following milliseconds rather than repeating an id prefix.
+     */
+    private long nextTimestampAndSequence() {
+        long now = clock.getAsLong() << SEQUENCE_BITS;
+        return lastTimestampAndSequence.updateAndGet(last -> Math.max(now, last + 1));
+    }
+
+    private static int fiveBits(long high, long low, int shift) {
+        if (shift >= 64) {
+            return (int) (high >>> (shift - 64)) & 31;
+        }
+        if (shift > 59) {
+            return (int) (low >>> shift | high << (64 - shift)) & 31;
+        }
+        return (int) (low >>> shift) & 31;
+    }
+
+    // One call for all the random bits of an id: each SecureRandom call takes its lock
+    private static byte[] randomBytes() {
+        byte[] bytes = new byte[9];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static long toLong(byte[] bytes) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+-- Checks a password-reset code in a single atomic step.
+-- KEYS[1]  verification code hash (fields: code, exp, used)
+-- KEYS[2]  failed attempts of the email, kept when a new code is issued so that re-issuing does
+--          not reset them; it expires with the latest code
+-- ARGV[1]  submitted code
+-- ARGV[2]  current time, epoch millis
+-- ARGV[3]  failed attempts allowed before the email is locked
+-- ARGV[4]  "1" to mark the code used when it matches
+-- Returns the name of a VerificationCodeCheck constant.
+local stored = redis.call('HMGET', KEYS[1], 'code', 'exp', 'used')
+if not stored[1] then
+    return 'NOT_FOUND'
+end
+if stored[3] == '1' then
+    return 'USED'
+end
+if tonumber(stored[2]) <= tonumber(ARGV[2]) then
+    return 'EXPIRED'
+end
+if tonumber(redis.call('GET', KEYS[2]) or '0') >= tonumber(ARGV[3]) then
+    return 'LOCKED'
+end
+if stored[1] ~= ARGV[1] then
+    redis.call('INCR', KEYS[2])
+    redis.call('PEXPIREAT', KEYS[2], stored[2])
+    return 'INVALID'
+end
+if ARGV[4] == '1' then
+    redis.call('HSET', KEYS[1], 'used', '1')
+    redis.call('DEL', KEYS[2])
+end
+return 'VALID'
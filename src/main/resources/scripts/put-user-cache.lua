@@ -0,0 +1,14 @@
+-- Caches a user and its email pointer unless the user was evicted moments ago.
+-- KEYS[1]  user entry
+-- KEYS[2]  email pointer
+-- KEYS[3]  eviction tombstone of the user
+-- ARGV[1]  serialized user
+-- ARGV[2]  serialized userId
+-- ARGV[3]  time to live, millis
+-- Returns 1 when stored, 0 when the tombstone held it back.
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+return 1
@@ -0,0 +1,87 @@
+package edu.dosw;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.infrastructure.persistence.CachingUserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the whole application against in-process Mongo and Redis, so that a bean the context
+ * cannot wire fails the build instead of the deployment.
+ */
+@SpringBootTest
+@DisplayName("Tests para el contexto de la aplicación")
+class ApplicationContextTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final String MONGO_URI = MONGO.bindAndGetConnectionString();
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS = startRedis();
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void standIns(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> MONGO_URI);
+        registry.add("spring.data.mongodb.database", () -> "users-management-db");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+        // The stand-in has no transactions nor replica-set detection
+        registry.add("app.persistence.split-writes.mode", () -> "outbox");
+        // Skips the startup calibration, which hashes repeatedly until it finds the cost
+        registry.add("app.security.bcrypt.strength", () -> 10);
+    }
+
+    @AfterAll
+    static void stopStandIns() throws IOException {
+        try {
+            REDIS.stop();
+        } finally {
+            MONGO.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe levantar el contexto con el repositorio de usuarios en caché")
+    void shouldLoadContextWithCachingUserRepository() {
+        // When
+        UserRepositoryPort userRepository = context.getBean(UserRepositoryPort.class);
+
+        // Then
+        assertInstanceOf(CachingUserRepository.class, userRepository);
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer redis = new RedisServer(REDIS_PORT);
+            redis.start();
+            return redis;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package edu.dosw.application.services.AdminServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.AdminDTO;
 import edu.dosw.application.dto.command.AdminCommands.CreateAdminCommand;
 import edu.dosw.domain.model.Admin;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.AdminRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
 import edu.dosw.utils.IdGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,9 +31,6 @@ class CreateAdminServiceTest {
     @Mock
     private AdminRepositoryPort adminRepository;
 
-    @Mock
-    private UserRepositoryPort userRepository;
-
     @Mock
     private PasswordEncoderPort passwordEncoder;
 
@@ -41,6 +40,9 @@ class CreateAdminServiceTest {
     @Mock
     private AdminWebMapper adminWebMapper;
 
+    @Mock
+    private UserEventPublisherPort eventPublisher;
+
     @InjectMocks
     private CreateAdminService createAdminService;
 
@@ -77,11 +79,9 @@ class CreateAdminServiceTest {
     @DisplayName("Debe crear un admin exitosamente")
     void shouldCreateAdminSuccessfully() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn("test-user-id");
         when(passwordEncoder.encode("SecurePass123")).thenReturn("encodedPassword");
         when(adminRepository.save(any(Admin.class))).thenReturn(savedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(savedAdmin);
         when(adminWebMapper.toDTO(any(Admin.class))).thenReturn(expectedDTO);
 
         // When
@@ -94,31 +94,30 @@ class CreateAdminServiceTest {
         assertEquals("Admin Test", result.fullName());
         assertEquals("encodedPassword", result.password());
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
         verify(idGenerator, times(1)).generateUniqueId();
         verify(passwordEncoder, times(1)).encode("SecurePass123");
         verify(adminRepository, times(1)).save(any(Admin.class));
-        verify(userRepository, times(1)).save(any(Admin.class));
         verify(adminWebMapper, times(1)).toDTO(any(Admin.class));
+        verify(eventPublisher).publish(UserEvent.created(savedAdmin));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        when(idGenerator.generateUniqueId()).thenReturn("test-user-id");
+        when(passwordEncoder.encode("SecurePass123")).thenReturn("encodedPassword");
+        when(adminRepository.save(any(Admin.class)))
+                .thenThrow(new ResourceAlreadyExistsException("A user with this email already exists"));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> createAdminService.createAdmin(validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Admin with this email already exists"));
-
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(adminRepository, never()).save(any(Admin.class));
-        verify(passwordEncoder, never()).encode(anyString());
+        verify(adminRepository, times(1)).save(any(Admin.class));
+        verify(adminWebMapper, never()).toDTO(any(Admin.class));
     }
 
     @Test
@@ -137,7 +136,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -156,7 +154,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -175,7 +172,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -195,7 +191,6 @@ class CreateAdminServiceTest {
 
         verify(passwordEncoder, never()).encode(anyString());
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -214,7 +209,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -233,7 +227,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -252,7 +245,6 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
@@ -271,18 +263,15 @@ class CreateAdminServiceTest {
                 () -> createAdminService.createAdmin(invalidCommand));
 
         verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
     }
 
     @Test
     @DisplayName("Debe codificar la contraseña correctamente antes de guardar")
     void shouldEncodePasswordBeforeSaving() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn("test-user-id");
         when(passwordEncoder.encode("SecurePass123")).thenReturn("encodedPassword");
         when(adminRepository.save(any(Admin.class))).thenReturn(savedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(savedAdmin);
         when(adminWebMapper.toDTO(any(Admin.class))).thenReturn(expectedDTO);
 
         // When
@@ -294,22 +283,18 @@ class CreateAdminServiceTest {
     }
 
     @Test
-    @DisplayName("Debe guardar primero en adminRepository y luego en userRepository")
-    void shouldSaveInCorrectOrder() {
+    @DisplayName("Debe guardar una sola vez a traves de adminRepository")
+    void shouldSaveOnlyThroughAdminRepository() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn("test-user-id");
         when(passwordEncoder.encode("SecurePass123")).thenReturn("encodedPassword");
         when(adminRepository.save(any(Admin.class))).thenReturn(savedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(savedAdmin);
         when(adminWebMapper.toDTO(any(Admin.class))).thenReturn(expectedDTO);
 
         // When
         createAdminService.createAdmin(validCommand);
 
         // Then
-        var inOrder = inOrder(adminRepository, userRepository);
-        inOrder.verify(adminRepository).save(any(Admin.class));
-        inOrder.verify(userRepository).save(any(Admin.class));
+        verify(adminRepository, times(1)).save(any(Admin.class));
     }
 }
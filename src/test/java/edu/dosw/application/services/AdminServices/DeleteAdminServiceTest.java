@@ -1,19 +1,23 @@
 package edu.dosw.application.services.AdminServices;
 
-import edu.dosw.domain.model.Admin;
-import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.ports.AdminRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,49 +31,37 @@ class DeleteAdminServiceTest {
     private AdminRepositoryPort adminRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private UserEventPublisherPort eventPublisher;
 
-    @InjectMocks
     private DeleteAdminService deleteAdminService;
 
     private UserId userId;
-    private Admin existingAdmin;
 
     @BeforeEach
     void setUp() {
-        userId = new UserId("test-user-id");
-
-        existingAdmin = new Admin(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("admin@eci.edu.co"),
-                new FullName("Admin Test"),
-                new PasswordHash("encodedPassword")
-        );
+        deleteAdminService = new DeleteAdminService(adminRepository, eventPublisher, 3);
+        userId = new UserId("test-admin-id");
     }
 
     @Test
     @DisplayName("Debe eliminar un admin exitosamente")
     void shouldDeleteAdminSuccessfully() {
         // Given
-        when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        doNothing().when(adminRepository).delete(existingAdmin);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(adminRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> deleteAdminService.deleteAdmin(userId));
 
         // Then
-        verify(adminRepository, times(1)).findByUserId(userId);
-        verify(adminRepository, times(1)).delete(existingAdmin);
-        verify(userRepository, times(1)).deleteByUserId(userId);
+        verify(adminRepository, times(1)).deleteByUserId(userId);
+        verify(eventPublisher).publish(UserEvent.deleted(userId, Role.ADMIN));
     }
 
     @Test
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el admin no existe")
     void shouldThrowExceptionWhenAdminNotFound() {
         // Given
-        when(adminRepository.findByUserId(userId)).thenReturn(Optional.empty());
+        when(adminRepository.deleteByUserId(userId)).thenReturn(false);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -78,42 +70,65 @@ class DeleteAdminServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Admin not found"));
-
-        verify(adminRepository, times(1)).findByUserId(userId);
-        verify(adminRepository, never()).delete(any(Admin.class));
-        verify(userRepository, never()).deleteByUserId(any(UserId.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Debe eliminar de adminRepository antes de userRepository")
-    void shouldDeleteFromAdminRepositoryBeforeUserRepository() {
+    @DisplayName("Debe eliminar por id sin leer el admin antes")
+    void shouldDeleteWithoutReadingAdmin() {
         // Given
-        when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        doNothing().when(adminRepository).delete(existingAdmin);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(adminRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         deleteAdminService.deleteAdmin(userId);
 
         // Then
-        var inOrder = inOrder(adminRepository, userRepository);
-        inOrder.verify(adminRepository).delete(existingAdmin);
-        inOrder.verify(userRepository).deleteByUserId(userId);
+        verify(adminRepository).deleteByUserId(userId);
+        verifyNoMoreInteractions(adminRepository);
     }
 
     @Test
-    @DisplayName("Debe buscar el admin antes de eliminar")
-    void shouldFindAdminBeforeDeleting() {
+    @DisplayName("Debe eliminar en lote sin ids repetidos y reportar cuantos se borraron")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteDistinctIdsInBatch() {
         // Given
-        when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        doNothing().when(adminRepository).delete(existingAdmin);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        UserId otherId = new UserId("other-admin-id");
+        when(adminRepository.deleteByUserIds(any())).thenReturn(List.of(userId));
 
         // When
-        deleteAdminService.deleteAdmin(userId);
+        BulkDeleteResultDTO result = deleteAdminService.deleteAdmins(List.of(userId, otherId, userId));
 
         // Then
-        verify(adminRepository, times(1)).findByUserId(userId);
-        verify(adminRepository, times(1)).delete(existingAdmin);
+        ArgumentCaptor<Collection<UserId>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(adminRepository).deleteByUserIds(ids.capture());
+        assertEquals(List.of(userId, otherId), List.copyOf(ids.getValue()));
+        assertEquals(2, result.requested());
+        assertEquals(1L, result.deleted());
+        verify(eventPublisher).publishAll(List.of(UserEvent.deleted(userId, Role.ADMIN)));
+    }
+
+    @Test
+    @DisplayName("No debe publicar eventos cuando ningun id existia")
+    void shouldNotPublishWhenNothingWasDeleted() {
+        // Given
+        when(adminRepository.deleteByUserIds(any())).thenReturn(List.of());
+
+        // When
+        BulkDeleteResultDTO result = deleteAdminService.deleteAdmins(List.of(new UserId("missing-id")));
+
+        // Then
+        assertEquals(0L, result.deleted());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes mayores al maximo permitido")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<UserId> ids = List.of(new UserId("a"), new UserId("b"), new UserId("c"), new UserId("d"));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> deleteAdminService.deleteAdmins(ids));
+        verifyNoInteractions(adminRepository);
     }
 }
@@ -1,11 +1,15 @@
 package edu.dosw.application.services.AdminServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.AdminUpdateDTO;
 import edu.dosw.application.dto.command.AdminCommands.UpdateAdminCommand;
+import edu.dosw.application.services.OptimisticRetry;
 import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.AdminRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.AdminWebMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -30,10 +35,13 @@ class UpdateAdminServiceTest {
     private AdminRepositoryPort adminRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private AdminWebMapper adminWebMapper;
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(3, 0);
 
     @Mock
-    private AdminWebMapper adminWebMapper;
+    private UserEventPublisherPort eventPublisher;
 
     @InjectMocks
     private UpdateAdminService updateAdminService;
@@ -72,18 +80,7 @@ class UpdateAdminServiceTest {
     @DisplayName("Debe actualizar un admin exitosamente")
     void shouldUpdateAdminSuccessfully() {
         // Given
-        Admin updatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("adminupdated@eci.edu.co"),
-                new FullName("Admin Actualizado"),
-                new PasswordHash("encodedPassword")
-        );
-
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(adminRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(expectedDTO);
 
         // When
@@ -96,10 +93,9 @@ class UpdateAdminServiceTest {
         assertEquals("Admin Actualizado", result.fullName());
 
         verify(adminRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(adminRepository, times(1)).save(any(Admin.class));
-        verify(userRepository, times(1)).save(any(Admin.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
         verify(adminWebMapper, times(1)).toUpdateDTO(any(Admin.class));
+        verify(eventPublisher).publish(any(UserEvent.class));
     }
 
     @Test
@@ -117,28 +113,25 @@ class UpdateAdminServiceTest {
         assertTrue(exception.getMessage().contains("Admin not found"));
 
         verify(adminRepository, times(1)).findByUserId(userId);
-        verify(adminRepository, never()).save(any(Admin.class));
-        verify(userRepository, never()).save(any(Admin.class));
+        verify(adminRepository, never()).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        doThrow(new ResourceAlreadyExistsException("A user with this email already exists"))
+                .when(adminRepository).update(any(Admin.class), any(UserChanges.class));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> updateAdminService.updateAdmin(userId, validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Email already exists"));
-
         verify(adminRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(adminRepository, never()).save(any(Admin.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
@@ -151,14 +144,6 @@ class UpdateAdminServiceTest {
                 null
         );
 
-        Admin partialUpdatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("admin@eci.edu.co"),
-                new FullName("Admin Original"),
-                new PasswordHash("encodedPassword")
-        );
-
         AdminUpdateDTO partialDTO = new AdminUpdateDTO(
                 "987654321",
                 "admin@eci.edu.co",
@@ -166,8 +151,6 @@ class UpdateAdminServiceTest {
         );
 
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(adminRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(partialDTO);
 
         // When
@@ -179,8 +162,7 @@ class UpdateAdminServiceTest {
         assertEquals("admin@eci.edu.co", result.email());
         assertEquals("Admin Original", result.fullName());
 
-        verify(adminRepository, times(1)).save(any(Admin.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
@@ -193,14 +175,6 @@ class UpdateAdminServiceTest {
                 null
         );
 
-        Admin partialUpdatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("newemail@eci.edu.co"),
-                new FullName("Admin Original"),
-                new PasswordHash("encodedPassword")
-        );
-
         AdminUpdateDTO partialDTO = new AdminUpdateDTO(
                 "123456789",
                 "newemail@eci.edu.co",
@@ -208,9 +182,6 @@ class UpdateAdminServiceTest {
         );
 
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(adminRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(partialDTO);
 
         // When
@@ -222,8 +193,7 @@ class UpdateAdminServiceTest {
         assertEquals("123456789", result.identityDocument());
         assertEquals("Admin Original", result.fullName());
 
-        verify(adminRepository, times(1)).save(any(Admin.class));
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
@@ -236,14 +206,6 @@ class UpdateAdminServiceTest {
                 "Nuevo Nombre"
         );
 
-        Admin partialUpdatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("admin@eci.edu.co"),
-                new FullName("Nuevo Nombre"),
-                new PasswordHash("encodedPassword")
-        );
-
         AdminUpdateDTO partialDTO = new AdminUpdateDTO(
                 "123456789",
                 "admin@eci.edu.co",
@@ -251,8 +213,6 @@ class UpdateAdminServiceTest {
         );
 
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(adminRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(partialUpdatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(partialDTO);
 
         // When
@@ -264,8 +224,7 @@ class UpdateAdminServiceTest {
         assertEquals("123456789", result.identityDocument());
         assertEquals("admin@eci.edu.co", result.email());
 
-        verify(adminRepository, times(1)).save(any(Admin.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
@@ -285,34 +244,21 @@ class UpdateAdminServiceTest {
                 () -> updateAdminService.updateAdmin(userId, invalidCommand));
 
         verify(adminRepository, times(1)).findByUserId(userId);
-        verify(adminRepository, never()).save(any(Admin.class));
+        verify(adminRepository, never()).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe guardar en ambos repositorios en el orden correcto")
-    void shouldSaveInCorrectOrder() {
+    @DisplayName("Debe guardar una sola vez a traves de adminRepository")
+    void shouldSaveOnlyThroughAdminRepository() {
         // Given
-        Admin updatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("adminupdated@eci.edu.co"),
-                new FullName("Admin Actualizado"),
-                new PasswordHash("encodedPassword")
-        );
-
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(adminRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(expectedDTO);
 
         // When
         updateAdminService.updateAdmin(userId, validCommand);
 
         // Then
-        var inOrder = inOrder(adminRepository, userRepository);
-        inOrder.verify(adminRepository).save(any(Admin.class));
-        inOrder.verify(userRepository).save(any(Admin.class));
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
     }
 
     @Test
@@ -325,17 +271,7 @@ class UpdateAdminServiceTest {
                 "Admin Actualizado"
         );
 
-        Admin updatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("admin@eci.edu.co"),
-                new FullName("Admin Actualizado"),
-                new PasswordHash("encodedPassword")
-        );
-
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(adminRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(new AdminUpdateDTO(
                 "987654321", "admin@eci.edu.co", "Admin Actualizado"
         ));
@@ -344,7 +280,9 @@ class UpdateAdminServiceTest {
         updateAdminService.updateAdmin(userId, commandWithoutEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(adminRepository, times(1)).findByUserId(userId);
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
+        verifyNoMoreInteractions(adminRepository);
     }
 
     @Test
@@ -357,17 +295,7 @@ class UpdateAdminServiceTest {
                 "Admin Actualizado"
         );
 
-        Admin updatedAdmin = new Admin(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("admin@eci.edu.co"),
-                new FullName("Admin Actualizado"),
-                new PasswordHash("encodedPassword")
-        );
-
         when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
-        when(adminRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
-        when(userRepository.save(any(Admin.class))).thenReturn(updatedAdmin);
         when(adminWebMapper.toUpdateDTO(any(Admin.class))).thenReturn(new AdminUpdateDTO(
                 "987654321", "admin@eci.edu.co", "Admin Actualizado"
         ));
@@ -376,6 +304,27 @@ class UpdateAdminServiceTest {
         updateAdminService.updateAdmin(userId, commandWithSameEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(adminRepository, times(1)).findByUserId(userId);
+        verify(adminRepository, times(1)).update(any(Admin.class), any(UserChanges.class));
+        verifyNoMoreInteractions(adminRepository);
+    }
+
+    @Test
+    @DisplayName("No debe escribir cuando ningún campo cambia")
+    void shouldSkipWriteWhenNothingChanges() {
+        // Given
+        UpdateAdminCommand sameValues = new UpdateAdminCommand(
+                "123456789",
+                "admin@eci.edu.co",
+                "Admin Original"
+        );
+        when(adminRepository.findByUserId(userId)).thenReturn(Optional.of(existingAdmin));
+
+        // When
+        updateAdminService.updateAdmin(userId, sameValues);
+
+        // Then
+        verify(adminRepository, never()).update(any(Admin.class), any(UserChanges.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
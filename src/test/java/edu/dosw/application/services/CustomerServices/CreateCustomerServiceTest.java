@@ -1,12 +1,14 @@
 package edu.dosw.application.services.CustomerServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.CustomerDTO;
 import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
 import edu.dosw.domain.model.Customer;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.infrastructure.web.mappers.CustomerWebMapper;
 import edu.dosw.utils.IdGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,9 +30,6 @@ class CreateCustomerServiceTest {
     @Mock
     private CustomerRepositoryPort customerRepository;
 
-    @Mock
-    private UserRepositoryPort userRepository;
-
     @Mock
     private PasswordEncoderPort passwordEncoder;
 
@@ -40,6 +39,9 @@ class CreateCustomerServiceTest {
     @Mock
     private CustomerWebMapper customerWebMapper;
 
+    @Mock
+    private UserEventPublisherPort eventPublisher;
+
     @InjectMocks
     private CreateCustomerService createCustomerService;
 
@@ -81,11 +83,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -99,32 +99,30 @@ class CreateCustomerServiceTest {
         assertEquals("3001234567", result.phoneNumber());
         assertEquals("", result.password());
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
         verify(idGenerator, times(1)).generateUniqueId();
         verify(passwordEncoder, times(1)).encode("password123");
         verify(customerRepository, times(1)).save(any(Customer.class));
-        verify(userRepository, times(1)).save(any(Customer.class));
         verify(customerWebMapper, times(1)).toDTO(any(Customer.class));
+        verify(eventPublisher).publish(UserEvent.created(createdCustomer));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        when(idGenerator.generateUniqueId()).thenReturn(generatedId);
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(customerRepository.save(any(Customer.class)))
+                .thenThrow(new ResourceAlreadyExistsException("A user with this email already exists"));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> createCustomerService.createCustomer(validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Customer with this email already exists"));
-
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(idGenerator, never()).generateUniqueId();
-        verify(passwordEncoder, never()).encode(anyString());
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerWebMapper, never()).toDTO(any(Customer.class));
     }
 
     @Test
@@ -143,7 +141,6 @@ class CreateCustomerServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> createCustomerService.createCustomer(invalidCommand));
 
-        verify(userRepository, never()).existsByEmail(any(Email.class));
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
@@ -160,11 +157,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -187,11 +182,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -202,37 +195,8 @@ class CreateCustomerServiceTest {
     }
 
     @Test
-    @DisplayName("Debe guardar en customerRepository antes de userRepository")
-    void shouldSaveInCustomerRepositoryBeforeUserRepository() {
-        // Given
-        Customer createdCustomer = new Customer(
-                new UserId(generatedId),
-                new IdentityDocument("123456789"),
-                new Email("customer@example.com"),
-                new FullName("Customer Test"),
-                new PasswordHash("encodedPassword"),
-                "3001234567"
-        );
-
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(idGenerator.generateUniqueId()).thenReturn(generatedId);
-        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-        when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
-
-        // When
-        createCustomerService.createCustomer(validCommand);
-
-        // Then
-        var inOrder = inOrder(customerRepository, userRepository);
-        inOrder.verify(customerRepository).save(any(Customer.class));
-        inOrder.verify(userRepository).save(any(Customer.class));
-    }
-
-    @Test
-    @DisplayName("Debe verificar si el email existe antes de crear el customer")
-    void shouldCheckEmailExistsBeforeCreating() {
+    @DisplayName("Debe guardar una sola vez a traves de customerRepository")
+    void shouldSaveOnlyThroughCustomerRepository() {
         // Given
         Customer createdCustomer = new Customer(
                 new UserId(generatedId),
@@ -243,20 +207,16 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
         createCustomerService.createCustomer(validCommand);
 
         // Then
-        var inOrder = inOrder(userRepository, customerRepository);
-        inOrder.verify(userRepository).existsByEmail(any(Email.class));
-        inOrder.verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository, times(1)).save(any(Customer.class));
     }
 
     @Test
@@ -272,11 +232,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -303,11 +261,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -330,11 +286,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -357,11 +311,9 @@ class CreateCustomerServiceTest {
                 "3001234567"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(customerRepository.save(any(Customer.class))).thenReturn(createdCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(createdCustomer);
         when(customerWebMapper.toDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
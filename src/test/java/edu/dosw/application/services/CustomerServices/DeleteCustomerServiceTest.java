@@ -1,19 +1,23 @@
 package edu.dosw.application.services.CustomerServices;
 
-import edu.dosw.domain.model.Customer;
-import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,50 +31,37 @@ class DeleteCustomerServiceTest {
     private CustomerRepositoryPort customerRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private UserEventPublisherPort eventPublisher;
 
-    @InjectMocks
     private DeleteCustomerService deleteCustomerService;
 
     private UserId userId;
-    private Customer existingCustomer;
 
     @BeforeEach
     void setUp() {
+        deleteCustomerService = new DeleteCustomerService(customerRepository, eventPublisher, 3);
         userId = new UserId("test-customer-id");
-
-        existingCustomer = new Customer(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("customer@example.com"),
-                new FullName("Customer Test"),
-                new PasswordHash("encodedPassword"),
-                "3001234567"
-        );
     }
 
     @Test
     @DisplayName("Debe eliminar un customer exitosamente")
     void shouldDeleteCustomerSuccessfully() {
         // Given
-        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        doNothing().when(customerRepository).delete(existingCustomer);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(customerRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> deleteCustomerService.deleteCustomer(userId));
 
         // Then
-        verify(customerRepository, times(1)).findByUserId(userId);
-        verify(customerRepository, times(1)).delete(existingCustomer);
-        verify(userRepository, times(1)).deleteByUserId(userId);
+        verify(customerRepository, times(1)).deleteByUserId(userId);
+        verify(eventPublisher).publish(UserEvent.deleted(userId, Role.CUSTOMER));
     }
 
     @Test
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el customer no existe")
     void shouldThrowExceptionWhenCustomerNotFound() {
         // Given
-        when(customerRepository.findByUserId(userId)).thenReturn(Optional.empty());
+        when(customerRepository.deleteByUserId(userId)).thenReturn(false);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -79,42 +70,65 @@ class DeleteCustomerServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Customer not found"));
-
-        verify(customerRepository, times(1)).findByUserId(userId);
-        verify(customerRepository, never()).delete(any(Customer.class));
-        verify(userRepository, never()).deleteByUserId(any(UserId.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Debe eliminar de customerRepository antes de userRepository")
-    void shouldDeleteFromCustomerRepositoryBeforeUserRepository() {
+    @DisplayName("Debe eliminar por id sin leer el customer antes")
+    void shouldDeleteWithoutReadingCustomer() {
         // Given
-        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        doNothing().when(customerRepository).delete(existingCustomer);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(customerRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         deleteCustomerService.deleteCustomer(userId);
 
         // Then
-        var inOrder = inOrder(customerRepository, userRepository);
-        inOrder.verify(customerRepository).delete(existingCustomer);
-        inOrder.verify(userRepository).deleteByUserId(userId);
+        verify(customerRepository).deleteByUserId(userId);
+        verifyNoMoreInteractions(customerRepository);
     }
 
     @Test
-    @DisplayName("Debe buscar el customer antes de eliminar")
-    void shouldFindCustomerBeforeDeleting() {
+    @DisplayName("Debe eliminar en lote sin ids repetidos y reportar cuantos se borraron")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteDistinctIdsInBatch() {
         // Given
-        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        doNothing().when(customerRepository).delete(existingCustomer);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        UserId otherId = new UserId("other-customer-id");
+        when(customerRepository.deleteByUserIds(any())).thenReturn(List.of(userId));
 
         // When
-        deleteCustomerService.deleteCustomer(userId);
+        BulkDeleteResultDTO result = deleteCustomerService.deleteCustomers(List.of(userId, otherId, userId));
+
+        // Then
+        ArgumentCaptor<Collection<UserId>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(customerRepository).deleteByUserIds(ids.capture());
+        assertEquals(List.of(userId, otherId), List.copyOf(ids.getValue()));
+        assertEquals(2, result.requested());
+        assertEquals(1L, result.deleted());
+        verify(eventPublisher).publishAll(List.of(UserEvent.deleted(userId, Role.CUSTOMER)));
+    }
+
+    @Test
+    @DisplayName("No debe publicar eventos cuando ningun id existia")
+    void shouldNotPublishWhenNothingWasDeleted() {
+        // Given
+        when(customerRepository.deleteByUserIds(any())).thenReturn(List.of());
+
+        // When
+        BulkDeleteResultDTO result = deleteCustomerService.deleteCustomers(List.of(new UserId("missing-id")));
 
         // Then
-        verify(customerRepository, times(1)).findByUserId(userId);
-        verify(customerRepository, times(1)).delete(existingCustomer);
+        assertEquals(0L, result.deleted());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes mayores al maximo permitido")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<UserId> ids = List.of(new UserId("a"), new UserId("b"), new UserId("c"), new UserId("d"));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> deleteCustomerService.deleteCustomers(ids));
+        verifyNoInteractions(customerRepository);
     }
 }
@@ -1,25 +1,33 @@
 package edu.dosw.application.services.CustomerServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.CustomerUpdateDTO;
 import edu.dosw.application.dto.command.CustomerCommands.UpdateCustomerCommand;
+import edu.dosw.application.services.OptimisticRetry;
 import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.CustomerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ConcurrentUpdateException;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.CustomerWebMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,10 +38,13 @@ class UpdateCustomerServiceTest {
     private CustomerRepositoryPort customerRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private CustomerWebMapper customerWebMapper;
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(3, 0);
 
     @Mock
-    private CustomerWebMapper customerWebMapper;
+    private UserEventPublisherPort eventPublisher;
 
     @InjectMocks
     private UpdateCustomerService updateCustomerService;
@@ -75,19 +86,7 @@ class UpdateCustomerServiceTest {
     @DisplayName("Debe actualizar un customer exitosamente")
     void shouldUpdateCustomerSuccessfully() {
         // Given
-        Customer updatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("customerupdated@example.com"),
-                new FullName("Customer Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "3009876543"
-        );
-
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
@@ -101,10 +100,9 @@ class UpdateCustomerServiceTest {
         assertEquals("3009876543", result.phoneNumber());
 
         verify(customerRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(customerRepository, times(1)).save(any(Customer.class));
-        verify(userRepository, times(1)).save(any(Customer.class));
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
         verify(customerWebMapper, times(1)).toUpdateDTO(any(Customer.class));
+        verify(eventPublisher).publish(any(UserEvent.class));
     }
 
     @Test
@@ -122,28 +120,25 @@ class UpdateCustomerServiceTest {
         assertTrue(exception.getMessage().contains("Customer not found"));
 
         verify(customerRepository, times(1)).findByUserId(userId);
-        verify(customerRepository, never()).save(any(Customer.class));
-        verify(userRepository, never()).save(any(Customer.class));
+        verify(customerRepository, never()).update(any(Customer.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        doThrow(new ResourceAlreadyExistsException("A user with this email already exists"))
+                .when(customerRepository).update(any(Customer.class), any(UserChanges.class));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> updateCustomerService.updateCustomer(userId, validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Email already exists"));
-
         verify(customerRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
     }
 
     @Test
@@ -157,15 +152,6 @@ class UpdateCustomerServiceTest {
                 null
         );
 
-        Customer partialUpdatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("customer@example.com"),
-                new FullName("Customer Original"),
-                new PasswordHash("encodedPassword"),
-                "3001234567"
-        );
-
         CustomerUpdateDTO partialDTO = new CustomerUpdateDTO(
                 "987654321",
                 "customer@example.com",
@@ -174,8 +160,6 @@ class UpdateCustomerServiceTest {
         );
 
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(partialUpdatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(partialUpdatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(partialDTO);
 
         // When
@@ -188,8 +172,7 @@ class UpdateCustomerServiceTest {
         assertEquals("Customer Original", result.fullName());
         assertEquals("3001234567", result.phoneNumber());
 
-        verify(customerRepository, times(1)).save(any(Customer.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
     }
 
     @Test
@@ -203,15 +186,6 @@ class UpdateCustomerServiceTest {
                 "3009876543"
         );
 
-        Customer partialUpdatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("customer@example.com"),
-                new FullName("Customer Original"),
-                new PasswordHash("encodedPassword"),
-                "3009876543"
-        );
-
         CustomerUpdateDTO partialDTO = new CustomerUpdateDTO(
                 "123456789",
                 "customer@example.com",
@@ -220,8 +194,6 @@ class UpdateCustomerServiceTest {
         );
 
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(partialUpdatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(partialUpdatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(partialDTO);
 
         // When
@@ -234,36 +206,21 @@ class UpdateCustomerServiceTest {
         assertEquals("customer@example.com", result.email());
         assertEquals("Customer Original", result.fullName());
 
-        verify(customerRepository, times(1)).save(any(Customer.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe guardar en ambos repositorios en el orden correcto")
-    void shouldSaveInCorrectOrder() {
+    @DisplayName("Debe guardar una sola vez a traves de customerRepository")
+    void shouldSaveOnlyThroughCustomerRepository() {
         // Given
-        Customer updatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("customerupdated@example.com"),
-                new FullName("Customer Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "3009876543"
-        );
-
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(expectedDTO);
 
         // When
         updateCustomerService.updateCustomer(userId, validCommand);
 
         // Then
-        var inOrder = inOrder(customerRepository, userRepository);
-        inOrder.verify(customerRepository).save(any(Customer.class));
-        inOrder.verify(userRepository).save(any(Customer.class));
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
     }
 
     @Test
@@ -277,18 +234,7 @@ class UpdateCustomerServiceTest {
                 "3009876543"
         );
 
-        Customer updatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("customer@example.com"),
-                new FullName("Customer Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "3009876543"
-        );
-
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(new CustomerUpdateDTO(
                 "987654321", "customer@example.com", "Customer Actualizado", "3009876543"
         ));
@@ -297,7 +243,9 @@ class UpdateCustomerServiceTest {
         updateCustomerService.updateCustomer(userId, commandWithoutEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(customerRepository, times(1)).findByUserId(userId);
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
+        verifyNoMoreInteractions(customerRepository);
     }
 
     @Test
@@ -311,18 +259,7 @@ class UpdateCustomerServiceTest {
                 "3009876543"
         );
 
-        Customer updatedCustomer = new Customer(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("customer@example.com"),
-                new FullName("Customer Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "3009876543"
-        );
-
         when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
-        when(userRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
         when(customerWebMapper.toUpdateDTO(any(Customer.class))).thenReturn(new CustomerUpdateDTO(
                 "987654321", "customer@example.com", "Customer Actualizado", "3009876543"
         ));
@@ -331,7 +268,9 @@ class UpdateCustomerServiceTest {
         updateCustomerService.updateCustomer(userId, commandWithSameEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(customerRepository, times(1)).findByUserId(userId);
+        verify(customerRepository, times(1)).update(any(Customer.class), any(UserChanges.class));
+        verifyNoMoreInteractions(customerRepository);
     }
 
     @Test
@@ -352,6 +291,95 @@ class UpdateCustomerServiceTest {
                 () -> updateCustomerService.updateCustomer(userId, invalidCommand));
 
         verify(customerRepository, times(1)).findByUserId(userId);
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository, never()).update(any(Customer.class), any(UserChanges.class));
+    }
+
+    @Test
+    @DisplayName("No debe escribir cuando ningún campo cambia")
+    void shouldSkipWriteWhenNothingChanges() {
+        // Given
+        UpdateCustomerCommand sameValues = new UpdateCustomerCommand(
+                "123456789",
+                "customer@example.com",
+                null,
+                "3001234567"
+        );
+        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
+
+        // When
+        updateCustomerService.updateCustomer(userId, sameValues);
+
+        // Then
+        verify(customerRepository, never()).update(any(Customer.class), any(UserChanges.class));
+        verify(customerWebMapper, times(1)).toUpdateDTO(any(Customer.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe enviar al repositorio solo los campos modificados")
+    void shouldSendOnlyChangedFields() {
+        // Given
+        UpdateCustomerCommand command = new UpdateCustomerCommand(
+                null,
+                "customer@example.com",
+                "Customer Original",
+                "3009876543"
+        );
+        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
+        ArgumentCaptor<UserChanges> changes = ArgumentCaptor.forClass(UserChanges.class);
+
+        // When
+        updateCustomerService.updateCustomer(userId, command);
+
+        // Then
+        verify(customerRepository).update(eq(existingCustomer), changes.capture());
+        assertEquals(new UserChanges(null, null, null, "3009876543", null, null), changes.getValue());
+        verify(eventPublisher).publish(UserEvent.updated(existingCustomer, changes.getValue()));
+    }
+
+    @Test
+    @DisplayName("Debe releer y reintentar cuando otra escritura cambió la versión")
+    void shouldRereadAndRetryOnConcurrentUpdate() {
+        // Given
+        Customer concurrentlyEdited = new Customer(
+                userId,
+                new IdentityDocument("123456789"),
+                new Email("customer@example.com"),
+                new FullName("Customer Original"),
+                new PasswordHash("encodedPassword"),
+                "3001112233"
+        );
+        concurrentlyEdited.setVersion(2L);
+        existingCustomer.setVersion(1L);
+        when(customerRepository.findByUserId(userId))
+                .thenReturn(Optional.of(existingCustomer))
+                .thenReturn(Optional.of(concurrentlyEdited));
+        doThrow(new ConcurrentUpdateException("User test-customer-id was modified concurrently"))
+                .when(customerRepository).update(eq(existingCustomer), any(UserChanges.class));
+
+        // When
+        updateCustomerService.updateCustomer(userId, validCommand);
+
+        // Then
+        verify(customerRepository, times(2)).findByUserId(userId);
+        verify(customerRepository, times(1)).update(eq(concurrentlyEdited), any(UserChanges.class));
+        verify(customerWebMapper, times(1)).toUpdateDTO(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Debe propagar ConcurrentUpdateException al agotar los intentos")
+    void shouldPropagateConflictWhenRetriesAreExhausted() {
+        // Given
+        when(customerRepository.findByUserId(userId)).thenReturn(Optional.of(existingCustomer));
+        doThrow(new ConcurrentUpdateException("User test-customer-id was modified concurrently"))
+                .when(customerRepository).update(any(Customer.class), any(UserChanges.class));
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class,
+                () -> updateCustomerService.updateCustomer(userId, validCommand));
+
+        verify(customerRepository, times(3)).findByUserId(userId);
+        verify(customerRepository, times(3)).update(any(Customer.class), any(UserChanges.class));
+        verifyNoInteractions(customerWebMapper);
     }
 }
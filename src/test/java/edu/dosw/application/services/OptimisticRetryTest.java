@@ -0,0 +1,88 @@
+package edu.dosw.application.services;
+
+import edu.dosw.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para OptimisticRetry")
+class OptimisticRetryTest {
+
+    @Test
+    @DisplayName("Debe ejecutar una sola vez cuando no hay conflicto")
+    void shouldRunOnceWithoutConflict() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = retry.run(() -> {
+            attempts.incrementAndGet();
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Debe reintentar hasta que el intento gane la verificacion de version")
+    void shouldRetryUntilAttemptWins() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(3, 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = retry.run(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentUpdateException("conflict");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el conflicto al agotar los intentos")
+    void shouldRethrowWhenAttemptsAreExhausted() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(2, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class, () -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentUpdateException("conflict");
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("No debe reintentar otras excepciones")
+    void shouldNotRetryOtherExceptions() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("invalid");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar menos de un intento")
+    void shouldRejectLessThanOneAttempt() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new OptimisticRetry(0, 10));
+    }
+}
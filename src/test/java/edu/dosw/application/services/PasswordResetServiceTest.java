@@ -4,16 +4,17 @@ import edu.dosw.application.ports.EventPublisherPort;
 import edu.dosw.domain.model.User;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.model.enums.VerificationCodeCheck;
 import edu.dosw.domain.ports.UserRepositoryPort;
 import edu.dosw.domain.ports.VerificationCodeRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
 import edu.dosw.exception.ResourceNotFoundException;
+import edu.dosw.exception.TooManyRequestsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,13 +23,17 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Tests para PasswordResetService")
 class PasswordResetServiceTest {
 
+    private static final int MAX_ATTEMPTS = 3;
+
     @Mock
     private UserRepositoryPort userRepository;
 
@@ -41,7 +46,6 @@ class PasswordResetServiceTest {
     @Mock
     private PasswordEncoderPort passwordEncoder;
 
-    @InjectMocks
     private PasswordResetService passwordResetService;
 
     private Email email;
@@ -49,6 +53,8 @@ class PasswordResetServiceTest {
 
     @BeforeEach
     void setUp() {
+        passwordResetService = new PasswordResetService(
+                userRepository, verificationCodeRepository, eventPublisher, passwordEncoder, MAX_ATTEMPTS);
         email = new Email("user@test.com");
 
         user = new User(
@@ -138,21 +144,13 @@ class PasswordResetServiceTest {
     void shouldVerifyCodeSuccessfully() {
         // Given
         String validCode = "123456";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
-        doNothing().when(eventPublisher).publishPasswordResetVerified(email, validCode);
+        when(verificationCodeRepository.check(email, validCode, MAX_ATTEMPTS, false)).thenReturn(VerificationCodeCheck.VALID);
 
         // When
         assertDoesNotThrow(() -> passwordResetService.verifyCode(email, validCode));
 
         // Then
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
+        verify(verificationCodeRepository, times(1)).check(email, validCode, MAX_ATTEMPTS, false);
         verify(eventPublisher, times(1)).publishPasswordResetVerified(email, validCode);
     }
 
@@ -160,7 +158,7 @@ class PasswordResetServiceTest {
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el código no existe")
     void shouldThrowExceptionWhenCodeNotFound() {
         // Given
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(verificationCodeRepository.check(email, "123456", MAX_ATTEMPTS, false)).thenReturn(VerificationCodeCheck.NOT_FOUND);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -169,8 +167,6 @@ class PasswordResetServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Verification code not found or expired"));
-
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(eventPublisher, never()).publishPasswordResetVerified(any(Email.class), anyString());
     }
 
@@ -178,26 +174,15 @@ class PasswordResetServiceTest {
     @DisplayName("Debe lanzar IllegalArgumentException cuando el código es inválido")
     void shouldThrowExceptionWhenCodeIsInvalid() {
         // Given
-        String validCode = "123456";
-        String invalidCode = "999999";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(email, "999999", MAX_ATTEMPTS, false)).thenReturn(VerificationCodeCheck.INVALID);
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> passwordResetService.verifyCode(email, invalidCode)
+                () -> passwordResetService.verifyCode(email, "999999")
         );
 
         assertTrue(exception.getMessage().contains("Invalid or expired verification code"));
-
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(eventPublisher, never()).publishPasswordResetVerified(any(Email.class), anyString());
     }
 
@@ -205,25 +190,26 @@ class PasswordResetServiceTest {
     @DisplayName("Debe lanzar IllegalArgumentException cuando el código está expirado")
     void shouldThrowExceptionWhenCodeIsExpired() {
         // Given
-        String validCode = "123456";
-        VerificationCode expiredCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().minusMinutes(1),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(expiredCode));
+        when(verificationCodeRepository.check(email, "123456", MAX_ATTEMPTS, false)).thenReturn(VerificationCodeCheck.EXPIRED);
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> passwordResetService.verifyCode(email, validCode)
+                () -> passwordResetService.verifyCode(email, "123456")
         );
 
         assertTrue(exception.getMessage().contains("Invalid or expired verification code"));
+        verify(eventPublisher, never()).publishPasswordResetVerified(any(Email.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar TooManyRequestsException cuando se agotan los intentos")
+    void shouldRejectCodeWhenAttemptsAreExhausted() {
+        // Given
+        when(verificationCodeRepository.check(email, "123456", MAX_ATTEMPTS, false)).thenReturn(VerificationCodeCheck.LOCKED);
 
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
+        // When & Then
+        assertThrows(TooManyRequestsException.class, () -> passwordResetService.verifyCode(email, "123456"));
         verify(eventPublisher, never()).publishPasswordResetVerified(any(Email.class), anyString());
     }
 
@@ -233,29 +219,19 @@ class PasswordResetServiceTest {
         // Given
         String validCode = "123456";
         String newPassword = "newPassword123";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(eq(email), eq(validCode), eq(MAX_ATTEMPTS), anyBoolean())).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(newPassword)).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(verificationCodeRepository.save(any(VerificationCode.class))).thenReturn(verificationCode.markAsUsed());
-        doNothing().when(eventPublisher).publishPasswordResetCompleted(eq(email), eq(user), eq(true));
+        when(userRepository.updatePasswordHash(user.getUserId(), new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> passwordResetService.resetPassword(email, validCode, newPassword));
 
         // Then
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(userRepository, times(1)).findByEmail(email);
         verify(passwordEncoder, times(1)).encode(newPassword);
-        verify(userRepository, times(1)).save(user);
-        verify(verificationCodeRepository, times(1)).save(any(VerificationCode.class));
+        verify(userRepository, times(1)).updatePasswordHash(user.getUserId(), new PasswordHash("newEncodedPassword"));
+        verify(userRepository, never()).save(any(User.class));
         verify(eventPublisher, times(1)).publishPasswordResetCompleted(email, user, true);
     }
 
@@ -263,7 +239,7 @@ class PasswordResetServiceTest {
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el código no existe en reset")
     void shouldThrowExceptionWhenCodeNotFoundInReset() {
         // Given
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(verificationCodeRepository.check(email, "123456", MAX_ATTEMPTS, true)).thenReturn(VerificationCodeCheck.NOT_FOUND);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -273,7 +249,6 @@ class PasswordResetServiceTest {
 
         assertTrue(exception.getMessage().contains("Verification code not found"));
 
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(userRepository, never()).findByEmail(any(Email.class));
         verify(passwordEncoder, never()).encode(anyString());
     }
@@ -282,43 +257,38 @@ class PasswordResetServiceTest {
     @DisplayName("Debe lanzar IllegalArgumentException cuando el código es inválido en reset")
     void shouldThrowExceptionWhenCodeIsInvalidInReset() {
         // Given
-        String validCode = "123456";
-        String invalidCode = "999999";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(email, "999999", MAX_ATTEMPTS, true)).thenReturn(VerificationCodeCheck.INVALID);
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> passwordResetService.resetPassword(email, invalidCode, "newPassword")
+                () -> passwordResetService.resetPassword(email, "999999", "newPassword")
         );
 
         assertTrue(exception.getMessage().contains("Invalid or expired verification code"));
 
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(userRepository, never()).findByEmail(any(Email.class));
         verify(passwordEncoder, never()).encode(anyString());
     }
 
+    @Test
+    @DisplayName("Debe rechazar un código ya usado en reset")
+    void shouldRejectUsedCodeInReset() {
+        // Given
+        when(verificationCodeRepository.check(email, "123456", MAX_ATTEMPTS, true)).thenReturn(VerificationCodeCheck.USED);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordResetService.resetPassword(email, "123456", "newPassword"));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+    }
+
     @Test
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el usuario no existe en reset")
     void shouldThrowExceptionWhenUserNotFoundInReset() {
         // Given
         String validCode = "123456";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(eq(email), eq(validCode), eq(MAX_ATTEMPTS), anyBoolean())).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
 
         // When & Then
@@ -329,123 +299,82 @@ class PasswordResetServiceTest {
 
         assertTrue(exception.getMessage().contains("User not found"));
 
-        verify(verificationCodeRepository, times(1)).findByEmail(email);
         verify(userRepository, times(1)).findByEmail(email);
         verify(passwordEncoder, never()).encode(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
     }
 
     @Test
-    @DisplayName("Debe marcar el código como usado después de resetear password")
-    void shouldMarkCodeAsUsedAfterReset() {
+    @DisplayName("Debe consumir el código con una sola comprobación antes de encodear")
+    void shouldConsumeCodeWithOneCheckBeforeEncoding() {
         // Given
         String validCode = "123456";
-        String newPassword = "newPassword123";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        ArgumentCaptor<VerificationCode> codeCaptor = ArgumentCaptor.forClass(VerificationCode.class);
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(email, validCode, MAX_ATTEMPTS, true)).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(passwordEncoder.encode(newPassword)).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(verificationCodeRepository.save(codeCaptor.capture())).thenReturn(verificationCode.markAsUsed());
-        doNothing().when(eventPublisher).publishPasswordResetCompleted(eq(email), eq(user), eq(true));
+        when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
 
         // When
-        passwordResetService.resetPassword(email, validCode, newPassword);
+        passwordResetService.resetPassword(email, validCode, "newPassword123");
 
         // Then
-        VerificationCode savedCode = codeCaptor.getValue();
-        assertTrue(savedCode.used());
+        var inOrder = inOrder(verificationCodeRepository, passwordEncoder, userRepository);
+        inOrder.verify(verificationCodeRepository).check(email, validCode, MAX_ATTEMPTS, true);
+        inOrder.verify(passwordEncoder).encode("newPassword123");
+        inOrder.verify(userRepository).updatePasswordHash(user.getUserId(), new PasswordHash("newEncodedPassword"));
+        verifyNoMoreInteractions(verificationCodeRepository);
     }
 
     @Test
-    @DisplayName("Debe encodear el nuevo password antes de guardar")
-    void shouldEncodeNewPasswordBeforeSaving() {
+    @DisplayName("No debe actualizar el password cuando el pool de hashing rechaza la petición")
+    void shouldNotUpdateWhenHashingIsRejected() {
         // Given
         String validCode = "123456";
-        String newPassword = "newPassword123";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(email, validCode, MAX_ATTEMPTS, true)).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(passwordEncoder.encode(newPassword)).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(verificationCodeRepository.save(any(VerificationCode.class))).thenReturn(verificationCode.markAsUsed());
-        doNothing().when(eventPublisher).publishPasswordResetCompleted(eq(email), eq(user), eq(true));
-
-        // When
-        passwordResetService.resetPassword(email, validCode, newPassword);
+        when(passwordEncoder.encode("newPassword123"))
+                .thenThrow(new TooManyRequestsException("Password hashing capacity exhausted, retry later"));
 
-        // Then
-        verify(passwordEncoder, times(1)).encode(newPassword);
+        // When & Then
+        assertThrows(TooManyRequestsException.class,
+                () -> passwordResetService.resetPassword(email, validCode, "newPassword123"));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+        verify(eventPublisher, never()).publishPasswordResetCompleted(any(Email.class), any(User.class), anyBoolean());
     }
 
     @Test
-    @DisplayName("Debe publicar evento de reset completado con éxito")
-    void shouldPublishPasswordResetCompletedEvent() {
+    @DisplayName("Debe encodear el nuevo password antes de guardar")
+    void shouldEncodeNewPasswordBeforeSaving() {
         // Given
         String validCode = "123456";
         String newPassword = "newPassword123";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(eq(email), eq(validCode), eq(MAX_ATTEMPTS), anyBoolean())).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(newPassword)).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(verificationCodeRepository.save(any(VerificationCode.class))).thenReturn(verificationCode.markAsUsed());
-        doNothing().when(eventPublisher).publishPasswordResetCompleted(eq(email), eq(user), eq(true));
 
         // When
         passwordResetService.resetPassword(email, validCode, newPassword);
 
         // Then
-        verify(eventPublisher, times(1)).publishPasswordResetCompleted(email, user, true);
+        var inOrder = inOrder(passwordEncoder, userRepository);
+        inOrder.verify(passwordEncoder).encode(newPassword);
+        inOrder.verify(userRepository).updatePasswordHash(user.getUserId(), new PasswordHash("newEncodedPassword"));
     }
 
     @Test
-    @DisplayName("Debe guardar el usuario antes de marcar el código como usado")
-    void shouldSaveUserBeforeMarkingCodeAsUsed() {
+    @DisplayName("Debe publicar evento de reset completado con éxito")
+    void shouldPublishPasswordResetCompletedEvent() {
         // Given
         String validCode = "123456";
         String newPassword = "newPassword123";
-        VerificationCode verificationCode = new VerificationCode(
-                validCode,
-                LocalDateTime.now().plusMinutes(15),
-                email.value(),
-                false
-        );
-
-        when(verificationCodeRepository.findByEmail(email)).thenReturn(Optional.of(verificationCode));
+        when(verificationCodeRepository.check(eq(email), eq(validCode), eq(MAX_ATTEMPTS), anyBoolean())).thenReturn(VerificationCodeCheck.VALID);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(newPassword)).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(verificationCodeRepository.save(any(VerificationCode.class))).thenReturn(verificationCode.markAsUsed());
-        doNothing().when(eventPublisher).publishPasswordResetCompleted(eq(email), eq(user), eq(true));
 
         // When
         passwordResetService.resetPassword(email, validCode, newPassword);
 
         // Then
-        var inOrder = inOrder(userRepository, verificationCodeRepository);
-        inOrder.verify(userRepository).save(user);
-        inOrder.verify(verificationCodeRepository).save(any(VerificationCode.class));
+        verify(eventPublisher, times(1)).publishPasswordResetCompleted(email, user, true);
     }
 
     @Test
@@ -1,12 +1,14 @@
 package edu.dosw.application.services.SellerServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.SellerDTO;
 import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
 import edu.dosw.domain.model.Seller;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.SellerRepositoryPort;
 import edu.dosw.domain.ports.PasswordEncoderPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import edu.dosw.utils.IdGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,9 +30,6 @@ class CreateSellerServiceTest {
     @Mock
     private SellerRepositoryPort sellerRepository;
 
-    @Mock
-    private UserRepositoryPort userRepository;
-
     @Mock
     private PasswordEncoderPort passwordEncoder;
 
@@ -40,6 +39,9 @@ class CreateSellerServiceTest {
     @Mock
     private SellerWebMapper sellerWebMapper;
 
+    @Mock
+    private UserEventPublisherPort eventPublisher;
+
     @InjectMocks
     private CreateSellerService createSellerService;
 
@@ -84,11 +86,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -103,32 +103,30 @@ class CreateSellerServiceTest {
         assertEquals("Calle 123 #45-67", result.businessAddress());
         assertEquals("", result.password());
 
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
         verify(idGenerator, times(1)).generateUniqueId();
         verify(passwordEncoder, times(1)).encode("password123");
         verify(sellerRepository, times(1)).save(any(Seller.class));
-        verify(userRepository, times(1)).save(any(Seller.class));
         verify(sellerWebMapper, times(1)).toDTO(any(Seller.class));
+        verify(eventPublisher).publish(UserEvent.created(createdSeller));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        when(idGenerator.generateUniqueId()).thenReturn(generatedId);
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(sellerRepository.save(any(Seller.class)))
+                .thenThrow(new ResourceAlreadyExistsException("A user with this email already exists"));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> createSellerService.createSeller(validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Seller with this email already exists"));
-
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(idGenerator, never()).generateUniqueId();
-        verify(passwordEncoder, never()).encode(anyString());
-        verify(sellerRepository, never()).save(any(Seller.class));
+        verify(sellerRepository, times(1)).save(any(Seller.class));
+        verify(sellerWebMapper, never()).toDTO(any(Seller.class));
     }
 
     @Test
@@ -148,7 +146,6 @@ class CreateSellerServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> createSellerService.createSeller(invalidCommand));
 
-        verify(userRepository, never()).existsByEmail(any(Email.class));
         verify(sellerRepository, never()).save(any(Seller.class));
     }
 
@@ -166,11 +163,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -194,11 +189,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -209,8 +202,8 @@ class CreateSellerServiceTest {
     }
 
     @Test
-    @DisplayName("Debe guardar en sellerRepository antes de userRepository")
-    void shouldSaveInSellerRepositoryBeforeUserRepository() {
+    @DisplayName("Debe guardar una sola vez a traves de sellerRepository")
+    void shouldSaveOnlyThroughSellerRepository() {
         // Given
         Seller createdSeller = new Seller(
                 new UserId(generatedId),
@@ -222,50 +215,16 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
         createSellerService.createSeller(validCommand);
 
         // Then
-        var inOrder = inOrder(sellerRepository, userRepository);
-        inOrder.verify(sellerRepository).save(any(Seller.class));
-        inOrder.verify(userRepository).save(any(Seller.class));
-    }
-
-    @Test
-    @DisplayName("Debe verificar si el email existe antes de crear el seller")
-    void shouldCheckEmailExistsBeforeCreating() {
-        // Given
-        Seller createdSeller = new Seller(
-                new UserId(generatedId),
-                new IdentityDocument("123456789"),
-                new Email("seller@company.com"),
-                new FullName("Seller Test"),
-                new PasswordHash("encodedPassword"),
-                "Test Company",
-                "Calle 123 #45-67"
-        );
-
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(idGenerator.generateUniqueId()).thenReturn(generatedId);
-        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-        when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
-
-        // When
-        createSellerService.createSeller(validCommand);
-
-        // Then
-        var inOrder = inOrder(userRepository, sellerRepository);
-        inOrder.verify(userRepository).existsByEmail(any(Email.class));
-        inOrder.verify(sellerRepository).save(any(Seller.class));
+        verify(sellerRepository, times(1)).save(any(Seller.class));
     }
 
     @Test
@@ -282,11 +241,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -315,11 +272,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -343,11 +298,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -371,11 +324,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -399,11 +350,9 @@ class CreateSellerServiceTest {
                 "Calle 123 #45-67"
         );
 
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(idGenerator.generateUniqueId()).thenReturn(generatedId);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(sellerRepository.save(any(Seller.class))).thenReturn(createdSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(createdSeller);
         when(sellerWebMapper.toDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
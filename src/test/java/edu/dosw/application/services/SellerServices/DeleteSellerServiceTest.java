@@ -1,19 +1,23 @@
 package edu.dosw.application.services.SellerServices;
 
-import edu.dosw.domain.model.Seller;
-import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.dto.BulkDeleteResultDTO;
+import edu.dosw.domain.model.ValueObject.UserId;
 import edu.dosw.domain.ports.SellerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
 import edu.dosw.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,51 +31,37 @@ class DeleteSellerServiceTest {
     private SellerRepositoryPort sellerRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private UserEventPublisherPort eventPublisher;
 
-    @InjectMocks
     private DeleteSellerService deleteSellerService;
 
     private UserId userId;
-    private Seller existingSeller;
 
     @BeforeEach
     void setUp() {
+        deleteSellerService = new DeleteSellerService(sellerRepository, eventPublisher, 3);
         userId = new UserId("test-seller-id");
-
-        existingSeller = new Seller(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("seller@company.com"),
-                new FullName("Seller Test"),
-                new PasswordHash("encodedPassword"),
-                "Test Company",
-                "Calle 123 #45-67"
-        );
     }
 
     @Test
     @DisplayName("Debe eliminar un seller exitosamente")
     void shouldDeleteSellerSuccessfully() {
         // Given
-        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        doNothing().when(sellerRepository).delete(existingSeller);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(sellerRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> deleteSellerService.deleteSeller(userId));
 
         // Then
-        verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(sellerRepository, times(1)).delete(existingSeller);
-        verify(userRepository, times(1)).deleteByUserId(userId);
+        verify(sellerRepository, times(1)).deleteByUserId(userId);
+        verify(eventPublisher).publish(UserEvent.deleted(userId, Role.SELLER));
     }
 
     @Test
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el seller no existe")
     void shouldThrowExceptionWhenSellerNotFound() {
         // Given
-        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.empty());
+        when(sellerRepository.deleteByUserId(userId)).thenReturn(false);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -80,42 +70,65 @@ class DeleteSellerServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Seller not found"));
-
-        verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(sellerRepository, never()).delete(any(Seller.class));
-        verify(userRepository, never()).deleteByUserId(any(UserId.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Debe eliminar de sellerRepository antes de userRepository")
-    void shouldDeleteFromSellerRepositoryBeforeUserRepository() {
+    @DisplayName("Debe eliminar por id sin leer el seller antes")
+    void shouldDeleteWithoutReadingSeller() {
         // Given
-        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        doNothing().when(sellerRepository).delete(existingSeller);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        when(sellerRepository.deleteByUserId(userId)).thenReturn(true);
 
         // When
         deleteSellerService.deleteSeller(userId);
 
         // Then
-        var inOrder = inOrder(sellerRepository, userRepository);
-        inOrder.verify(sellerRepository).delete(existingSeller);
-        inOrder.verify(userRepository).deleteByUserId(userId);
+        verify(sellerRepository).deleteByUserId(userId);
+        verifyNoMoreInteractions(sellerRepository);
     }
 
     @Test
-    @DisplayName("Debe buscar el seller antes de eliminar")
-    void shouldFindSellerBeforeDeleting() {
+    @DisplayName("Debe eliminar en lote sin ids repetidos y reportar cuantos se borraron")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteDistinctIdsInBatch() {
         // Given
-        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        doNothing().when(sellerRepository).delete(existingSeller);
-        doNothing().when(userRepository).deleteByUserId(userId);
+        UserId otherId = new UserId("other-seller-id");
+        when(sellerRepository.deleteByUserIds(any())).thenReturn(List.of(userId));
 
         // When
-        deleteSellerService.deleteSeller(userId);
+        BulkDeleteResultDTO result = deleteSellerService.deleteSellers(List.of(userId, otherId, userId));
+
+        // Then
+        ArgumentCaptor<Collection<UserId>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(sellerRepository).deleteByUserIds(ids.capture());
+        assertEquals(List.of(userId, otherId), List.copyOf(ids.getValue()));
+        assertEquals(2, result.requested());
+        assertEquals(1L, result.deleted());
+        verify(eventPublisher).publishAll(List.of(UserEvent.deleted(userId, Role.SELLER)));
+    }
+
+    @Test
+    @DisplayName("No debe publicar eventos cuando ningun id existia")
+    void shouldNotPublishWhenNothingWasDeleted() {
+        // Given
+        when(sellerRepository.deleteByUserIds(any())).thenReturn(List.of());
+
+        // When
+        BulkDeleteResultDTO result = deleteSellerService.deleteSellers(List.of(new UserId("missing-id")));
 
         // Then
-        verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(sellerRepository, times(1)).delete(existingSeller);
+        assertEquals(0L, result.deleted());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes mayores al maximo permitido")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<UserId> ids = List.of(new UserId("a"), new UserId("b"), new UserId("c"), new UserId("d"));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> deleteSellerService.deleteSellers(ids));
+        verifyNoInteractions(sellerRepository);
     }
 }
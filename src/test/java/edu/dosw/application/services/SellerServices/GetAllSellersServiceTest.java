@@ -1,21 +1,23 @@
 package edu.dosw.application.services.SellerServices;
 
-import edu.dosw.domain.model.Seller;
+import edu.dosw.application.dto.SellerPageDTO;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.SellerRepositoryPort;
+import edu.dosw.exception.BusinessException;
+import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,131 +27,117 @@ class GetAllSellersServiceTest {
     @Mock
     private SellerRepositoryPort sellerRepository;
 
-    @InjectMocks
     private GetAllSellersService getAllSellersService;
 
-    private Seller seller1;
-    private Seller seller2;
+    private SellerSummary seller1;
+    private SellerSummary seller2;
+    private SellerSummary seller3;
 
     @BeforeEach
     void setUp() {
-        seller1 = new Seller(
-                new UserId("seller-id-1"),
-                new IdentityDocument("123456789"),
-                new Email("seller1@company.com"),
-                new FullName("Seller One"),
-                new PasswordHash("encodedPassword1"),
-                "Company One",
-                "Address One"
-        );
-
-        seller2 = new Seller(
-                new UserId("seller-id-2"),
-                new IdentityDocument("987654321"),
-                new Email("seller2@company.com"),
-                new FullName("Seller Two"),
-                new PasswordHash("encodedPassword2"),
-                "Company Two",
-                "Address Two"
-        );
+        getAllSellersService = new GetAllSellersService(sellerRepository, new SellerWebMapper(), 2, 5);
+
+        seller1 = summary("seller-id-1", "seller1@company.com", "Seller One", "Company One");
+        seller2 = summary("seller-id-2", "seller2@company.com", "Seller Two", "Company Two");
+        seller3 = summary("seller-id-3", "seller3@company.com", "Seller Three", "Company Three");
+    }
+
+    private static SellerSummary summary(String id, String email, String name, String company) {
+        return new SellerSummary(new UserId(id), new Email(email), new FullName(name), company, "Address");
     }
 
     @Test
-    @DisplayName("Debe obtener todos los sellers exitosamente")
-    void shouldGetAllSellersSuccessfully() {
+    @DisplayName("Debe obtener la primera pagina de sellers con token de continuacion")
+    void shouldGetFirstPageWithContinuationToken() {
         // Given
-        List<Seller> sellers = Arrays.asList(seller1, seller2);
-        when(sellerRepository.findAll()).thenReturn(sellers);
+        when(sellerRepository.findSummaries(null, null, 3)).thenReturn(List.of(seller1, seller2, seller3));
 
         // When
-        List<Seller> result = getAllSellersService.getAllSellers();
+        SellerPageDTO result = getAllSellersService.getAllSellers(null, null);
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(seller1));
-        assertTrue(result.contains(seller2));
-
-        verify(sellerRepository, times(1)).findAll();
+        assertEquals(2, result.sellers().size());
+        assertEquals("seller-id-1", result.sellers().get(0).userId());
+        assertEquals("Company Two", result.sellers().get(1).companyName());
+        assertNotNull(result.continuationToken());
+        assertEquals(new UserId("seller-id-2"), GetAllSellersService.decodeToken(result.continuationToken()));
     }
 
     @Test
-    @DisplayName("Debe retornar lista vacía cuando no hay sellers")
-    void shouldReturnEmptyListWhenNoSellers() {
+    @DisplayName("Debe continuar desde el ultimo seller del token")
+    void shouldContinueFromTokenPosition() {
         // Given
-        when(sellerRepository.findAll()).thenReturn(Collections.emptyList());
+        String token = GetAllSellersService.encodeToken(new UserId("seller-id-2"));
+        when(sellerRepository.findSummaries(null, new UserId("seller-id-2"), 3)).thenReturn(List.of(seller3));
 
         // When
-        List<Seller> result = getAllSellersService.getAllSellers();
+        SellerPageDTO result = getAllSellersService.getAllSellers(token, null);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(sellerRepository, times(1)).findAll();
+        assertEquals(1, result.sellers().size());
+        assertEquals("seller-id-3", result.sellers().get(0).userId());
+        assertNull(result.continuationToken());
     }
 
     @Test
-    @DisplayName("Debe obtener sellers pendientes exitosamente")
-    void shouldGetPendingSellersSuccessfully() {
+    @DisplayName("Debe retornar pagina vacía cuando no hay sellers")
+    void shouldReturnEmptyPageWhenNoSellers() {
         // Given
-        List<Seller> pendingSellers = List.of(seller1);
-        when(sellerRepository.findByApproved(false)).thenReturn(pendingSellers);
+        when(sellerRepository.findSummaries(null, null, 3)).thenReturn(Collections.emptyList());
 
         // When
-        List<Seller> result = getAllSellersService.getPendingSellers();
+        SellerPageDTO result = getAllSellersService.getAllSellers(null, null);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertTrue(result.contains(seller1));
-
-        verify(sellerRepository, times(1)).findByApproved(false);
+        assertTrue(result.sellers().isEmpty());
+        assertNull(result.continuationToken());
     }
 
     @Test
-    @DisplayName("Debe retornar lista vacía cuando no hay sellers pendientes")
-    void shouldReturnEmptyListWhenNoPendingSellers() {
+    @DisplayName("Debe obtener sellers pendientes filtrando por no aprobados")
+    void shouldGetPendingSellersSuccessfully() {
         // Given
-        when(sellerRepository.findByApproved(false)).thenReturn(Collections.emptyList());
+        when(sellerRepository.findSummaries(false, null, 3)).thenReturn(List.of(seller1));
 
         // When
-        List<Seller> result = getAllSellersService.getPendingSellers();
+        SellerPageDTO result = getAllSellersService.getPendingSellers(null, null);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(sellerRepository, times(1)).findByApproved(false);
+        assertEquals(1, result.sellers().size());
+        assertNull(result.continuationToken());
+        verify(sellerRepository).findSummaries(false, null, 3);
+        verifyNoMoreInteractions(sellerRepository);
     }
 
     @Test
-    @DisplayName("Debe llamar al repositorio correctamente para obtener todos los sellers")
-    void shouldCallRepositoryCorrectlyForAllSellers() {
+    @DisplayName("Debe usar el tamaño de pagina solicitado")
+    void shouldUseRequestedPageSize() {
         // Given
-        List<Seller> sellers = Arrays.asList(seller1, seller2);
-        when(sellerRepository.findAll()).thenReturn(sellers);
+        when(sellerRepository.findSummaries(null, null, 5)).thenReturn(List.of(seller1, seller2, seller3));
 
         // When
-        getAllSellersService.getAllSellers();
+        SellerPageDTO result = getAllSellersService.getAllSellers(null, 4);
 
         // Then
-        verify(sellerRepository, times(1)).findAll();
-        verify(sellerRepository, never()).findByApproved(anyBoolean());
+        assertEquals(3, result.sellers().size());
+        assertNull(result.continuationToken());
     }
 
     @Test
-    @DisplayName("Debe llamar al repositorio correctamente para obtener sellers pendientes")
-    void shouldCallRepositoryCorrectlyForPendingSellers() {
-        // Given
-        List<Seller> pendingSellers = List.of(seller1);
-        when(sellerRepository.findByApproved(false)).thenReturn(pendingSellers);
-
-        // When
-        getAllSellersService.getPendingSellers();
+    @DisplayName("Debe rechazar tamaños de pagina fuera del limite")
+    void shouldRejectPageSizeOutOfRange() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers(null, 6));
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers(null, 0));
+        verifyNoInteractions(sellerRepository);
+    }
 
-        // Then
-        verify(sellerRepository, times(1)).findByApproved(false);
-        verify(sellerRepository, never()).findAll();
+    @Test
+    @DisplayName("Debe rechazar tokens de continuacion invalidos")
+    void shouldRejectInvalidContinuationToken() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers("not base64!", null));
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers("c2VsbGVyLWlkLTE", null));
+        verifyNoInteractions(sellerRepository);
     }
 }
@@ -1,25 +1,32 @@
 package edu.dosw.application.services.SellerServices;
 
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.application.ports.UserEventPublisherPort;
 import edu.dosw.application.dto.SellerUpdateDTO;
 import edu.dosw.application.dto.command.SellerCommands.UpdateSellerCommand;
+import edu.dosw.application.services.OptimisticRetry;
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.UserChanges;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.ports.SellerRepositoryPort;
-import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.ResourceAlreadyExistsException;
 import edu.dosw.exception.ResourceNotFoundException;
 import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,10 +37,13 @@ class UpdateSellerServiceTest {
     private SellerRepositoryPort sellerRepository;
 
     @Mock
-    private UserRepositoryPort userRepository;
+    private SellerWebMapper sellerWebMapper;
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(3, 0);
 
     @Mock
-    private SellerWebMapper sellerWebMapper;
+    private UserEventPublisherPort eventPublisher;
 
     @InjectMocks
     private UpdateSellerService updateSellerService;
@@ -78,20 +88,7 @@ class UpdateSellerServiceTest {
     @DisplayName("Debe actualizar un seller exitosamente")
     void shouldUpdateSellerSuccessfully() {
         // Given
-        Seller updatedSeller = new Seller(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("sellerupdated@company.com"),
-                new FullName("Seller Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "Updated Company",
-                "Calle Nueva #56-78"
-        );
-
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(sellerRepository.save(any(Seller.class))).thenReturn(updatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(updatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
@@ -106,10 +103,9 @@ class UpdateSellerServiceTest {
         assertEquals("Calle Nueva #56-78", result.businessAddress());
 
         verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(sellerRepository, times(1)).save(any(Seller.class));
-        verify(userRepository, times(1)).save(any(Seller.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
         verify(sellerWebMapper, times(1)).toUpdateDTO(any(Seller.class));
+        verify(eventPublisher).publish(any(UserEvent.class));
     }
 
     @Test
@@ -127,28 +123,25 @@ class UpdateSellerServiceTest {
         assertTrue(exception.getMessage().contains("Seller not found"));
 
         verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(sellerRepository, never()).save(any(Seller.class));
-        verify(userRepository, never()).save(any(Seller.class));
+        verify(sellerRepository, never()).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe lanzar IllegalArgumentException cuando el email ya existe")
-    void shouldThrowExceptionWhenEmailAlreadyExists() {
+    @DisplayName("Debe propagar ResourceAlreadyExistsException cuando el índice único rechaza el email")
+    void shouldPropagateConflictWhenEmailAlreadyExists() {
         // Given
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        doThrow(new ResourceAlreadyExistsException("A user with this email already exists"))
+                .when(sellerRepository).update(any(Seller.class), any(UserChanges.class));
 
         // When & Then
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                ResourceAlreadyExistsException.class,
                 () -> updateSellerService.updateSeller(userId, validCommand)
         );
 
-        assertTrue(exception.getMessage().contains("Email already exists"));
-
         verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(userRepository, times(1)).existsByEmail(any(Email.class));
-        verify(sellerRepository, never()).save(any(Seller.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
@@ -163,16 +156,6 @@ class UpdateSellerServiceTest {
                 null
         );
 
-        Seller partialUpdatedSeller = new Seller(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("seller@company.com"),
-                new FullName("Seller Original"),
-                new PasswordHash("encodedPassword"),
-                "Original Company",
-                "Calle Original #12-34"
-        );
-
         SellerUpdateDTO partialDTO = new SellerUpdateDTO(
                 "987654321",
                 "seller@company.com",
@@ -182,8 +165,6 @@ class UpdateSellerServiceTest {
         );
 
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(sellerRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(partialDTO);
 
         // When
@@ -197,8 +178,7 @@ class UpdateSellerServiceTest {
         assertEquals("Original Company", result.companyName());
         assertEquals("Calle Original #12-34", result.businessAddress());
 
-        verify(sellerRepository, times(1)).save(any(Seller.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
@@ -213,16 +193,6 @@ class UpdateSellerServiceTest {
                 null
         );
 
-        Seller partialUpdatedSeller = new Seller(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("seller@company.com"),
-                new FullName("Seller Original"),
-                new PasswordHash("encodedPassword"),
-                "Updated Company",
-                "Calle Original #12-34"
-        );
-
         SellerUpdateDTO partialDTO = new SellerUpdateDTO(
                 "123456789",
                 "seller@company.com",
@@ -232,8 +202,6 @@ class UpdateSellerServiceTest {
         );
 
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(sellerRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(partialDTO);
 
         // When
@@ -247,8 +215,7 @@ class UpdateSellerServiceTest {
         assertEquals("Seller Original", result.fullName());
         assertEquals("Calle Original #12-34", result.businessAddress());
 
-        verify(sellerRepository, times(1)).save(any(Seller.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
@@ -263,16 +230,6 @@ class UpdateSellerServiceTest {
                 "Calle Nueva #56-78"
         );
 
-        Seller partialUpdatedSeller = new Seller(
-                userId,
-                new IdentityDocument("123456789"),
-                new Email("seller@company.com"),
-                new FullName("Seller Original"),
-                new PasswordHash("encodedPassword"),
-                "Original Company",
-                "Calle Nueva #56-78"
-        );
-
         SellerUpdateDTO partialDTO = new SellerUpdateDTO(
                 "123456789",
                 "seller@company.com",
@@ -282,8 +239,6 @@ class UpdateSellerServiceTest {
         );
 
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(sellerRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(partialUpdatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(partialDTO);
 
         // When
@@ -297,37 +252,21 @@ class UpdateSellerServiceTest {
         assertEquals("Seller Original", result.fullName());
         assertEquals("Original Company", result.companyName());
 
-        verify(sellerRepository, times(1)).save(any(Seller.class));
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
-    @DisplayName("Debe guardar en ambos repositorios en el orden correcto")
-    void shouldSaveInCorrectOrder() {
+    @DisplayName("Debe guardar una sola vez a traves de sellerRepository")
+    void shouldSaveOnlyThroughSellerRepository() {
         // Given
-        Seller updatedSeller = new Seller(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("sellerupdated@company.com"),
-                new FullName("Seller Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "Updated Company",
-                "Calle Nueva #56-78"
-        );
-
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(sellerRepository.save(any(Seller.class))).thenReturn(updatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(updatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(expectedDTO);
 
         // When
         updateSellerService.updateSeller(userId, validCommand);
 
         // Then
-        var inOrder = inOrder(sellerRepository, userRepository);
-        inOrder.verify(sellerRepository).save(any(Seller.class));
-        inOrder.verify(userRepository).save(any(Seller.class));
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
     }
 
     @Test
@@ -342,19 +281,7 @@ class UpdateSellerServiceTest {
                 "Calle Nueva #56-78"
         );
 
-        Seller updatedSeller = new Seller(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("seller@company.com"),
-                new FullName("Seller Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "Updated Company",
-                "Calle Nueva #56-78"
-        );
-
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(sellerRepository.save(any(Seller.class))).thenReturn(updatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(updatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(new SellerUpdateDTO(
                 "987654321", "seller@company.com", "Seller Actualizado", "Updated Company", "Calle Nueva #56-78"
         ));
@@ -363,7 +290,9 @@ class UpdateSellerServiceTest {
         updateSellerService.updateSeller(userId, commandWithoutEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(sellerRepository, times(1)).findByUserId(userId);
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
+        verifyNoMoreInteractions(sellerRepository);
     }
 
     @Test
@@ -378,19 +307,7 @@ class UpdateSellerServiceTest {
                 "Calle Nueva #56-78"
         );
 
-        Seller updatedSeller = new Seller(
-                userId,
-                new IdentityDocument("987654321"),
-                new Email("seller@company.com"),
-                new FullName("Seller Actualizado"),
-                new PasswordHash("encodedPassword"),
-                "Updated Company",
-                "Calle Nueva #56-78"
-        );
-
         when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
-        when(sellerRepository.save(any(Seller.class))).thenReturn(updatedSeller);
-        when(userRepository.save(any(Seller.class))).thenReturn(updatedSeller);
         when(sellerWebMapper.toUpdateDTO(any(Seller.class))).thenReturn(new SellerUpdateDTO(
                 "987654321", "seller@company.com", "Seller Actualizado", "Updated Company", "Calle Nueva #56-78"
         ));
@@ -399,7 +316,9 @@ class UpdateSellerServiceTest {
         updateSellerService.updateSeller(userId, commandWithSameEmail);
 
         // Then
-        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(sellerRepository, times(1)).findByUserId(userId);
+        verify(sellerRepository, times(1)).update(any(Seller.class), any(UserChanges.class));
+        verifyNoMoreInteractions(sellerRepository);
     }
 
     @Test
@@ -421,6 +340,50 @@ class UpdateSellerServiceTest {
                 () -> updateSellerService.updateSeller(userId, invalidCommand));
 
         verify(sellerRepository, times(1)).findByUserId(userId);
-        verify(sellerRepository, never()).save(any(Seller.class));
+        verify(sellerRepository, never()).update(any(Seller.class), any(UserChanges.class));
+    }
+
+    @Test
+    @DisplayName("No debe escribir cuando ningún campo cambia")
+    void shouldSkipWriteWhenNothingChanges() {
+        // Given
+        UpdateSellerCommand sameValues = new UpdateSellerCommand(
+                null,
+                "seller@company.com",
+                "Seller Original",
+                "Original Company",
+                null
+        );
+        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
+
+        // When
+        updateSellerService.updateSeller(userId, sameValues);
+
+        // Then
+        verify(sellerRepository, never()).update(any(Seller.class), any(UserChanges.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe enviar al repositorio solo los campos modificados")
+    void shouldSendOnlyChangedFields() {
+        // Given
+        UpdateSellerCommand command = new UpdateSellerCommand(
+                "123456789",
+                null,
+                null,
+                "New Company",
+                "Calle Original #12-34"
+        );
+        when(sellerRepository.findByUserId(userId)).thenReturn(Optional.of(existingSeller));
+        ArgumentCaptor<UserChanges> changes = ArgumentCaptor.forClass(UserChanges.class);
+
+        // When
+        updateSellerService.updateSeller(userId, command);
+
+        // Then
+        verify(sellerRepository).update(eq(existingSeller), changes.capture());
+        assertEquals(new UserChanges(null, null, null, null, "New Company", null), changes.getValue());
+        verify(eventPublisher).publish(UserEvent.updated(existingSeller, changes.getValue()));
     }
 }
@@ -16,8 +16,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -59,9 +57,8 @@ class UpdatePasswordServiceTest {
     @DisplayName("Debe actualizar password exitosamente")
     void shouldUpdatePasswordSuccessfully() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         PasswordUpdateRequestDTO result = updatePasswordService.updatePassword(validCommand);
@@ -70,16 +67,18 @@ class UpdatePasswordServiceTest {
         assertNotNull(result);
         assertEquals("newPassword123", result.newPassword());
 
-        verify(userRepository, times(1)).findByUserId(userId);
         verify(passwordEncoder, times(1)).encode("newPassword123");
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).updatePasswordHash(userId, new PasswordHash("newEncodedPassword"));
+        verify(userRepository, never()).findByUserId(any(UserId.class));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
     @DisplayName("Debe lanzar ResourceNotFoundException cuando el usuario no existe")
     void shouldThrowExceptionWhenUserNotFound() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(false);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -89,8 +88,6 @@ class UpdatePasswordServiceTest {
 
         assertTrue(exception.getMessage().contains("User not found"));
 
-        verify(userRepository, times(1)).findByUserId(userId);
-        verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -98,9 +95,8 @@ class UpdatePasswordServiceTest {
     @DisplayName("Debe encodear el password antes de guardar")
     void shouldEncodePasswordBeforeSaving() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         updatePasswordService.updatePassword(validCommand);
@@ -110,28 +106,26 @@ class UpdatePasswordServiceTest {
     }
 
     @Test
-    @DisplayName("Debe llamar a changePassword del usuario")
-    void shouldCallChangePasswordOnUser() {
+    @DisplayName("Debe actualizar solo el hash del password")
+    void shouldUpdateOnlyPasswordHash() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         updatePasswordService.updatePassword(validCommand);
 
         // Then
-        verify(userRepository, times(1)).save(user);
-        verify(passwordEncoder, times(1)).encode("newPassword123");
+        verify(userRepository, times(1)).updatePasswordHash(userId, new PasswordHash("newEncodedPassword"));
+        verifyNoMoreInteractions(userRepository);
     }
 
     @Test
-    @DisplayName("Debe encodear password antes de llamar a changePassword")
-    void shouldEncodePasswordBeforeCallingChangePassword() {
+    @DisplayName("Debe encodear password antes de actualizar el hash")
+    void shouldEncodePasswordBeforeUpdatingHash() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         updatePasswordService.updatePassword(validCommand);
@@ -139,34 +133,15 @@ class UpdatePasswordServiceTest {
         // Then
         var inOrder = inOrder(passwordEncoder, userRepository);
         inOrder.verify(passwordEncoder).encode("newPassword123");
-        inOrder.verify(userRepository).save(user);
-    }
-
-    @Test
-    @DisplayName("Debe buscar el usuario antes de actualizar")
-    void shouldFindUserBeforeUpdating() {
-        // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-
-        // When
-        updatePasswordService.updatePassword(validCommand);
-
-        // Then
-        var inOrder = inOrder(userRepository, passwordEncoder);
-        inOrder.verify(userRepository).findByUserId(userId);
-        inOrder.verify(passwordEncoder).encode("newPassword123");
-        inOrder.verify(userRepository).save(user);
+        inOrder.verify(userRepository).updatePasswordHash(userId, new PasswordHash("newEncodedPassword"));
     }
 
     @Test
     @DisplayName("Debe retornar DTO con el nuevo password")
     void shouldReturnDTOWithNewPassword() {
         // Given
-        when(userRepository.findByUserId(userId)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.updatePasswordHash(userId, new PasswordHash("newEncodedPassword"))).thenReturn(true);
 
         // When
         PasswordUpdateRequestDTO result = updatePasswordService.updatePassword(validCommand);
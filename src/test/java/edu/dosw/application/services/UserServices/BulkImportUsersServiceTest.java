@@ -0,0 +1,247 @@
+package edu.dosw.application.services.UserServices;
+
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.dto.BulkImportResultDTO;
+import edu.dosw.application.dto.BulkImportRowDTO.Status;
+import edu.dosw.application.dto.command.AdminCommands.CreateAdminCommand;
+import edu.dosw.application.dto.command.CustomerCommands.CreateCustomerCommand;
+import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.domain.ports.PasswordEncoderPort;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import edu.dosw.exception.BusinessException;
+import edu.dosw.utils.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para BulkImportUsersService")
+class BulkImportUsersServiceTest {
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private UserBulkWritePort userBulkWritePort;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoder;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private UserEventPublisherPort eventPublisher;
+
+    private BulkImportUsersService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkImportUsersService(userRepository, userBulkWritePort, passwordEncoder, idGenerator, eventPublisher, 3);
+        AtomicInteger ids = new AtomicInteger();
+        lenient().when(idGenerator.generateUniqueId()).thenAnswer(invocation -> "id-" + ids.incrementAndGet());
+        lenient().when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<String> raw = invocation.getArgument(0);
+            return raw.stream().map(password -> "hashed-" + password).toList();
+        });
+    }
+
+    private static CreateCustomerCommand customer(String email, String password) {
+        return new CreateCustomerCommand("123456789", email, "Customer Test", password, "3001234567");
+    }
+
+    @Test
+    @DisplayName("Debe crear todos los clientes con una consulta, un hash en paralelo y una escritura")
+    @SuppressWarnings("unchecked")
+    void shouldCreateAllCustomersInOneRoundTripEach() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(
+                customer("a@test.com", "pass-a"),
+                customer("b@test.com", "pass-b")));
+
+        // Then
+        assertEquals(2, result.created());
+        assertEquals(0, result.rejected());
+        assertEquals(Status.CREATED, result.rows().get(0).status());
+        assertEquals("id-1", result.rows().get(0).userId());
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+        verify(passwordEncoder, times(1)).encodeAll(List.of("pass-a", "pass-b"));
+        verify(passwordEncoder, never()).encode(anyString());
+
+        ArgumentCaptor<List<User>> written = ArgumentCaptor.forClass(List.class);
+        verify(userBulkWritePort, times(1)).insertAll(written.capture());
+        Customer first = (Customer) written.getValue().get(0);
+        assertEquals("hashed-pass-a", first.getPasswordHash().value());
+        assertEquals("3001234567", first.getPhoneNumber());
+        verify(eventPublisher).publishAll(written.getValue().stream().map(UserEvent::created).toList());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como duplicados los emails ya registrados sin hashearlos")
+    void shouldMarkRegisteredEmailsAsDuplicates() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("a@test.com"));
+        when(userBulkWritePort.insertAll(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(
+                customer("A@Test.com", "pass-a"),
+                customer("b@test.com", "pass-b")));
+
+        // Then
+        assertEquals(1, result.created());
+        assertEquals(Status.DUPLICATE, result.rows().get(0).status());
+        assertEquals(Status.CREATED, result.rows().get(1).status());
+        verify(passwordEncoder).encodeAll(List.of("pass-b"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar emails repetidos dentro de la misma importacion")
+    void shouldRejectEmailsRepeatedInSameImport() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(
+                customer("a@test.com", "pass-a"),
+                customer("A@TEST.COM", "pass-b")));
+
+        // Then
+        assertEquals(1, result.created());
+        assertEquals(Status.CREATED, result.rows().get(0).status());
+        assertEquals(Status.DUPLICATE, result.rows().get(1).status());
+    }
+
+    @Test
+    @DisplayName("Debe marcar filas invalidas sin detener la importacion")
+    void shouldMarkInvalidRowsAndContinue() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(
+                customer("not-an-email", "pass-a"),
+                customer("b@test.com", ""),
+                customer("c@test.com", "pass-c")));
+
+        // Then
+        assertEquals(1, result.created());
+        assertEquals(2, result.rejected());
+        assertEquals(Status.INVALID, result.rows().get(0).status());
+        assertEquals("Invalid email format", result.rows().get(0).message());
+        assertEquals(Status.INVALID, result.rows().get(1).status());
+        assertEquals(Status.CREATED, result.rows().get(2).status());
+        verify(passwordEncoder).encodeAll(List.of("pass-c"));
+    }
+
+    @Test
+    @DisplayName("Debe reportar por fila los fallos de escritura")
+    void shouldReportWriteFailuresPerRow() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList()))
+                .thenReturn(Map.of(1, new UserBulkWritePort.Failure(false, "write concern error")));
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(
+                customer("a@test.com", "pass-a"),
+                customer("b@test.com", "pass-b")));
+
+        // Then
+        assertEquals(1, result.created());
+        assertEquals(Status.CREATED, result.rows().get(0).status());
+        assertEquals(Status.FAILED, result.rows().get(1).status());
+        assertNull(result.rows().get(1).userId());
+    }
+
+    @Test
+    @DisplayName("Debe reportar como duplicado el email que otro import registro durante la escritura")
+    void shouldReportDuplicateKeyAsDuplicate() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList()))
+                .thenReturn(Map.of(0, new UserBulkWritePort.Failure(true, "Email already registered")));
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(customer("a@test.com", "pass-a")));
+
+        // Then
+        assertEquals(0, result.created());
+        assertEquals(Status.DUPLICATE, result.rows().get(0).status());
+        assertEquals("Email already registered", result.rows().get(0).message());
+        verify(eventPublisher).publishAll(List.of());
+    }
+
+    @Test
+    @DisplayName("No debe hashear ni escribir cuando todas las filas son rechazadas")
+    void shouldNotHashOrWriteWhenEveryRowIsRejected() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("a@test.com"));
+
+        // When
+        BulkImportResultDTO result = service.importCustomers(List.of(customer("a@test.com", "pass-a")));
+
+        // Then
+        assertEquals(0, result.created());
+        verify(passwordEncoder, never()).encodeAll(anyList());
+        verifyNoInteractions(userBulkWritePort);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes vacios o mayores al maximo configurado")
+    void shouldRejectEmptyOrOversizedBatches() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> service.importCustomers(Collections.emptyList()));
+        assertThrows(BusinessException.class, () -> service.importCustomers(List.of(
+                customer("a@test.com", "p"), customer("b@test.com", "p"),
+                customer("c@test.com", "p"), customer("d@test.com", "p"))));
+        verifyNoInteractions(userRepository, userBulkWritePort, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("Debe importar sellers y admins con su rol")
+    @SuppressWarnings("unchecked")
+    void shouldImportSellersAndAdmins() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userBulkWritePort.insertAll(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkImportResultDTO sellers = service.importSellers(List.of(new CreateSellerCommand(
+                "123456789", "seller@test.com", "Seller Test", "pass", "Company", "Address")));
+        BulkImportResultDTO admins = service.importAdmins(List.of(new CreateAdminCommand(
+                "987654321", "admin@test.com", "Admin Test", "pass")));
+
+        // Then
+        assertEquals(1, sellers.created());
+        assertEquals(1, admins.created());
+        ArgumentCaptor<List<User>> written = ArgumentCaptor.forClass(List.class);
+        verify(userBulkWritePort, times(2)).insertAll(written.capture());
+        assertEquals("Company", ((Seller) written.getAllValues().get(0).get(0)).getCompanyName());
+    }
+}
@@ -0,0 +1,140 @@
+package edu.dosw.application.services.UserServices;
+
+import edu.dosw.application.dto.UserExportDTO;
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserExportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para ExportUsersService")
+class ExportUsersServiceTest {
+
+    @Mock
+    private UserExportPort userExportPort;
+
+    private UserExportRecord seller1;
+    private UserExportRecord seller2;
+    private LocalDateTime since;
+
+    @BeforeEach
+    void setUp() {
+        since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        seller1 = new UserExportRecord(
+                new UserId("seller-id-1"),
+                new IdentityDocument("123456789"),
+                new Email("seller1@company.com"),
+                new FullName("Seller One"),
+                Role.SELLER,
+                since.plusDays(1),
+                null,
+                "Company One",
+                "Address One"
+        );
+        seller2 = new UserExportRecord(
+                new UserId("seller-id-2"),
+                new IdentityDocument("987654321"),
+                new Email("seller2@company.com"),
+                new FullName("Seller Two"),
+                Role.SELLER,
+                since.plusDays(2),
+                null,
+                "Company Two",
+                "Address Two"
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRecords(Role role, LocalDateTime from, UserExportRecord... records) {
+        doAnswer(invocation -> {
+            Consumer<UserExportRecord> consumer = invocation.getArgument(2);
+            for (UserExportRecord record : records) {
+                consumer.accept(record);
+            }
+            return null;
+        }).when(userExportPort).forEach(eq(role), eq(from), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Debe exportar cada usuario en orden y retornar la cantidad")
+    void shouldExportEveryUserInOrder() {
+        // Given
+        ExportUsersService service = new ExportUsersService(userExportPort, 0);
+        streamRecords(Role.SELLER, since, seller1, seller2);
+        List<UserExportDTO> exported = new ArrayList<>();
+
+        // When
+        long count = service.exportUsers(Role.SELLER, since, exported::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals("seller-id-1", exported.get(0).userId());
+        assertEquals("Company Two", exported.get(1).companyName());
+        assertEquals(Role.SELLER, exported.get(1).role());
+        assertEquals(since.plusDays(2), exported.get(1).createdAt());
+    }
+
+    @Test
+    @DisplayName("Debe pasar el filtro since al repositorio")
+    @SuppressWarnings("unchecked")
+    void shouldPassSinceFilterToRepository() {
+        // Given
+        ExportUsersService service = new ExportUsersService(userExportPort, 0);
+
+        // When
+        long count = service.exportUsers(Role.CUSTOMER, null, dto -> { });
+
+        // Then
+        assertEquals(0, count);
+        verify(userExportPort).forEach(eq(Role.CUSTOMER), isNull(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Debe limitar la velocidad de exportacion a los documentos por segundo configurados")
+    void shouldThrottleExportRate() {
+        // Given
+        ExportUsersService service = new ExportUsersService(userExportPort, 20);
+        streamRecords(Role.SELLER, null, seller1, seller2, seller1, seller2);
+
+        // When
+        long start = System.nanoTime();
+        service.exportUsers(Role.SELLER, null, dto -> { });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        // 4 documents at 20 docs/s: the last one is due 150 ms after the first
+        assertTrue(elapsedMillis >= 140, "elapsed " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error del consumidor y detener la exportacion")
+    void shouldStopWhenSinkFails() {
+        // Given
+        ExportUsersService service = new ExportUsersService(userExportPort, 0);
+        streamRecords(Role.SELLER, null, seller1, seller2);
+        List<UserExportDTO> exported = new ArrayList<>();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.exportUsers(Role.SELLER, null, dto -> {
+            exported.add(dto);
+            throw new IllegalStateException("client disconnected");
+        }));
+        assertEquals(1, exported.size());
+    }
+}
@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +36,9 @@ class GetUserCredentialsServiceTest {
     @Mock
     private UserWebMapper userWebMapper;
 
+    @Mock
+    private Executor rehashExecutor;
+
     @InjectMocks
     private GetUserCredentialsService getUserCredentialsService;
 
@@ -218,4 +222,102 @@ class GetUserCredentialsServiceTest {
         assertEquals("encodedPassword", result.password());
         assertEquals(Role.CUSTOMER, result.role());
     }
+
+    @Test
+    @DisplayName("Debe actualizar el hash en segundo plano cuando el costo esta desactualizado")
+    void shouldRehashPasswordWhenCostIsOutdated() {
+        // Given
+        String rawPassword = "password123";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(rawPassword, "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(rawPassword)).thenReturn("rehashedPassword");
+        when(userWebMapper.toCredentialsDTO(user)).thenReturn(credentialsDTO);
+        when(userRepository.updatePasswordHash(user.getUserId(), new PasswordHash("encodedPassword"),
+                new PasswordHash("rehashedPassword"))).thenReturn(true);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(rehashExecutor).execute(any(Runnable.class));
+
+        // When
+        UserCredentialsDTO result = getUserCredentialsService.getUserByEmailAndPassword(email, rawPassword);
+
+        // Then
+        assertEquals(credentialsDTO, result);
+        verify(userRepository, times(1)).updatePasswordHash(user.getUserId(), new PasswordHash("encodedPassword"),
+                new PasswordHash("rehashedPassword"));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+    }
+
+    @Test
+    @DisplayName("No debe modificar el usuario cargado ni sobrescribir un hash cambiado desde el login")
+    void shouldNotMutateLoadedUserNorOverwriteChangedHash() {
+        // Given
+        String rawPassword = "password123";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(rawPassword, "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(rawPassword)).thenReturn("rehashedPassword");
+        when(userWebMapper.toCredentialsDTO(user)).thenReturn(credentialsDTO);
+        // The password was reset between the login and the queued rehash
+        when(userRepository.updatePasswordHash(user.getUserId(), new PasswordHash("encodedPassword"),
+                new PasswordHash("rehashedPassword"))).thenReturn(false);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(rehashExecutor).execute(any(Runnable.class));
+
+        // When
+        UserCredentialsDTO result = getUserCredentialsService.getUserByEmailAndPassword(email, rawPassword);
+
+        // Then
+        assertEquals(credentialsDTO, result);
+        assertEquals("encodedPassword", user.getPasswordHash().value());
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+    }
+
+    @Test
+    @DisplayName("No debe actualizar el hash cuando el costo esta vigente")
+    void shouldNotRehashPasswordWhenCostIsCurrent() {
+        // Given
+        String rawPassword = "password123";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(rawPassword, "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("encodedPassword")).thenReturn(false);
+        when(userWebMapper.toCredentialsDTO(user)).thenReturn(credentialsDTO);
+
+        // When
+        getUserCredentialsService.getUserByEmailAndPassword(email, rawPassword);
+
+        // Then
+        verify(rehashExecutor, never()).execute(any(Runnable.class));
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class), any(PasswordHash.class));
+    }
+
+    @Test
+    @DisplayName("Debe retornar credenciales aunque falle la actualizacion del hash")
+    void shouldReturnCredentialsWhenRehashFails() {
+        // Given
+        String rawPassword = "password123";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(rawPassword, "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(rawPassword)).thenThrow(new RuntimeException("pool saturated"));
+        when(userWebMapper.toCredentialsDTO(user)).thenReturn(credentialsDTO);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(rehashExecutor).execute(any(Runnable.class));
+
+        // When
+        UserCredentialsDTO result = getUserCredentialsService.getUserByEmailAndPassword(email, rawPassword);
+
+        // Then
+        assertEquals(credentialsDTO, result);
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class));
+        verify(userRepository, never()).updatePasswordHash(any(UserId.class), any(PasswordHash.class), any(PasswordHash.class));
+    }
 }
@@ -0,0 +1,106 @@
+package edu.dosw.config;
+
+import edu.dosw.application.ports.UserEventPublisherPort;
+import edu.dosw.application.services.CustomerServices.DeleteCustomerService;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.ports.CustomerRepositoryPort;
+import edu.dosw.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para PortMetricsPostProcessor")
+class PortMetricsPostProcessorTest {
+
+    @Mock
+    private CustomerRepositoryPort customerRepository;
+
+    @Mock
+    private UserEventPublisherPort eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private PortMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Debe medir los metodos de un caso de uso con sus etiquetas y conservar la clase concreta")
+    void shouldTimeUseCaseMethods() {
+        // Given
+        when(customerRepository.deleteByUserId(any())).thenReturn(true);
+        Object bean = postProcessor.postProcessAfterInitialization(
+                new DeleteCustomerService(customerRepository, eventPublisher, 10), "deleteCustomerUseCase");
+
+        // When
+        ((DeleteCustomerService) bean).deleteCustomer(new UserId("customer-1"));
+
+        // Then
+        assertTrue(AopUtils.isCglibProxy(bean));
+        Timer timer = meterRegistry.get("usecase.duration")
+                .tag("port", "DeleteCustomerUseCase")
+                .tag("method", "deleteCustomer")
+                .tag("implementation", "DeleteCustomerService")
+                .tag("role", "customer")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Debe registrar los errores con su tipo de excepcion y relanzarlos")
+    void shouldCountErrorsByException() {
+        // Given
+        when(customerRepository.deleteByUserId(any())).thenReturn(false);
+        DeleteCustomerService bean = (DeleteCustomerService) postProcessor.postProcessAfterInitialization(
+                new DeleteCustomerService(customerRepository, eventPublisher, 10), "deleteCustomerUseCase");
+
+        // When
+        assertThrows(ResourceNotFoundException.class, () -> bean.deleteCustomer(new UserId("missing")));
+        assertThrows(ResourceNotFoundException.class, () -> bean.deleteCustomer(new UserId("missing")));
+
+        // Then
+        Timer errors = meterRegistry.get("usecase.duration")
+                .tag("outcome", "error")
+                .tag("exception", "ResourceNotFoundException")
+                .timer();
+        assertEquals(2, errors.count());
+    }
+
+    @Test
+    @DisplayName("No debe envolver beans que no exponen casos de uso ni puertos")
+    void shouldLeaveOtherBeansAlone() {
+        // Given
+        Object plain = new Object();
+
+        // When
+        Object bean = postProcessor.postProcessAfterInitialization(plain, "plain");
+
+        // Then
+        assertSame(plain, bean);
+    }
+
+    @Test
+    @DisplayName("Debe derivar el rol del nombre de la interfaz")
+    void shouldDeriveRoleFromInterfaceName() {
+        assertEquals("customer", PortMetricsPostProcessor.roleOf(CustomerRepositoryPort.class));
+        assertEquals("none", PortMetricsPostProcessor.roleOf(UserEventPublisherPort.class));
+    }
+}
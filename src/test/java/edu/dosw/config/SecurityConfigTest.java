@@ -0,0 +1,64 @@
+package edu.dosw.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para SecurityConfig")
+class SecurityConfigTest {
+
+    private final SecurityConfig securityConfig = new SecurityConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Debe contar los rehash descartados cuando la cola está llena")
+    void shouldCountDroppedRehashes() throws InterruptedException {
+        // Given
+        ThreadPoolExecutor executor = securityConfig.passwordRehashExecutor(1, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+            running.await();
+            executor.execute(() -> { });
+
+            // When
+            executor.execute(() -> { });
+            executor.execute(() -> { });
+
+            // Then
+            assertEquals(2.0, meterRegistry.get("security.password.rehash.dropped").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe usar y reportar el costo fijado sin calibrar")
+    void shouldUseAndReportPinnedCost() {
+        // When
+        PasswordEncoder encoder = securityConfig.passwordEncoder(4, 10, 16, 50, meterRegistry);
+
+        // Then
+        assertTrue(encoder.encode("Password-123").startsWith("$2a$04$"));
+        assertEquals(4.0, meterRegistry.get("security.bcrypt.cost").tag("source", "configured").gauge().value());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package edu.dosw.config;
+
+import edu.dosw.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests para SpringPasswordEncoderAdapter")
+class SpringPasswordEncoderAdapterTest {
+
+    // Request threads that block on the hashing pool
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private ThreadPoolExecutor hashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con TooManyRequestsException cuando el pool y su cola están llenos")
+    void shouldRejectWhenPoolAndQueueAreFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return "hash";
+        });
+        SpringPasswordEncoderAdapter adapter = adapter(passwordEncoder, 1, 1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> adapter.encode("running"), callers);
+        awaitUntil(() -> hashingExecutor.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> adapter.encode("queued"), callers);
+        awaitUntil(() -> hashingExecutor.getQueue().size() == 1);
+
+        // When
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> adapter.encode("rejected"));
+
+        // Then
+        assertEquals("Password hashing capacity exhausted, retry later", exception.getMessage());
+        verify(passwordEncoder, never()).encode("rejected");
+        release.countDown();
+        assertEquals("hash", running.get(10, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe conservar el orden de entrada en encodeAll a través de varias ventanas")
+    void shouldKeepInputOrderAcrossWindowsInEncodeAll() {
+        // Given
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            String raw = invocation.getArgument(0);
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            // Earlier passwords finish later, so completion order is the reverse of input order
+            Thread.sleep(60L - 10L * Integer.parseInt(raw.substring(1)));
+            concurrent.decrementAndGet();
+            return "hash-" + raw;
+        });
+        SpringPasswordEncoderAdapter adapter = adapter(passwordEncoder, 2, 64);
+
+        // When
+        List<String> hashes = adapter.encodeAll(List.of("p0", "p1", "p2", "p3", "p4"));
+
+        // Then
+        assertEquals(List.of("hash-p0", "hash-p1", "hash-p2", "hash-p3", "hash-p4"), hashes);
+        assertTrue(maxConcurrent.get() <= 2, "at most one hash per pool thread at a time");
+    }
+
+    @Test
+    @DisplayName("Debe indicar rehash solo para hashes con un coste menor al configurado")
+    void shouldNeedRehashOnlyForLowerCost() {
+        // Given
+        SpringPasswordEncoderAdapter adapter = adapter(new BCryptPasswordEncoder(6), 1, 1);
+
+        // When & Then
+        assertTrue(adapter.needsRehash(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(adapter.needsRehash(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(adapter.needsRehash(new BCryptPasswordEncoder(7).encode("secret")));
+        assertFalse(adapter.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    private SpringPasswordEncoderAdapter adapter(PasswordEncoder passwordEncoder, int threads, int queueCapacity) {
+        hashingExecutor = new SecurityConfig().passwordHashingExecutor(threads, queueCapacity);
+        return new SpringPasswordEncoderAdapter(passwordEncoder, hashingExecutor, new SimpleMeterRegistry());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
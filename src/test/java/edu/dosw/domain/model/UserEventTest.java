@@ -0,0 +1,73 @@
+package edu.dosw.domain.model;
+
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para UserEvent")
+class UserEventTest {
+
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        seller = new Seller(
+                new UserId("seller-1"),
+                new IdentityDocument("123456789"),
+                new Email("seller@company.com"),
+                new FullName("Seller Test"),
+                new PasswordHash("encodedPassword"),
+                "Test Company",
+                "Calle 123 #45-67"
+        );
+    }
+
+    @Test
+    @DisplayName("Debe incluir todos los campos del perfil al crear, sin credenciales")
+    void shouldCarryWholeProfileOnCreation() {
+        // When
+        UserEvent event = UserEvent.created(seller);
+
+        // Then
+        assertEquals(UserEvent.Type.CREATED, event.type());
+        assertEquals("user.created", event.type().eventType());
+        assertEquals(Role.SELLER, event.role());
+        assertEquals(List.of("identityDocument", "email", "fullName", "companyName", "businessAddress"),
+                List.copyOf(event.fields().keySet()));
+        assertEquals("seller@company.com", event.fields().get("email"));
+        assertFalse(event.fields().containsValue("encodedPassword"));
+    }
+
+    @Test
+    @DisplayName("Debe incluir solo los campos modificados al actualizar")
+    void shouldCarryOnlyChangedFieldsOnUpdate() {
+        // Given
+        Seller edited = new Seller(seller.getUserId(), seller.getIdentityDocument(), new Email("new@company.com"),
+                seller.getFullName(), seller.getPasswordHash(), "New Company", seller.getBusinessAddress());
+
+        // When
+        UserEvent event = UserEvent.updated(seller, UserChanges.between(seller, edited));
+
+        // Then
+        assertEquals(Map.of("email", "new@company.com", "companyName", "New Company"), event.fields());
+    }
+
+    @Test
+    @DisplayName("Debe identificar al usuario eliminado sin campos")
+    void shouldCarryNoFieldsOnDeletion() {
+        // When
+        UserEvent event = UserEvent.deleted(new UserId("seller-1"), Role.SELLER);
+
+        // Then
+        assertEquals("user.deleted", event.type().eventType());
+        assertEquals("seller-1", event.userId().value());
+        assertTrue(event.fields().isEmpty());
+    }
+}
@@ -58,7 +58,10 @@ class EmailTest {
             "invalidemail",
             "@example.com",
             "user@",
-            "user @example.com"
+            "user @example.com",
+            "user@example.com\n",
+            "user@exam\rple.com",
+            "usér@example.com"
     })
     void shouldThrowExceptionWithInvalidEmailFormats(String invalidEmail) {
         // When & Then
@@ -83,4 +86,67 @@ class EmailTest {
         // Then
         assertEquals(emailValue, result);
     }
+
+    @Test
+    @DisplayName("Debe normalizar el email a minúsculas")
+    void shouldNormalizeEmailToLowerCase() {
+        // When
+        Email email = new Email("Jane.Doe@Example.COM");
+
+        // Then
+        assertEquals("jane.doe@example.com", email.value());
+    }
+
+    @Test
+    @DisplayName("Debe considerar iguales emails que solo difieren en mayúsculas")
+    void shouldConsiderEmailsDifferingOnlyInCaseEqual() {
+        // When
+        Email upper = new Email("USER@EXAMPLE.COM");
+        Email lower = new Email("user@example.com");
+
+        // Then
+        assertEquals(lower, upper);
+        assertEquals(lower.hashCode(), upper.hashCode());
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la instancia internada para el mismo email")
+    void shouldReuseInternedInstanceForSameEmail() {
+        // Given
+        Email first = Email.of("interned@example.com");
+
+        // When
+        Email second = Email.of("Interned@Example.com");
+
+        // Then
+        assertSame(first, second);
+        assertEquals("interned@example.com", second.value());
+    }
+
+    @Test
+    @DisplayName("Debe validar el formato también al usar of")
+    void shouldValidateFormatWhenUsingOf() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> Email.of("invalidemail")
+        );
+
+        assertEquals("Invalid email format", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe ser igual al email construido con new aunque of no valide dos veces")
+    void shouldBuildEqualValueThroughOf() {
+        // Given
+        Email constructed = new Email("Value@Example.com");
+
+        // When
+        Email interned = Email.of("value@example.com");
+
+        // Then
+        assertEquals(constructed, interned);
+        assertEquals(constructed.hashCode(), interned.hashCode());
+        assertEquals("Email[value=value@example.com]", interned.toString());
+    }
 }
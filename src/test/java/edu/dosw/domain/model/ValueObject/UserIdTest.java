@@ -62,4 +62,20 @@ class UserIdTest {
         // Then
         assertEquals(idValue, result);
     }
+
+    @ParameterizedTest
+    @DisplayName("Debe aceptar ULIDs, UUIDs versión 7 y los IDs aleatorios anteriores")
+    @ValueSource(strings = {
+            "01ARZ3NDEKTSV4RRFFQ69G5FAV",
+            "017f22e2-79b0-7cc3-98c4-dc0c0c07398f",
+            "3f1c2a9e-5b7d-4e21-9c0a-1b2c3d4e5f60",
+            "user-123"
+    })
+    void shouldAcceptIdsInAnyFormat(String id) {
+        // When
+        UserId userId = new UserId(id);
+
+        // Then
+        assertEquals(id, userId.value());
+    }
 }
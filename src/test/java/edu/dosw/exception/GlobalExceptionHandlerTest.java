@@ -0,0 +1,74 @@
+package edu.dosw.exception;
+
+import edu.dosw.application.dto.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para GlobalExceptionHandler")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Debe responder 429 cuando el pool de hashing rechaza la petición")
+    void shouldRespondTooManyRequestsWhenHashingPoolRejects() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/customers");
+        TooManyRequestsException exception = new TooManyRequestsException(
+                "Password hashing capacity exhausted, retry later", new RejectedExecutionException());
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleTooManyRequests(exception, request);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(429, response.getBody().getStatus());
+        assertEquals("TOO_MANY_REQUESTS", response.getBody().getCode());
+        assertEquals("Password hashing capacity exhausted, retry later", response.getBody().getMessage());
+        assertEquals("/users/customers", response.getBody().getPath());
+    }
+
+    @Test
+    @DisplayName("Debe responder que el email ya existe cuando se viola el índice de email")
+    void shouldReportDuplicateEmailForEmailIndex() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/customers");
+        DuplicateKeyException exception = new DuplicateKeyException("Write operation error on server localhost:27017. "
+                + "Write error: WriteError{code=11000, message='E11000 duplicate key error collection: "
+                + "users-management-db.users index: email_ci_unique dup key: { email: \"a@example.com\" }'}");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDuplicateKey(exception, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("RESOURCE_ALREADY_EXISTS", response.getBody().getCode());
+        assertEquals("A user with this email already exists", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe responder un conflicto genérico cuando se viola otro índice único")
+    void shouldReportGenericConflictForOtherIndexes() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/customers");
+        DuplicateKeyException exception = new DuplicateKeyException("E11000 duplicate key error collection: "
+                + "users-management-db.users index: _id_ dup key: { _id: \"email_ci_unique\" }");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDuplicateKey(exception, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("DUPLICATE_KEY", response.getBody().getCode());
+        assertEquals("A resource with the same unique key already exists", response.getBody().getMessage());
+    }
+}
@@ -0,0 +1,235 @@
+package edu.dosw.infrastructure.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para EventBuffer")
+class EventBufferTest {
+
+    private static final String CHANNEL = "events.test";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @TempDir
+    Path tempDir;
+
+    private MeterRegistry meterRegistry;
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        spillFile = tempDir.resolve("events.spill");
+        lenient().when(redisTemplate.getValueSerializer()).thenAnswer(invocation -> new GenericJackson2JsonRedisSerializer());
+    }
+
+    @Test
+    @DisplayName("Debe enviar todos los eventos encolados en una sola ida y vuelta a Redis")
+    void shouldPublishQueuedEventsInOnePipeline() {
+        // Given
+        EventBuffer buffer = buffer(16, "block");
+        redisAccepts();
+        buffer.offer(CHANNEL, event("e1"));
+        buffer.offer(CHANNEL, event("e2"));
+        buffer.offer(CHANNEL, event("e3"));
+
+        // When
+        int sent = buffer.drainOnce();
+
+        // Then
+        assertEquals(3, sent);
+        assertEquals(0, buffer.depth());
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection, times(3)).publish(eq(CHANNEL.getBytes(StandardCharsets.UTF_8)), any(byte[].class));
+        assertEquals(3, meterRegistry.get("events.publish.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe descartar y contar el evento cuando el buffer esta lleno con politica drop")
+    void shouldDropWhenFull() {
+        // Given
+        EventBuffer buffer = buffer(1, "drop");
+        buffer.offer(CHANNEL, event("e1"));
+
+        // When
+        buffer.offer(CHANNEL, event("e2"));
+
+        // Then
+        assertEquals(1, buffer.depth());
+        assertEquals(1.0, undelivered("dropped"));
+    }
+
+    @Test
+    @DisplayName("Debe esperar el tiempo configurado y luego descartar con politica block")
+    void shouldDropAfterBlockTimeout() {
+        // Given
+        EventBuffer buffer = buffer(1, "block");
+        buffer.offer(CHANNEL, event("e1"));
+
+        // When
+        buffer.offer(CHANNEL, event("e2"));
+
+        // Then
+        assertEquals(1, buffer.depth());
+        assertEquals(1.0, undelivered("dropped"));
+    }
+
+    @Test
+    @DisplayName("Debe volcar a disco cuando el buffer esta lleno y reenviarlo cuando se vacia")
+    void shouldSpillWhenFullAndReplayLater() throws Exception {
+        // Given
+        EventBuffer buffer = buffer(1, "spill");
+        redisAccepts();
+        buffer.offer(CHANNEL, event("e1"));
+        buffer.offer(CHANNEL, event("e2"));
+        assertEquals(1, Files.readAllLines(spillFile).size());
+
+        // When
+        buffer.drainOnce();
+        buffer.drainOnce();
+
+        // Then
+        verify(connection, times(2)).publish(any(byte[].class), any(byte[].class));
+        assertFalse(Files.exists(spillFile));
+        assertEquals(1.0, undelivered("spilled"));
+    }
+
+    @Test
+    @DisplayName("Debe volcar a disco el lote que Redis rechaza con politica spill")
+    void shouldSpillRejectedBatch() throws Exception {
+        // Given
+        EventBuffer buffer = buffer(16, "spill");
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        buffer.offer(CHANNEL, event("e1"));
+        buffer.offer(CHANNEL, event("e2"));
+
+        // When
+        buffer.drainOnce();
+
+        // Then
+        List<String> lines = Files.readAllLines(spillFile);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith(CHANNEL + "\t"));
+        assertTrue(lines.get(0).contains("e1"));
+        assertEquals(2.0, undelivered("failed"));
+        assertEquals(2.0, undelivered("spilled"));
+    }
+
+    @Test
+    @DisplayName("Debe contar como descartado el lote que Redis rechaza sin politica spill")
+    void shouldCountRejectedBatchAsDropped() {
+        // Given
+        EventBuffer buffer = buffer(16, "block");
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        buffer.offer(CHANNEL, event("e1"));
+
+        // When
+        buffer.drainOnce();
+
+        // Then
+        assertFalse(Files.exists(spillFile));
+        assertEquals(1.0, undelivered("failed"));
+        assertEquals(1.0, undelivered("dropped"));
+    }
+
+    @Test
+    @DisplayName("Debe descartar y contar los eventos ofrecidos despues de detenerse")
+    void shouldDropEventsOfferedAfterStop() {
+        // Given
+        EventBuffer buffer = buffer(16, "block");
+        buffer.start();
+        buffer.stop();
+
+        // When
+        buffer.offer(CHANNEL, event("e1"));
+
+        // Then
+        assertEquals(0, buffer.depth());
+        assertEquals(1.0, undelivered("dropped"));
+    }
+
+    @Test
+    @DisplayName("Debe volcar a disco los eventos ofrecidos despues de detenerse con politica spill")
+    void shouldSpillEventsOfferedAfterStop() throws Exception {
+        // Given
+        EventBuffer buffer = buffer(16, "spill");
+        buffer.start();
+        buffer.stop();
+
+        // When
+        buffer.offer(CHANNEL, event("e1"));
+
+        // Then
+        assertEquals(0, buffer.depth());
+        assertEquals(1, Files.readAllLines(spillFile).size());
+        assertEquals(1.0, undelivered("spilled"));
+    }
+
+    @Test
+    @DisplayName("Debe detenerse despues del servidor web y antes de la conexion a Redis")
+    void shouldStopBetweenWebServerAndRedisConnection() {
+        // Given
+        EventBuffer buffer = buffer(16, "block");
+
+        // When
+        int phase = buffer.getPhase();
+
+        // Then
+        assertTrue(phase < SmartLifecycle.DEFAULT_PHASE - 1024, "stops after the web server");
+        assertTrue(phase > 0, "stops before the Redis connection factory");
+    }
+
+    private EventBuffer buffer(int capacity, String overflow) {
+        return new EventBuffer(redisTemplate, new RedisPubSubTransport(), meterRegistry,
+                capacity, 256, overflow, 10, spillFile.toString());
+    }
+
+    private void redisAccepts() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    private double undelivered(String outcome) {
+        return meterRegistry.get("events.publish.undelivered").tag("outcome", outcome).counter().count();
+    }
+
+    private static EventWrapper event(String id) {
+        EventWrapper event = new EventWrapper();
+        event.setEventId(id);
+        event.setEventType("test.event");
+        event.setVersion("1.0");
+        return event;
+    }
+}
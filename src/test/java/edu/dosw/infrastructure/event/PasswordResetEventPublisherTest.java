@@ -12,7 +12,6 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,7 +22,7 @@ import static org.mockito.Mockito.*;
 class PasswordResetEventPublisherTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private EventBuffer eventBuffer;
 
     @InjectMocks
     private PasswordResetEventPublisher eventPublisher;
@@ -57,7 +56,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetRequested(email, user, verificationCode);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         EventWrapper capturedEvent = eventCaptor.getValue();
         assertNotNull(capturedEvent);
@@ -81,7 +80,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetVerified(email, verificationCode);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         EventWrapper capturedEvent = eventCaptor.getValue();
         assertNotNull(capturedEvent);
@@ -103,7 +102,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetCompleted(email, user, true);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         EventWrapper capturedEvent = eventCaptor.getValue();
         assertNotNull(capturedEvent);
@@ -125,7 +124,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetCompleted(email, user, false);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         EventWrapper capturedEvent = eventCaptor.getValue();
         PasswordResetEventPublisher.PasswordResetCompletedEventData data =
@@ -139,7 +138,7 @@ class PasswordResetEventPublisherTest {
     void shouldHandleExceptionsInPasswordResetRequestedGracefully() {
         // Given
         doThrow(new RuntimeException("Redis connection error"))
-                .when(redisTemplate).convertAndSend(anyString(), any());
+                .when(eventBuffer).offer(anyString(), any());
 
         // When & Then
         assertDoesNotThrow(() ->
@@ -152,7 +151,7 @@ class PasswordResetEventPublisherTest {
     void shouldHandleExceptionsInPasswordResetVerifiedGracefully() {
         // Given
         doThrow(new RuntimeException("Redis connection error"))
-                .when(redisTemplate).convertAndSend(anyString(), any());
+                .when(eventBuffer).offer(anyString(), any());
 
         // When & Then
         assertDoesNotThrow(() ->
@@ -165,7 +164,7 @@ class PasswordResetEventPublisherTest {
     void shouldHandleExceptionsInPasswordResetCompletedGracefully() {
         // Given
         doThrow(new RuntimeException("Redis connection error"))
-                .when(redisTemplate).convertAndSend(anyString(), any());
+                .when(eventBuffer).offer(anyString(), any());
 
         // When & Then
         assertDoesNotThrow(() ->
@@ -181,7 +180,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetRequested(email, user, verificationCode);
 
         // Then
-        verify(redisTemplate, times(2)).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer, times(2)).offer(eq("events.password.reset"), eventCaptor.capture());
 
         var events = eventCaptor.getAllValues();
         assertNotEquals(events.get(0).getEventId(), events.get(1).getEventId());
@@ -196,7 +195,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetCompleted(email, user, true);
 
         // Then
-        verify(redisTemplate, times(3)).convertAndSend(eq("events.password.reset"), any(EventWrapper.class));
+        verify(eventBuffer, times(3)).offer(eq("events.password.reset"), any(EventWrapper.class));
     }
 
     @Test
@@ -216,7 +215,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetRequested(new Email("admin@example.com"), adminUser, "654321");
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         PasswordResetEventPublisher.PasswordResetRequestEventData data =
                 (PasswordResetEventPublisher.PasswordResetRequestEventData) eventCaptor.getValue().getData();
@@ -236,7 +235,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetRequested(email, user, verificationCode);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         String timestamp = eventCaptor.getValue().getTimestamp();
         assertNotNull(timestamp);
@@ -255,7 +254,7 @@ class PasswordResetEventPublisherTest {
         eventPublisher.publishPasswordResetRequested(email, user, alphanumericCode);
 
         // Then
-        verify(redisTemplate).convertAndSend(eq("events.password.reset"), eventCaptor.capture());
+        verify(eventBuffer).offer(eq("events.password.reset"), eventCaptor.capture());
 
         PasswordResetEventPublisher.PasswordResetRequestEventData data =
                 (PasswordResetEventPublisher.PasswordResetRequestEventData) eventCaptor.getValue().getData();
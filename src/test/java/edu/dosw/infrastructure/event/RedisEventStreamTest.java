@@ -0,0 +1,96 @@
+package edu.dosw.infrastructure.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para RedisEventStream")
+class RedisEventStreamTest {
+
+    private static final String STREAM = "events.password.reset";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Test
+    @DisplayName("Debe crear cada grupo configurado en cada stream al arrancar")
+    void shouldCreateConfiguredGroupsAtStartup() {
+        // Given
+        RedisEventStream eventStream = new RedisEventStream(redisTemplate, STREAM + ", events.user", "notifications,orders");
+
+        // When
+        eventStream.run(null);
+
+        // Then
+        verify(redisTemplate, times(4)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Debe indicar que el grupo ya existia sin lanzar error")
+    void shouldReportExistingGroup() {
+        // Given
+        RedisEventStream eventStream = new RedisEventStream(redisTemplate, STREAM, "");
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisSystemException("BUSYGROUP Consumer Group name already exists", null));
+
+        // When
+        boolean created = eventStream.createGroup(STREAM, "notifications", ReadOffset.latest());
+
+        // Then
+        assertFalse(created);
+    }
+
+    @Test
+    @DisplayName("Debe propagar errores de Redis distintos a un grupo existente")
+    void shouldPropagateOtherGroupErrors() {
+        // Given
+        RedisEventStream eventStream = new RedisEventStream(redisTemplate, STREAM, "");
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisSystemException("WRONGTYPE Operation against a key", null));
+
+        // When / Then
+        assertThrows(RedisSystemException.class,
+                () -> eventStream.createGroup(STREAM, "notifications", ReadOffset.latest()));
+    }
+
+    @Test
+    @DisplayName("Debe reproducir los registros posteriores al offset indicado")
+    @SuppressWarnings("unchecked")
+    void shouldReplayAfterOffset() {
+        // Given
+        RedisEventStream eventStream = new RedisEventStream(redisTemplate, STREAM, "");
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.range(eq(STREAM), any(Range.class), any(Limit.class))).thenReturn(List.of());
+
+        // When
+        eventStream.replay(STREAM, "1700000000000-0", 100);
+
+        // Then
+        ArgumentCaptor<Range<String>> range = ArgumentCaptor.forClass(Range.class);
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(streamOperations).range(eq(STREAM), range.capture(), limit.capture());
+        assertEquals("1700000000000-0", range.getValue().getLowerBound().getValue().orElseThrow());
+        assertFalse(range.getValue().getLowerBound().isInclusive());
+        assertEquals(100, limit.getValue().getCount());
+    }
+}
@@ -0,0 +1,52 @@
+package edu.dosw.infrastructure.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para RedisStreamTransport")
+class RedisStreamTransportTest {
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    @Test
+    @DisplayName("Debe agregar el evento al stream del canal con recorte aproximado")
+    @SuppressWarnings("unchecked")
+    void shouldAppendEventWithApproximateTrimming() {
+        // Given
+        RedisStreamTransport transport = new RedisStreamTransport(5000);
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        byte[] body = "{\"eventId\":\"e1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        transport.send(connection, "events.password.reset", body);
+
+        // Then
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> record = ArgumentCaptor.forClass(MapRecord.class);
+        ArgumentCaptor<XAddOptions> options = ArgumentCaptor.forClass(XAddOptions.class);
+        verify(streamCommands).xAdd(record.capture(), options.capture());
+        assertEquals("events.password.reset", new String(record.getValue().getStream(), StandardCharsets.UTF_8));
+        byte[] field = record.getValue().getValue().keySet().iterator().next();
+        assertEquals(RedisStreamTransport.EVENT_FIELD, new String(field, StandardCharsets.UTF_8));
+        assertArrayEquals(body, record.getValue().getValue().get(field));
+        assertEquals(5000L, options.getValue().getMaxlen());
+        assertTrue(options.getValue().isApproximateTrimming());
+    }
+}
@@ -0,0 +1,76 @@
+package edu.dosw.infrastructure.event;
+
+import edu.dosw.domain.model.UserEvent;
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.domain.model.enums.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para UserEventPublisher")
+class UserEventPublisherTest {
+
+    @Mock
+    private EventBuffer eventBuffer;
+
+    @InjectMocks
+    private UserEventPublisher publisher;
+
+    @Test
+    @DisplayName("Debe encolar el evento en el canal de usuarios con el sobre comun")
+    void shouldQueueEventOnUserChannel() {
+        // Given
+        UserEvent event = new UserEvent(UserEvent.Type.UPDATED, new UserId("user-1"), Role.CUSTOMER,
+                Map.of("phoneNumber", "3001234567"));
+
+        // When
+        publisher.publish(event);
+
+        // Then
+        ArgumentCaptor<EventWrapper> wrapper = ArgumentCaptor.forClass(EventWrapper.class);
+        verify(eventBuffer).offer(eq("events.user"), wrapper.capture());
+        assertEquals("user.updated", wrapper.getValue().getEventType());
+        assertEquals("1.0", wrapper.getValue().getVersion());
+        assertNotNull(wrapper.getValue().getEventId());
+        assertEquals(new UserEventPublisher.UserEventData("user-1", "CUSTOMER", Map.of("phoneNumber", "3001234567")),
+                wrapper.getValue().getData());
+    }
+
+    @Test
+    @DisplayName("Debe encolar cada evento del lote con un id distinto")
+    void shouldQueueEveryEventOfBatch() {
+        // When
+        publisher.publishAll(List.of(
+                UserEvent.deleted(new UserId("user-1"), Role.SELLER),
+                UserEvent.deleted(new UserId("user-2"), Role.SELLER)));
+
+        // Then
+        ArgumentCaptor<EventWrapper> wrappers = ArgumentCaptor.forClass(EventWrapper.class);
+        verify(eventBuffer, times(2)).offer(eq("events.user"), wrappers.capture());
+        assertNotEquals(wrappers.getAllValues().get(0).getEventId(), wrappers.getAllValues().get(1).getEventId());
+    }
+
+    @Test
+    @DisplayName("No debe propagar errores del buffer a la operacion que origino el evento")
+    void shouldNotPropagateBufferErrors() {
+        // Given
+        doThrow(new IllegalStateException("serializer")).when(eventBuffer).offer(anyString(), any());
+
+        // When / Then
+        assertDoesNotThrow(() -> publisher.publish(UserEvent.deleted(new UserId("user-1"), Role.ADMIN)));
+    }
+}
@@ -0,0 +1,375 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para CachingUserRepository")
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    @Mock
+    private RedisUserCache sharedCache;
+
+    private CachingUserRepository repository;
+    private Email email;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, sharedCache, 100, Duration.ofMinutes(1));
+        email = new Email("user@test.com");
+        user = new User(
+                new UserId("user-id-1"),
+                new IdentityDocument("123456789"),
+                email,
+                new FullName("User Test"),
+                new PasswordHash("encodedPassword"),
+                Role.CUSTOMER
+        );
+    }
+
+    @Test
+    @DisplayName("Debe consultar el repositorio una sola vez para el mismo email")
+    void shouldHitDelegateOnlyOnceForSameEmail() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+
+        // When
+        Optional<User> first = repository.findByEmail(email);
+        Optional<User> second = repository.findByEmail(email);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(delegate, times(1)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe usar el email normalizado como llave del cache")
+    void shouldUseNormalizedEmailAsKey() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        repository.findByEmail(email);
+
+        // When
+        Optional<User> result = repository.findByEmail(new Email("USER@Test.com"));
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(delegate, times(1)).findByEmail(any(Email.class));
+    }
+
+    @Test
+    @DisplayName("No debe guardar en cache usuarios inexistentes")
+    void shouldNotCacheMisses() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.empty());
+
+        // When
+        repository.findByEmail(email);
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada al guardar el usuario")
+    void shouldInvalidateOnSave() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        when(delegate.save(user)).thenReturn(user);
+        repository.findByEmail(email);
+
+        // When
+        repository.save(user);
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada al actualizar el hash del password")
+    void shouldInvalidateOnPasswordHashUpdate() {
+        // Given
+        PasswordHash newHash = new PasswordHash("newEncodedPassword");
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        when(delegate.updatePasswordHash(user.getUserId(), newHash)).thenReturn(true);
+        repository.findByEmail(email);
+
+        // When
+        boolean updated = repository.updatePasswordHash(user.getUserId(), newHash);
+        repository.findByEmail(email);
+
+        // Then
+        assertTrue(updated);
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada al actualizar el hash condicionado al anterior")
+    void shouldInvalidateOnConditionalPasswordHashUpdate() {
+        // Given
+        PasswordHash newHash = new PasswordHash("newEncodedPassword");
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        when(delegate.updatePasswordHash(user.getUserId(), user.getPasswordHash(), newHash)).thenReturn(true);
+        repository.findByEmail(email);
+
+        // When
+        boolean updated = repository.updatePasswordHash(user.getUserId(), user.getPasswordHash(), newHash);
+        repository.findByEmail(email);
+
+        // Then
+        assertTrue(updated);
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar el email anterior cuando el usuario cambia de email")
+    void shouldInvalidatePreviousEmailWhenEmailChanges() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        repository.findByEmail(email);
+
+        User renamed = new User(
+                user.getUserId(),
+                user.getIdentityDocument(),
+                new Email("new@test.com"),
+                user.getFullName(),
+                user.getPasswordHash(),
+                Role.CUSTOMER
+        );
+        when(delegate.save(renamed)).thenReturn(renamed);
+
+        // When
+        repository.save(renamed);
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada cuando el guardado falla")
+    void shouldInvalidateWhenSaveFails() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        when(delegate.save(user)).thenThrow(new RuntimeException("Mongo down"));
+        repository.findByEmail(email);
+
+        // When
+        assertThrows(RuntimeException.class, () -> repository.save(user));
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada al eliminar el usuario")
+    void shouldInvalidateOnDelete() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        repository.findByEmail(email);
+
+        // When
+        repository.deleteByUserId(user.getUserId());
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate).deleteByUserId(user.getUserId());
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar las entradas al eliminar usuarios en lote")
+    void shouldInvalidateOnBatchDelete() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        when(delegate.deleteByUserIds(List.of(user.getUserId()), Role.CUSTOMER)).thenReturn(List.of(user.getUserId()));
+        repository.findByEmail(email);
+
+        // When
+        List<UserId> deleted = repository.deleteByUserIds(List.of(user.getUserId()), Role.CUSTOMER);
+        repository.findByEmail(email);
+
+        // Then
+        assertEquals(List.of(user.getUserId()), deleted);
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe esperar al fin de la transaccion para invalidar lo leido antes del commit")
+    void shouldEvictAfterTransactionCompletes() {
+        // Given
+        User renamed = new User(user.getUserId(), user.getIdentityDocument(), email,
+                new FullName("Renamed User"), user.getPasswordHash(), Role.CUSTOMER);
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user), Optional.of(renamed));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.update(user, UserChanges.between(user, renamed));
+            // A read between the write and the commit still sees the old document
+            assertEquals("User Test", repository.findByEmail(email).orElseThrow().getFullName().value());
+            verify(sharedCache, never()).evict(anyCollection(), anyCollection());
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals("Renamed User", repository.findByEmail(email).orElseThrow().getFullName().value());
+        verify(sharedCache).evict(List.of(user.getUserId().value()), List.of(email.value()));
+    }
+
+    @Test
+    @DisplayName("Debe responder existsByEmail desde el cache cuando hay entrada")
+    void shouldAnswerExistsByEmailFromCache() {
+        // Given
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        repository.findByEmail(email);
+
+        // When
+        boolean exists = repository.existsByEmail(email);
+
+        // Then
+        assertTrue(exists);
+        verify(delegate, never()).existsByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe responder desde Redis sin consultar Mongo cuando el nivel compartido tiene el usuario")
+    void shouldServeFromSharedTier() {
+        // Given
+        when(sharedCache.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+
+        // When
+        Optional<User> first = repository.findByEmail(email);
+        Optional<User> second = repository.findByEmail(email);
+
+        // Then
+        assertSame(user, first.orElseThrow());
+        assertSame(user, second.orElseThrow());
+        verify(sharedCache, times(1)).findByEmail("user@test.com");
+        verify(sharedCache, never()).put(any());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Debe poblar Redis al cargar desde Mongo")
+    void shouldPopulateSharedTierOnMiss() {
+        // Given
+        when(delegate.findByUserId(user.getUserId())).thenReturn(Optional.of(user));
+
+        // When
+        repository.findByUserId(user.getUserId());
+        repository.findByUserId(user.getUserId());
+
+        // Then
+        verify(delegate, times(1)).findByUserId(user.getUserId());
+        verify(sharedCache).put(user);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar Redis y avisar a las demas replicas despues de escribir")
+    void shouldEvictSharedTierAfterWrite() {
+        // Given
+        when(delegate.save(user)).thenReturn(user);
+
+        // When
+        repository.save(user);
+
+        // Then
+        verify(sharedCache).evict(List.of("user-id-1"), List.of("user@test.com"));
+    }
+
+    @Test
+    @DisplayName("Debe invalidar el cache local cuando otra replica publica una invalidacion")
+    @SuppressWarnings("unchecked")
+    void shouldEvictNearCacheOnRemoteInvalidation() {
+        // Given
+        ArgumentCaptor<BiConsumer<Collection<String>, Collection<String>>> listener =
+                ArgumentCaptor.forClass(BiConsumer.class);
+        verify(sharedCache).subscribe(listener.capture());
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user));
+        repository.findByEmail(email);
+
+        // When
+        listener.getValue().accept(List.of("user-id-1"), List.of());
+        repository.findByEmail(email);
+
+        // Then
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Debe cargar una sola vez cuando varias peticiones fallan el cache a la vez")
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByEmail(email)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<Optional<User>> leader = executor.submit(() -> repository.findByEmail(email));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            AtomicReference<Thread> followerThread = new AtomicReference<>();
+            Future<Optional<User>> follower = executor.submit(() -> {
+                followerThread.set(Thread.currentThread());
+                return repository.findByEmail(email);
+            });
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((followerThread.get() == null || followerThread.get().getState() != Thread.State.WAITING)
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertTrue(leader.get(5, TimeUnit.SECONDS).isEmpty());
+            assertTrue(follower.get(5, TimeUnit.SECONDS).isEmpty());
+            verify(delegate, times(1)).findByEmail(email);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.exception.ConcurrentUpdateException;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Tests para MongoCustomerRepository")
+class MongoCustomerRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "customer-repository-test");
+    private MongoCustomerRepository repository;
+    private Customer customer;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        MongoUserRepository userRepository = new MongoUserRepository(mongoTemplate, new UserMongoMapper(), "split",
+                mock(ObjectProvider.class));
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, new MongoUserRoleSync(mongoTemplate), "outbox");
+        repository = new MongoCustomerRepository(mongoTemplate, new CustomerMongoMapper(), userRepository, splitWrites);
+        customer = repository.save(new Customer(
+                new UserId("customer-id-1"),
+                new IdentityDocument("123456789"),
+                new Email("customer@example.com"),
+                new FullName("Customer Test"),
+                new PasswordHash("encodedPassword"),
+                "3001234567"
+        ));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar aunque la copia del rol tenga otra version que users")
+    void shouldUpdateWhenRoleCopyVersionDiverged() {
+        // Given
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is("customer-id-1")),
+                Update.update("version", 7L), CustomerDocument.class);
+        Customer loaded = repository.findByUserId(customer.getUserId()).orElseThrow();
+        Customer changed = new Customer(loaded.getUserId(), loaded.getIdentityDocument(), loaded.getEmail(),
+                loaded.getFullName(), loaded.getPasswordHash(), "3109876543");
+
+        // When
+        repository.update(loaded, UserChanges.between(loaded, changed));
+
+        // Then
+        long usersVersion = mongoTemplate.findById("customer-id-1", UserDocument.class).getVersion();
+        CustomerDocument roleCopy = mongoTemplate.findById("customer-id-1", CustomerDocument.class);
+        assertEquals(loaded.getVersion() + 1, usersVersion);
+        assertEquals(usersVersion, roleCopy.getVersion());
+        assertEquals("3109876543", roleCopy.getPhoneNumber());
+        assertEquals(usersVersion, repository.findByUserId(customer.getUserId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la actualizacion con una version vieja de users")
+    void shouldRejectStaleVersion() {
+        // Given
+        Customer loaded = repository.findByUserId(customer.getUserId()).orElseThrow();
+        Customer changed = new Customer(loaded.getUserId(), loaded.getIdentityDocument(), loaded.getEmail(),
+                new FullName("Renamed Customer"), loaded.getPasswordHash(), loaded.getPhoneNumber());
+        repository.update(loaded, UserChanges.between(loaded, changed));
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class,
+                () -> repository.update(loaded, UserChanges.between(loaded, changed)));
+    }
+
+    @Test
+    @DisplayName("No debe encontrar al cliente cuando falta su documento en users")
+    void shouldNotFindCustomerWithoutUsersDocument() {
+        // Given
+        mongoTemplate.remove(new Query(Criteria.where("_id").is("customer-id-1")), UserDocument.class);
+
+        // When & Then
+        assertTrue(repository.findByUserId(customer.getUserId()).isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package edu.dosw.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para MongoIndexHealthIndicator")
+class MongoIndexHealthIndicatorTest {
+
+    private static final String SELLERS_APPROVED = "sellers.approved_id";
+
+    @Mock
+    private MongoIndexManager indexManager;
+
+    @InjectMocks
+    private MongoIndexHealthIndicator healthIndicator;
+
+    @Test
+    @DisplayName("Debe reportar UNKNOWN mientras no termina la comprobación de arranque")
+    void shouldReportUnknownBeforeVerification() {
+        // Given
+        when(indexManager.getStates()).thenReturn(Map.of(SELLERS_APPROVED, MongoIndexManager.IndexState.BUILDING));
+        when(indexManager.getFailures()).thenReturn(Map.of());
+        when(indexManager.getLastVerification()).thenReturn(null);
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals(Status.UNKNOWN, health.getStatus());
+        assertEquals("pending", health.getDetails().get("verification"));
+    }
+
+    @Test
+    @DisplayName("Debe reportar DEGRADED, no DOWN ni OUT_OF_SERVICE, cuando falta un índice")
+    void shouldReportDegradedWhenIndexIsMissing() {
+        // Given
+        when(indexManager.getStates()).thenReturn(Map.of(SELLERS_APPROVED, MongoIndexManager.IndexState.PENDING));
+        when(indexManager.getFailures()).thenReturn(Map.of());
+        when(indexManager.getLastVerification()).thenReturn(new MongoIndexManager.Verification(
+                Instant.now(), List.of(SELLERS_APPROVED), List.of(), null));
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals(MongoIndexHealthIndicator.DEGRADED, health.getStatus());
+        assertEquals(List.of(SELLERS_APPROVED), health.getDetails().get("missing"));
+    }
+
+    @Test
+    @DisplayName("DEGRADED solo debe contar en el grupo indexes y no ocultar OUT_OF_SERVICE en el total")
+    void shouldOnlyRankDegradedInIndexesGroup() {
+        // Given
+        SimpleStatusAggregator overall = new SimpleStatusAggregator();
+        SimpleStatusAggregator indexesGroup = new SimpleStatusAggregator("down", "out-of-service", "degraded",
+                "unknown", "up");
+
+        // When & Then
+        assertEquals(Status.UP, overall.getAggregateStatus(Status.UP, MongoIndexHealthIndicator.DEGRADED));
+        assertEquals(Status.OUT_OF_SERVICE, overall.getAggregateStatus(Status.UP, Status.OUT_OF_SERVICE,
+                MongoIndexHealthIndicator.DEGRADED));
+        assertEquals(MongoIndexHealthIndicator.DEGRADED, indexesGroup.getAggregateStatus(
+                MongoIndexHealthIndicator.DEGRADED, Status.UP));
+    }
+
+    @Test
+    @DisplayName("Debe reportar UP con el resultado guardado sin consultar el servidor")
+    void shouldReportUpFromCachedVerification() {
+        // Given
+        when(indexManager.getStates()).thenReturn(Map.of(SELLERS_APPROVED, MongoIndexManager.IndexState.READY));
+        when(indexManager.getFailures()).thenReturn(Map.of());
+        when(indexManager.getLastVerification()).thenReturn(new MongoIndexManager.Verification(
+                Instant.now(), List.of(), List.of(), null));
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals(Status.UP, health.getStatus());
+        verify(indexManager, never()).findMissingIndexes();
+        verify(indexManager, never()).findBuildsInProgress();
+    }
+}
@@ -0,0 +1,181 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Tests para MongoIndexManager")
+class MongoIndexManagerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations usersIndexOps;
+
+    @Mock
+    private IndexOperations customersIndexOps;
+
+    @Mock
+    private IndexOperations sellersIndexOps;
+
+    @Mock
+    private IndexOperations adminsIndexOps;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(UserDocument.class)).thenReturn("users");
+        when(mongoTemplate.getCollectionName(CustomerDocument.class)).thenReturn("customers");
+        when(mongoTemplate.getCollectionName(SellerDocument.class)).thenReturn("sellers");
+        when(mongoTemplate.getCollectionName(AdminDocument.class)).thenReturn("admins");
+        when(mongoTemplate.indexOps("users")).thenReturn(usersIndexOps);
+        when(mongoTemplate.indexOps("customers")).thenReturn(customersIndexOps);
+        when(mongoTemplate.indexOps("sellers")).thenReturn(sellersIndexOps);
+        when(mongoTemplate.indexOps("admins")).thenReturn(adminsIndexOps);
+    }
+
+    @Test
+    @DisplayName("Debe crear los indices de email y de updatedAt en las cuatro colecciones y los de aprobacion")
+    void shouldEnsureAllManagedIndexes() {
+        // Given
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, true);
+
+        // When
+        manager.run(null);
+
+        // Then
+        verify(usersIndexOps, times(3)).ensureIndex(any(IndexDefinition.class));
+        verify(customersIndexOps, times(2)).ensureIndex(any(IndexDefinition.class));
+        verify(sellersIndexOps, times(3)).ensureIndex(any(IndexDefinition.class));
+        verify(adminsIndexOps, times(2)).ensureIndex(any(IndexDefinition.class));
+        assertTrue(manager.getStates().values().stream()
+                .allMatch(state -> state == MongoIndexManager.IndexState.READY));
+    }
+
+    @Test
+    @DisplayName("El indice de email debe ser unico y con collation insensible a mayusculas")
+    void shouldDefineUniqueCaseInsensitiveEmailIndex() {
+        // Given
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, true);
+
+        // When
+        MongoIndexManager.ManagedIndex emailIndex = manager.getManagedIndexes().get(0);
+
+        // Then
+        assertEquals(MongoIndexManager.EMAIL_INDEX, emailIndex.name());
+        assertEquals(Boolean.TRUE, emailIndex.definition().getIndexOptions().get("unique"));
+        assertEquals(2, emailIndex.definition().getIndexOptions().get("collation", Document.class).get("strength"));
+    }
+
+    @Test
+    @DisplayName("Debe registrar el fallo sin interrumpir la creacion de los demas indices")
+    void shouldRecordFailureAndContinue() {
+        // Given
+        when(customersIndexOps.ensureIndex(any(IndexDefinition.class)))
+                .thenThrow(new RuntimeException("E11000 duplicate key"));
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, true);
+
+        // When
+        manager.run(null);
+
+        // Then
+        assertEquals(MongoIndexManager.IndexState.FAILED, manager.getStates().get("customers.email_ci_unique"));
+        assertTrue(manager.getFailures().get("customers.email_ci_unique").contains("E11000"));
+        verify(adminsIndexOps, times(2)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    @DisplayName("No debe crear indices cuando la creacion automatica esta deshabilitada")
+    void shouldNotCreateIndexesWhenDisabled() {
+        // Given
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, false);
+
+        // When
+        manager.run(null);
+
+        // Then
+        verify(usersIndexOps, never()).ensureIndex(any(IndexDefinition.class));
+        assertTrue(manager.getStates().values().stream()
+                .allMatch(state -> state == MongoIndexManager.IndexState.PENDING));
+    }
+
+    @Test
+    @DisplayName("Debe reportar los indices que no existen en el servidor")
+    void shouldReportMissingIndexes() {
+        // Given
+        IndexInfo emailIndex = new IndexInfo(List.of(), MongoIndexManager.EMAIL_INDEX, true, false, null);
+        when(usersIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(customersIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(sellersIndexOps.getIndexInfo()).thenReturn(List.of());
+        when(adminsIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, false);
+
+        // When
+        List<String> missing = manager.findMissingIndexes();
+
+        // Then
+        assertEquals(List.of("sellers.email_ci_unique", "sellers.approved_id", "users.role_seller_approved_id",
+                "users.updated_at_id", "customers.updated_at_id", "sellers.updated_at_id", "admins.updated_at_id"), missing);
+    }
+
+    @Test
+    @DisplayName("Debe guardar al final del arranque los indices que faltan en el servidor")
+    void shouldCacheMissingIndexesAfterRun() {
+        // Given
+        IndexInfo emailIndex = new IndexInfo(List.of(), MongoIndexManager.EMAIL_INDEX, true, false, null);
+        when(usersIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(customersIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(sellersIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(adminsIndexOps.getIndexInfo()).thenReturn(List.of(emailIndex));
+        when(mongoTemplate.getDb()).thenThrow(new RuntimeException("not authorized on admin"));
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, false);
+
+        // When
+        manager.run(null);
+
+        // Then
+        MongoIndexManager.Verification verification = manager.getLastVerification();
+        assertEquals(List.of("sellers.approved_id", "users.role_seller_approved_id", "users.updated_at_id",
+                "customers.updated_at_id", "sellers.updated_at_id", "admins.updated_at_id"), verification.missing());
+        assertEquals("unavailable: not authorized on admin", verification.buildsInProgress());
+        assertNull(verification.error());
+        verify(usersIndexOps, times(1)).getIndexInfo();
+    }
+
+    @Test
+    @DisplayName("Debe registrar el error cuando no puede comprobar los indices")
+    void shouldRecordVerificationError() {
+        // Given
+        when(usersIndexOps.getIndexInfo()).thenThrow(new RuntimeException("connection refused"));
+        MongoIndexManager manager = new MongoIndexManager(mongoTemplate, false);
+
+        // When
+        manager.run(null);
+
+        // Then
+        assertEquals("connection refused", manager.getLastVerification().error());
+        assertTrue(manager.getLastVerification().missing().isEmpty());
+    }
+}
@@ -0,0 +1,172 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.application.dto.SellerPageDTO;
+import edu.dosw.application.dto.SellerSummaryDTO;
+import edu.dosw.application.services.SellerServices.GetAllSellersService;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.exception.BusinessException;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Tests para MongoSellerRepository")
+class MongoSellerRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "seller-repository-test");
+    private MongoSellerRepository repository;
+    private GetAllSellersService getAllSellersService;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        MongoUserRepository userRepository = new MongoUserRepository(mongoTemplate, new UserMongoMapper(), "split",
+                mock(ObjectProvider.class));
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, new MongoUserRoleSync(mongoTemplate), "outbox");
+        repository = new MongoSellerRepository(mongoTemplate, new SellerMongoMapper(), userRepository, splitWrites);
+        getAllSellersService = new GetAllSellersService(repository, new SellerWebMapper(), 2, 5);
+        // Saved out of id order, so the pages follow _id rather than insertion order
+        for (String id : List.of("seller-id-3", "seller-id-1", "seller-id-5", "seller-id-2", "seller-id-4")) {
+            repository.save(seller(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las páginas en orden de id sin repetir y terminar sin token")
+    void shouldPageThroughAllSellersWithoutDuplicates() {
+        // When
+        List<SellerPageDTO> pages = readAllPages(null);
+
+        // Then
+        assertEquals(List.of(2, 2, 1), pages.stream().map(page -> page.sellers().size()).toList());
+        assertEquals(List.of("seller-id-1", "seller-id-2", "seller-id-3", "seller-id-4", "seller-id-5"), ids(pages));
+        assertNull(pages.get(pages.size() - 1).continuationToken());
+        assertEquals("Company seller-id-1", pages.get(0).sellers().get(0).companyName());
+    }
+
+    @Test
+    @DisplayName("Debe devolver la última página llena sin token cuando el total es múltiplo del tamaño")
+    void shouldEndOnFullLastPage() {
+        // Given
+        repository.deleteByUserId(new UserId("seller-id-5"));
+
+        // When
+        List<SellerPageDTO> pages = readAllPages(null);
+
+        // Then
+        assertEquals(List.of(2, 2), pages.stream().map(page -> page.sellers().size()).toList());
+        assertNull(pages.get(1).continuationToken());
+    }
+
+    @Test
+    @DisplayName("Debe continuar tras el último id aunque ese vendedor se borre o aparezca otro antes")
+    void shouldNotRepeatOrSkipWhenBoundaryChanges() {
+        // Given
+        SellerPageDTO first = getAllSellersService.getAllSellers(null, null);
+        repository.deleteByUserId(new UserId("seller-id-2"));
+        repository.save(seller("seller-id-0"));
+
+        // When
+        SellerPageDTO second = getAllSellersService.getAllSellers(first.continuationToken(), null);
+
+        // Then
+        assertEquals(List.of("seller-id-3", "seller-id-4"), ids(List.of(second)));
+    }
+
+    @Test
+    @DisplayName("Debe paginar solo los pendientes de aprobación")
+    void shouldPagePendingSellersOnly() {
+        // Given
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").in("seller-id-1", "seller-id-4")),
+                Update.update("approved", true), SellerDocument.class);
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").nin("seller-id-1", "seller-id-4")),
+                Update.update("approved", false), SellerDocument.class);
+
+        // When
+        List<SellerPageDTO> pages = readAllPages(false);
+
+        // Then
+        assertEquals(List.of("seller-id-2", "seller-id-3", "seller-id-5"), ids(pages));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens manipulados y devolver una página vacía tras el último id")
+    void shouldRejectTamperedTokens() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers("not base64!", null));
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers(token("s2:seller-id-2"), null));
+        assertThrows(BusinessException.class, () -> getAllSellersService.getAllSellers(token("seller-id-2"), null));
+
+        SellerPageDTO pastEnd = getAllSellersService.getAllSellers(token("s1:seller-id-9"), null);
+        assertTrue(pastEnd.sellers().isEmpty());
+        assertNull(pastEnd.continuationToken());
+    }
+
+    private List<SellerPageDTO> readAllPages(Boolean approved) {
+        List<SellerPageDTO> pages = new ArrayList<>();
+        String token = null;
+        do {
+            SellerPageDTO page = approved == null
+                    ? getAllSellersService.getAllSellers(token, null)
+                    : getAllSellersService.getPendingSellers(token, null);
+            pages.add(page);
+            token = page.continuationToken();
+        } while (token != null && pages.size() < 10);
+        return pages;
+    }
+
+    private static List<String> ids(List<SellerPageDTO> pages) {
+        return pages.stream()
+                .flatMap(page -> page.sellers().stream())
+                .map(SellerSummaryDTO::userId)
+                .toList();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Seller seller(String id) {
+        return new Seller(
+                new UserId(id),
+                new IdentityDocument("123456789"),
+                new Email(id + "@example.com"),
+                new FullName("Seller " + id),
+                new PasswordHash("encodedPassword"),
+                "Company " + id,
+                "Address " + id
+        );
+    }
+}
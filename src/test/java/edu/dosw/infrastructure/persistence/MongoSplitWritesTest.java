@@ -0,0 +1,136 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.ValueObject.UserId;
+import edu.dosw.infrastructure.persistence.documents.UserWriteIntentDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para MongoSplitWrites")
+class MongoSplitWritesTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private MongoUserRoleSync roleSync;
+
+    private final UserId userId = new UserId("user-id-1");
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        lenient().when(mongoTemplate.insert(any(UserWriteIntentDocument.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Debe registrar la intencion antes de escribir y borrarla al terminar")
+    void shouldBracketWritesWithIntent() {
+        // Given
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, roleSync, "outbox");
+        Runnable writes = mock(Runnable.class);
+
+        // When
+        splitWrites.run(userId, writes);
+
+        // Then
+        ArgumentCaptor<UserWriteIntentDocument> intent = ArgumentCaptor.forClass(UserWriteIntentDocument.class);
+        InOrder inOrder = inOrder(mongoTemplate, writes);
+        inOrder.verify(mongoTemplate).insert(intent.capture());
+        inOrder.verify(writes).run();
+        inOrder.verify(mongoTemplate).remove(intent.getValue());
+        assertEquals("user-id-1", intent.getValue().getUserId());
+        verifyNoInteractions(roleSync);
+    }
+
+    @Test
+    @DisplayName("Debe registrar una intencion por usuario en lote y borrarlas con una sola consulta")
+    @SuppressWarnings("unchecked")
+    void shouldBracketBatchWritesWithIntents() {
+        // Given
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, roleSync, "outbox");
+        when(mongoTemplate.insertAll(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        long result = splitWrites.call(List.of(userId, new UserId("user-id-2")), () -> 2L);
+
+        // Then
+        ArgumentCaptor<Collection<UserWriteIntentDocument>> intents = ArgumentCaptor.forClass(Collection.class);
+        verify(mongoTemplate).insertAll(intents.capture());
+        assertEquals(List.of("user-id-1", "user-id-2"),
+                intents.getValue().stream().map(UserWriteIntentDocument::getUserId).toList());
+        verify(mongoTemplate).remove(any(Query.class), eq(UserWriteIntentDocument.class));
+        assertEquals(2L, result);
+        verifyNoInteractions(roleSync);
+    }
+
+    @Test
+    @DisplayName("Debe reconciliar el usuario y propagar el error cuando una escritura falla")
+    void shouldReconcileAndRethrowWhenWriteFails() {
+        // Given
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, roleSync, "outbox");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> splitWrites.run(userId, () -> {
+            throw new IllegalStateException("role write failed");
+        }));
+        verify(roleSync).reconcile("user-id-1");
+        verify(mongoTemplate).remove(any(UserWriteIntentDocument.class));
+    }
+
+    @Test
+    @DisplayName("Debe conservar la intencion cuando la reconciliacion tambien falla")
+    void shouldKeepIntentWhenReconcileFails() {
+        // Given
+        MongoSplitWrites splitWrites = new MongoSplitWrites(mongoTemplate, roleSync, "outbox");
+        doThrow(new IllegalStateException("connection lost")).when(roleSync).reconcile("user-id-1");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> splitWrites.run(userId, () -> {
+            throw new IllegalStateException("role write failed");
+        }));
+        verify(mongoTemplate, never()).remove(any(UserWriteIntentDocument.class));
+    }
+
+    @Test
+    @DisplayName("En modo auto debe usar transacciones solo con replica set")
+    void shouldDetectModeFromServer() {
+        // Given
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(new Document("setName", "rs0"))
+                .thenReturn(new Document("isWritablePrimary", true));
+
+        // When
+        MongoSplitWrites onReplicaSet = new MongoSplitWrites(mongoTemplate, roleSync, "auto");
+        MongoSplitWrites onStandalone = new MongoSplitWrites(mongoTemplate, roleSync, "auto");
+
+        // Then
+        assertEquals(MongoSplitWrites.Mode.TRANSACTION, onReplicaSet.mode());
+        assertEquals(MongoSplitWrites.Mode.OUTBOX, onStandalone.mode());
+        assertEquals(MongoSplitWrites.Mode.OUTBOX, onStandalone.mode());
+        verify(mongoTemplate, times(2)).executeCommand(any(Document.class));
+    }
+}
@@ -0,0 +1,109 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.ports.UserBulkWritePort;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para MongoUserBulkWriteRepository")
+class MongoUserBulkWriteRepositoryTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoSplitWrites splitWrites;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private MongoUserBulkWriteRepository repository;
+
+    private final Customer first = customer("customer-1", "a@test.com");
+    private final Customer second = customer("customer-2", "b@test.com");
+
+    @BeforeEach
+    void setUp() {
+        repository = new MongoUserBulkWriteRepository(mongoTemplate, new CustomerMongoMapper(),
+                new SellerMongoMapper(), new AdminMongoMapper(), new UserMongoMapper(), splitWrites);
+    }
+
+    @Test
+    @DisplayName("Debe escribir el lote dentro de las intenciones del outbox")
+    @SuppressWarnings("unchecked")
+    void shouldBracketBatchWithOutboxIntents() {
+        // Given
+        when(splitWrites.mode()).thenReturn(MongoSplitWrites.Mode.OUTBOX);
+        when(splitWrites.call(anyCollection(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), any(Class.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        // When
+        Map<Integer, UserBulkWritePort.Failure> failures = repository.insertAll(List.of(first, second));
+
+        // Then
+        assertTrue(failures.isEmpty());
+        verify(splitWrites).call(eq(List.of(first.getUserId(), second.getUserId())), any(Supplier.class));
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, CustomerDocument.class);
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, UserDocument.class);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar fila a fila cuando la transaccion del lote se revierte")
+    @SuppressWarnings("unchecked")
+    void shouldRetryOneByOneWhenBatchTransactionRollsBack() {
+        // Given
+        when(splitWrites.mode()).thenReturn(MongoSplitWrites.Mode.TRANSACTION);
+        when(splitWrites.call(anyCollection(), any(Supplier.class)))
+                .thenThrow(new IllegalStateException("Transaction aborted"));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(splitWrites).run(any(UserId.class), any(Runnable.class));
+        when(mongoTemplate.insert(any(Object.class))).thenAnswer(invocation -> {
+            Object document = invocation.getArgument(0);
+            if (document instanceof CustomerDocument customer && customer.getUserId().equals("customer-2")) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            return document;
+        });
+
+        // When
+        Map<Integer, UserBulkWritePort.Failure> failures = repository.insertAll(List.of(first, second));
+
+        // Then
+        assertEquals(Map.of(1, new UserBulkWritePort.Failure(true, "Email already registered")), failures);
+        verify(splitWrites).run(eq(first.getUserId()), any(Runnable.class));
+        verify(splitWrites).run(eq(second.getUserId()), any(Runnable.class));
+        verify(mongoTemplate, times(3)).insert(any(Object.class));
+    }
+
+    private static Customer customer(String userId, String email) {
+        return new Customer(new UserId(userId), new IdentityDocument("555666777"), new Email(email),
+                new FullName("Customer User"), new PasswordHash("hash"), "+1234567890");
+    }
+}
@@ -0,0 +1,141 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests para MongoUserExportRepository")
+class MongoUserExportRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final MongoTemplate mongoTemplate = spy(new MongoTemplate(CLIENT, "user-export-repository-test"));
+    private MongoUserExportRepository repository;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        repository = new MongoUserExportRepository(mongoTemplate, new CustomerMongoMapper(),
+                new SellerMongoMapper(), new AdminMongoMapper());
+        mongoTemplate.insertAll(List.of(
+                customer("customer-id-1", SINCE.minusSeconds(1)),
+                customer("customer-id-2", SINCE),
+                customer("customer-id-3", SINCE.plusDays(1))));
+        mongoTemplate.save(SellerDocument.builder()
+                .userId("seller-id-1")
+                .identityDocument("987654321")
+                .email("seller@example.com")
+                .fullName("Seller Test")
+                .passwordHash("secretHash")
+                .role(Role.SELLER)
+                .companyName("Test Company")
+                .createdAt(SINCE.plusDays(1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Debe exportar solo los usuarios del rol creados desde la fecha dada, inclusive")
+    void shouldExportRoleSinceDate() {
+        // Given
+        List<UserExportRecord> exported = new ArrayList<>();
+
+        // When
+        repository.forEach(Role.CUSTOMER, SINCE, exported::add);
+
+        // Then
+        assertEquals(List.of("customer-id-2", "customer-id-3"),
+                exported.stream().map(record -> record.userId().value()).sorted().toList());
+        assertEquals("3001234567", exported.get(0).phoneNumber());
+    }
+
+    @Test
+    @DisplayName("Debe exportar todo el rol cuando no hay fecha")
+    void shouldExportWholeRoleWithoutSince() {
+        // Given
+        List<UserExportRecord> exported = new ArrayList<>();
+
+        // When
+        repository.forEach(Role.SELLER, null, exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals("Test Company", exported.get(0).companyName());
+    }
+
+    @Test
+    @DisplayName("Debe excluir el hash de la contraseña en la proyección de la consulta")
+    void shouldExcludePasswordHashFromProjection() {
+        // Given
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+        // When
+        repository.forEach(Role.CUSTOMER, null, record -> { });
+
+        // Then
+        verify(mongoTemplate).stream(query.capture(), eq(CustomerDocument.class));
+        assertEquals(0, query.getValue().getFieldsObject().get("passwordHash"));
+        assertEquals(MongoUserExportRepository.CURSOR_BATCH_SIZE, query.getValue().getMeta().getCursorBatchSize());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer el cursor más allá de un lote")
+    void shouldStreamBeyondOneCursorBatch() {
+        // Given
+        List<CustomerDocument> customers = new ArrayList<>();
+        for (int i = 0; i < MongoUserExportRepository.CURSOR_BATCH_SIZE + 1; i++) {
+            customers.add(customer("bulk-id-" + i, SINCE.plusDays(2)));
+        }
+        mongoTemplate.insertAll(customers);
+        long[] exported = {0};
+
+        // When
+        repository.forEach(Role.CUSTOMER, SINCE.plusDays(2), record -> exported[0]++);
+
+        // Then
+        assertEquals(MongoUserExportRepository.CURSOR_BATCH_SIZE + 1, exported[0]);
+    }
+
+    private static CustomerDocument customer(String id, LocalDateTime createdAt) {
+        return CustomerDocument.builder()
+                .userId(id)
+                .identityDocument("123456789")
+                .email(id + "@example.com")
+                .fullName("Customer " + id)
+                .passwordHash("secretHash")
+                .role(Role.CUSTOMER)
+                .phoneNumber("3001234567")
+                .createdAt(createdAt)
+                .build();
+    }
+}
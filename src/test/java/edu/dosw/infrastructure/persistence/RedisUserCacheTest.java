@@ -0,0 +1,161 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.ValueObject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para RedisUserCache")
+class RedisUserCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RedisUserCache cache;
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RedisUserCache(redisTemplate, listenerContainer, 300, 10);
+        seller = new Seller(
+                new UserId("seller-id-1"),
+                new IdentityDocument("123456789"),
+                new Email("Seller@Company.com"),
+                new FullName("Seller Test"),
+                new PasswordHash("encodedPassword"),
+                "Test Company",
+                "Calle 123 #45-67"
+        );
+        seller.setVersion(4L);
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el usuario con su rol, perfil y version")
+    void shouldRoundTripUser() {
+        // When
+        User decoded = RedisUserCache.decode(RedisUserCache.encode(seller));
+
+        // Then
+        Seller result = assertInstanceOf(Seller.class, decoded);
+        assertEquals("seller-id-1", result.getUserId().value());
+        assertEquals("Test Company", result.getCompanyName());
+        assertEquals("Calle 123 #45-67", result.getBusinessAddress());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    @DisplayName("Debe resolver el email a traves del puntero al userId")
+    void shouldFindByEmailThroughPointer() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("users:cache:email:seller@company.com")).thenReturn("seller-id-1");
+        when(valueOperations.get("users:cache:id:seller-id-1")).thenReturn(RedisUserCache.encode(seller));
+
+        // When
+        Optional<User> result = cache.findByEmail("seller@company.com");
+
+        // Then
+        assertEquals("seller-id-1", result.orElseThrow().getUserId().value());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar un puntero de email que ya no corresponde al usuario")
+    void shouldIgnoreStaleEmailPointer() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("users:cache:email:old@company.com")).thenReturn("seller-id-1");
+        when(valueOperations.get("users:cache:id:seller-id-1")).thenReturn(RedisUserCache.encode(seller));
+
+        // When
+        Optional<User> result = cache.findByEmail("old@company.com");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe tratar un fallo de Redis como un fallo de cache")
+    void shouldTreatRedisFailureAsMiss() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("Redis down"));
+
+        // When
+        Optional<User> result = cache.findByUserId("seller-id-1");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe borrar las entradas, dejar tombstones y publicar una sola invalidacion por lote")
+    @SuppressWarnings("unchecked")
+    void shouldEvictBatchWithTombstonesAndOneMessage() {
+        // Given
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation ->
+                ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations));
+
+        // When
+        cache.evict(List.of("a", "b"), List.of());
+
+        // Then
+        verify(operations).delete(List.of("users:cache:id:a", "users:cache:id:b"));
+        verify(valueOperations).set("users:cache:evicted:a", "", Duration.ofSeconds(10));
+        verify(valueOperations).set("users:cache:evicted:b", "", Duration.ofSeconds(10));
+        verify(operations).convertAndSend(eq(RedisUserCache.CHANNEL),
+                eq(Map.of("userIds", List.of("a", "b"), "emails", List.of())));
+        verifyNoInteractions(listenerContainer);
+    }
+
+    @Test
+    @DisplayName("Debe guardar con el script que respeta el tombstone de la eviccion")
+    @SuppressWarnings("unchecked")
+    void shouldPutThroughTombstoneAwareScript() {
+        // Given
+        when(redisTemplate.getValueSerializer()).thenReturn((RedisSerializer) RedisSerializer.java());
+
+        // When
+        cache.put(seller);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), any(RedisSerializer.class), isNull(),
+                eq(List.of("users:cache:id:seller-id-1", "users:cache:email:seller@company.com",
+                        "users:cache:evicted:seller-id-1")),
+                any(byte[].class), any(byte[].class), eq("300000".getBytes(StandardCharsets.US_ASCII)));
+        verify(redisTemplate, never()).opsForValue();
+    }
+}
@@ -0,0 +1,183 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.config.RedisConfig;
+import edu.dosw.domain.model.ValueObject.Email;
+import edu.dosw.domain.model.ValueObject.VerificationCode;
+import edu.dosw.domain.model.enums.VerificationCodeCheck;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para RedisVerificationCodeRepository")
+class RedisVerificationCodeRepositoryTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static RedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final Email email = new Email("reset@example.com");
+    private RedisVerificationCodeRepository repository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        try {
+            connectionFactory.destroy();
+        } finally {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        repository = new RedisVerificationCodeRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Debe guardar el código con su expiración y leerlo de vuelta")
+    void shouldSaveCodeWithExpiry() {
+        // Given
+        VerificationCode code = new VerificationCode("123456", LocalDateTime.now().plusMinutes(15), email.value(), false);
+
+        // When
+        repository.save(code);
+
+        // Then
+        VerificationCode stored = repository.findByEmail(email).orElseThrow();
+        assertEquals("123456", stored.code());
+        assertFalse(stored.used());
+        long ttl = redisTemplate.getExpire("verification_code:" + email.value(), TimeUnit.SECONDS);
+        assertTrue(ttl > 14 * 60 && ttl <= 15 * 60, "ttl was " + ttl);
+    }
+
+    @Test
+    @DisplayName("Debe validar sin consumir y consumir una sola vez")
+    void shouldConsumeCodeOnce() {
+        // Given
+        repository.save(new VerificationCode("123456", LocalDateTime.now().plusMinutes(15), email.value(), false));
+
+        // When & Then
+        assertEquals(VerificationCodeCheck.VALID, repository.check(email, "123456", MAX_ATTEMPTS, false));
+        assertEquals(VerificationCodeCheck.VALID, repository.check(email, "123456", MAX_ATTEMPTS, true));
+        assertEquals(VerificationCodeCheck.USED, repository.check(email, "123456", MAX_ATTEMPTS, true));
+        assertTrue(repository.findByEmail(email).orElseThrow().used());
+    }
+
+    @Test
+    @DisplayName("Debe responder NOT_FOUND cuando no hay código para el email")
+    void shouldReportMissingCode() {
+        // When & Then
+        assertEquals(VerificationCodeCheck.NOT_FOUND, repository.check(email, "123456", MAX_ATTEMPTS, true));
+    }
+
+    @Test
+    @DisplayName("Debe responder EXPIRED cuando la expiración guardada ya pasó")
+    void shouldReportExpiredCode() {
+        // Given: the key outlives the expiry stored in the hash, as it can by a few milliseconds
+        long past = System.currentTimeMillis() - 1000;
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(bytes("verification_code:" + email.value()), Map.of(
+                    bytes("code"), bytes("123456"), bytes("exp"), bytes(Long.toString(past)), bytes("used"), bytes("0")));
+            return null;
+        });
+
+        // When & Then
+        assertEquals(VerificationCodeCheck.EXPIRED, repository.check(email, "123456", MAX_ATTEMPTS, true));
+    }
+
+    @Test
+    @DisplayName("Debe contar los intentos fallidos y bloquear incluso el código correcto")
+    void shouldLockAfterMaxFailedAttempts() {
+        // Given
+        repository.save(new VerificationCode("123456", LocalDateTime.now().plusMinutes(15), email.value(), false));
+
+        // When
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertEquals(VerificationCodeCheck.INVALID, repository.check(email, "000000", MAX_ATTEMPTS, false));
+        }
+
+        // Then
+        assertEquals(VerificationCodeCheck.LOCKED, repository.check(email, "123456", MAX_ATTEMPTS, true));
+        assertFalse(repository.findByEmail(email).orElseThrow().used());
+        long ttl = redisTemplate.getExpire("verification_code_attempts:" + email.value(), TimeUnit.SECONDS);
+        assertTrue(ttl > 14 * 60 && ttl <= 15 * 60, "ttl was " + ttl);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los intentos fallidos al emitir un código nuevo")
+    void shouldKeepAttemptsWhenCodeIsReissued() {
+        // Given
+        repository.save(new VerificationCode("123456", LocalDateTime.now().plusMinutes(15), email.value(), false));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            repository.check(email, "000000", MAX_ATTEMPTS, false);
+        }
+
+        // When
+        repository.save(new VerificationCode("654321", LocalDateTime.now().plusMinutes(30), email.value(), false));
+
+        // Then
+        assertEquals(VerificationCodeCheck.LOCKED, repository.check(email, "654321", MAX_ATTEMPTS, true));
+        long ttl = redisTemplate.getExpire("verification_code_attempts:" + email.value(), TimeUnit.SECONDS);
+        assertTrue(ttl > 29 * 60 && ttl <= 30 * 60, "ttl was " + ttl);
+    }
+
+    @Test
+    @DisplayName("Debe borrar los intentos fallidos al consumir el código")
+    void shouldClearAttemptsOnConsume() {
+        // Given
+        repository.save(new VerificationCode("123456", LocalDateTime.now().plusMinutes(15), email.value(), false));
+        repository.check(email, "000000", MAX_ATTEMPTS, false);
+
+        // When
+        VerificationCodeCheck result = repository.check(email, "123456", MAX_ATTEMPTS, true);
+
+        // Then
+        assertEquals(VerificationCodeCheck.VALID, result);
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("verification_code_attempts:" + email.value())));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
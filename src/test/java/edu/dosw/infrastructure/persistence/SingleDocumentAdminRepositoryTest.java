@@ -0,0 +1,122 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Tests para SingleDocumentAdminRepository")
+class SingleDocumentAdminRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "single-admin-repository-test");
+    private SingleDocumentAdminRepository repository;
+    private Admin admin;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        UserMongoMapper userMapper = new UserMongoMapper();
+        MongoUserRepository userRepository = new MongoUserRepository(mongoTemplate, userMapper, "single",
+                mock(ObjectProvider.class));
+        repository = new SingleDocumentAdminRepository(mongoTemplate, userMapper, userRepository);
+        admin = repository.save(new Admin(
+                new UserId("admin-id-1"),
+                new IdentityDocument("123456789"),
+                new Email("admin@example.com"),
+                new FullName("Admin Test"),
+                new PasswordHash("encodedPassword")
+        ));
+    }
+
+    @Test
+    @DisplayName("Debe guardar el administrador en users sin perfiles de rol")
+    void shouldSaveAdminIntoUsers() {
+        // When
+        UserDocument stored = mongoTemplate.findById("admin-id-1", UserDocument.class);
+
+        // Then
+        assertEquals(Role.ADMIN, stored.getRole());
+        assertNull(stored.getCustomerProfile());
+        assertNull(stored.getSellerProfile());
+    }
+
+    @Test
+    @DisplayName("Debe encontrar al administrador por id y por email solo con el rol ADMIN")
+    void shouldFindAdminByIdAndEmail() {
+        // Given
+        mongoTemplate.save(UserDocument.builder()
+                .userId("customer-id-1")
+                .identityDocument("987654321")
+                .email("customer@example.com")
+                .fullName("Customer Test")
+                .passwordHash("encodedPassword")
+                .role(Role.CUSTOMER)
+                .build());
+
+        // When
+        Admin byId = repository.findByUserId(new UserId("admin-id-1")).orElseThrow();
+        Admin byEmail = repository.findByEmail(new Email("admin@example.com")).orElseThrow();
+
+        // Then
+        assertEquals("Admin Test", byId.getFullName().value());
+        assertEquals(byId.getUserId(), byEmail.getUserId());
+        assertTrue(repository.existsByEmail(new Email("admin@example.com")));
+        assertTrue(repository.findByUserId(new UserId("customer-id-1")).isEmpty());
+        assertFalse(repository.existsByEmail(new Email("customer@example.com")));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el nombre y subir la versión")
+    void shouldUpdateFullName() {
+        // Given
+        Admin changed = new Admin(admin.getUserId(), admin.getIdentityDocument(), admin.getEmail(),
+                new FullName("Renamed Admin"), admin.getPasswordHash());
+
+        // When
+        repository.update(admin, UserChanges.between(admin, changed));
+
+        // Then
+        Admin found = repository.findByUserId(admin.getUserId()).orElseThrow();
+        assertEquals("Renamed Admin", found.getFullName().value());
+        assertEquals(admin.getVersion() + 1, found.getVersion());
+    }
+
+    @Test
+    @DisplayName("Debe borrar al administrador y no tocar ids inexistentes")
+    void shouldDeleteAdmin() {
+        // When
+        List<UserId> deleted = repository.deleteByUserIds(List.of(admin.getUserId(), new UserId("missing-id")));
+
+        // Then
+        assertEquals(List.of(admin.getUserId()), deleted);
+        assertTrue(repository.findByUserId(admin.getUserId()).isEmpty());
+        assertEquals(List.of(), repository.deleteByUserIds(List.of()));
+    }
+}
@@ -0,0 +1,149 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.exception.ConcurrentUpdateException;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Tests para SingleDocumentCustomerRepository")
+class SingleDocumentCustomerRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "single-customer-repository-test");
+    private SingleDocumentCustomerRepository repository;
+    private Customer customer;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        UserMongoMapper userMapper = new UserMongoMapper();
+        MongoUserRepository userRepository = new MongoUserRepository(mongoTemplate, userMapper, "single",
+                mock(ObjectProvider.class));
+        repository = new SingleDocumentCustomerRepository(mongoTemplate, userMapper, userRepository);
+        customer = repository.save(new Customer(
+                new UserId("customer-id-1"),
+                new IdentityDocument("123456789"),
+                new Email("customer@example.com"),
+                new FullName("Customer Test"),
+                new PasswordHash("encodedPassword"),
+                "3001234567"
+        ));
+    }
+
+    @Test
+    @DisplayName("Debe guardar el cliente en users con el rol y el perfil embebido")
+    void shouldSaveCustomerIntoUsers() {
+        // When
+        UserDocument stored = mongoTemplate.findById("customer-id-1", UserDocument.class);
+
+        // Then
+        assertEquals(Role.CUSTOMER, stored.getRole());
+        assertEquals("encodedPassword", stored.getPasswordHash());
+        assertEquals("3001234567", stored.getCustomerProfile().getPhoneNumber());
+        assertNull(stored.getSellerProfile());
+        assertFalse(mongoTemplate.collectionExists("customers"));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar al cliente por id solo con el rol CUSTOMER")
+    void shouldFindCustomerByUserIdAndRole() {
+        // Given
+        mongoTemplate.save(UserDocument.builder()
+                .userId("seller-id-1")
+                .identityDocument("987654321")
+                .email("seller@example.com")
+                .fullName("Seller Test")
+                .passwordHash("encodedPassword")
+                .role(Role.SELLER)
+                .build());
+
+        // When
+        Customer found = repository.findByUserId(new UserId("customer-id-1")).orElseThrow();
+
+        // Then
+        assertEquals("customer@example.com", found.getEmail().value());
+        assertEquals("3001234567", found.getPhoneNumber());
+        assertEquals(customer.getVersion(), found.getVersion());
+        assertTrue(repository.findByUserId(new UserId("seller-id-1")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el teléfono dentro del perfil y subir la versión")
+    void shouldUpdatePhoneNumberInProfile() {
+        // Given
+        Customer changed = new Customer(customer.getUserId(), customer.getIdentityDocument(), customer.getEmail(),
+                customer.getFullName(), customer.getPasswordHash(), "3109876543");
+
+        // When
+        repository.update(customer, UserChanges.between(customer, changed));
+
+        // Then
+        Customer found = repository.findByUserId(customer.getUserId()).orElseThrow();
+        assertEquals("3109876543", found.getPhoneNumber());
+        assertEquals(customer.getVersion() + 1, found.getVersion());
+        assertEquals("encodedPassword", found.getPasswordHash().value());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la actualización con una versión vieja")
+    void shouldRejectStaleVersion() {
+        // Given
+        Customer changed = new Customer(customer.getUserId(), customer.getIdentityDocument(), customer.getEmail(),
+                new FullName("Renamed Customer"), customer.getPasswordHash(), customer.getPhoneNumber());
+        repository.update(customer, UserChanges.between(customer, changed));
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class,
+                () -> repository.update(customer, UserChanges.between(customer, changed)));
+    }
+
+    @Test
+    @DisplayName("Debe borrar solo los usuarios con rol CUSTOMER")
+    void shouldDeleteOnlyCustomers() {
+        // Given
+        mongoTemplate.save(UserDocument.builder()
+                .userId("admin-id-1")
+                .identityDocument("555555555")
+                .email("admin@example.com")
+                .fullName("Admin Test")
+                .passwordHash("encodedPassword")
+                .role(Role.ADMIN)
+                .build());
+
+        // When
+        List<UserId> deleted = repository.deleteByUserIds(List.of(new UserId("customer-id-1"), new UserId("admin-id-1")));
+
+        // Then
+        assertEquals(List.of(new UserId("customer-id-1")), deleted);
+        assertNull(mongoTemplate.findById("customer-id-1", UserDocument.class));
+        assertNotNull(mongoTemplate.findById("admin-id-1", UserDocument.class));
+        assertFalse(repository.deleteByUserId(new UserId("customer-id-1")));
+    }
+}
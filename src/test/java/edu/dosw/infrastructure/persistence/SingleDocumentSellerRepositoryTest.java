@@ -0,0 +1,213 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.application.dto.SellerPageDTO;
+import edu.dosw.application.dto.SellerSummaryDTO;
+import edu.dosw.application.services.SellerServices.GetAllSellersService;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
+import edu.dosw.domain.model.UserChanges;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import edu.dosw.infrastructure.web.mappers.SellerWebMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Tests para SingleDocumentSellerRepository")
+class SingleDocumentSellerRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "single-seller-repository-test");
+    private SingleDocumentSellerRepository repository;
+    private GetAllSellersService getAllSellersService;
+    private Seller seller;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        UserMongoMapper userMapper = new UserMongoMapper();
+        MongoUserRepository userRepository = new MongoUserRepository(mongoTemplate, userMapper, "single",
+                mock(ObjectProvider.class));
+        repository = new SingleDocumentSellerRepository(mongoTemplate, userMapper, userRepository);
+        getAllSellersService = new GetAllSellersService(repository, new SellerWebMapper(), 2, 5);
+        seller = repository.save(seller("seller-id-1", "seller@example.com"));
+    }
+
+    @Test
+    @DisplayName("Debe guardar el vendedor en users con el rol y el perfil embebido")
+    void shouldSaveSellerIntoUsers() {
+        // When
+        UserDocument stored = mongoTemplate.findById("seller-id-1", UserDocument.class);
+
+        // Then
+        assertEquals(Role.SELLER, stored.getRole());
+        assertEquals("Company seller-id-1", stored.getSellerProfile().getCompanyName());
+        assertEquals("Address seller-id-1", stored.getSellerProfile().getBusinessAddress());
+        assertNull(stored.getCustomerProfile());
+    }
+
+    @Test
+    @DisplayName("Debe encontrar al vendedor por id y por email solo con el rol SELLER")
+    void shouldFindSellerByIdAndEmail() {
+        // Given
+        mongoTemplate.save(UserDocument.builder()
+                .userId("customer-id-1")
+                .identityDocument("987654321")
+                .email("customer@example.com")
+                .fullName("Customer Test")
+                .passwordHash("encodedPassword")
+                .role(Role.CUSTOMER)
+                .build());
+
+        // When
+        Seller byId = repository.findByUserId(new UserId("seller-id-1")).orElseThrow();
+        Seller byEmail = repository.findByEmail(new Email("seller@example.com")).orElseThrow();
+
+        // Then
+        assertEquals("Company seller-id-1", byId.getCompanyName());
+        assertEquals(byId.getUserId(), byEmail.getUserId());
+        assertTrue(repository.existsByEmail(new Email("seller@example.com")));
+        assertTrue(repository.findByUserId(new UserId("customer-id-1")).isEmpty());
+        assertTrue(repository.findByEmail(new Email("customer@example.com")).isEmpty());
+        assertFalse(repository.existsByEmail(new Email("customer@example.com")));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar los campos del perfil dentro del sub-documento seller")
+    void shouldUpdateSellerProfile() {
+        // Given
+        Seller changed = new Seller(seller.getUserId(), seller.getIdentityDocument(), seller.getEmail(),
+                seller.getFullName(), seller.getPasswordHash(), "Renamed Company", seller.getBusinessAddress());
+
+        // When
+        repository.update(seller, UserChanges.between(seller, changed));
+
+        // Then
+        Seller found = repository.findByUserId(seller.getUserId()).orElseThrow();
+        assertEquals("Renamed Company", found.getCompanyName());
+        assertEquals("Address seller-id-1", found.getBusinessAddress());
+        assertEquals(seller.getVersion() + 1, found.getVersion());
+    }
+
+    @Test
+    @DisplayName("Debe borrar al vendedor de users")
+    void shouldDeleteSeller() {
+        // When
+        boolean deleted = repository.deleteByUserId(seller.getUserId());
+
+        // Then
+        assertTrue(deleted);
+        assertTrue(repository.findByUserId(seller.getUserId()).isEmpty());
+        assertFalse(repository.deleteByUserId(seller.getUserId()));
+    }
+
+    @Test
+    @DisplayName("Debe listar resúmenes con el perfil de seller proyectado y sin credenciales")
+    void shouldProjectSellerProfileIntoSummaries() {
+        // Given
+        repository.save(seller("seller-id-2", "other.seller@example.com"));
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is("seller-id-2")),
+                Update.update("seller.approved", true), UserDocument.class);
+
+        // When
+        List<SellerSummary> all = repository.findSummaries(null, null, 10);
+        List<SellerSummary> approved = repository.findSummaries(true, null, 10);
+
+        // Then
+        assertEquals(List.of(new UserId("seller-id-1"), new UserId("seller-id-2")),
+                all.stream().map(SellerSummary::userId).toList());
+        SellerSummary first = all.get(0);
+        assertEquals("seller@example.com", first.email().value());
+        assertEquals("Seller seller-id-1", first.fullName().value());
+        assertEquals("Company seller-id-1", first.companyName());
+        assertEquals("Address seller-id-1", first.businessAddress());
+        assertEquals(List.of(new UserId("seller-id-2")), approved.stream().map(SellerSummary::userId).toList());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer las páginas de pendientes sin repetir aunque cambie el borde")
+    void shouldPagePendingSellersWithoutDuplicates() {
+        // Given: saved out of id order; seller-id-4 is approved and must be skipped
+        for (String id : List.of("seller-id-5", "seller-id-3", "seller-id-2", "seller-id-4")) {
+            repository.save(seller(id, id + "@example.com"));
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("role").is(Role.SELLER)),
+                Update.update("seller.approved", false), UserDocument.class);
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is("seller-id-4")),
+                Update.update("seller.approved", true), UserDocument.class);
+        SellerPageDTO first = getAllSellersService.getPendingSellers(null, null);
+        repository.deleteByUserId(new UserId("seller-id-2"));
+
+        // When
+        List<SellerPageDTO> pages = new ArrayList<>(List.of(first));
+        String token = first.continuationToken();
+        while (token != null && pages.size() < 10) {
+            SellerPageDTO page = getAllSellersService.getPendingSellers(token, null);
+            pages.add(page);
+            token = page.continuationToken();
+        }
+
+        // Then
+        assertEquals(List.of("seller-id-1", "seller-id-2", "seller-id-3", "seller-id-5"), pages.stream()
+                .flatMap(page -> page.sellers().stream())
+                .map(SellerSummaryDTO::userId)
+                .toList());
+        assertEquals(2, pages.size());
+    }
+
+    @Test
+    @DisplayName("Debe devolver una página vacía sin token cuando el token apunta tras el último id")
+    void shouldReturnEmptyLastPagePastEnd() {
+        // Given
+        String pastEnd = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("s1:seller-id-9".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        SellerPageDTO page = getAllSellersService.getAllSellers(pastEnd, null);
+
+        // Then
+        assertTrue(page.sellers().isEmpty());
+        assertNull(page.continuationToken());
+    }
+
+    private static Seller seller(String id, String email) {
+        return new Seller(
+                new UserId(id),
+                new IdentityDocument("123456789"),
+                new Email(email),
+                new FullName("Seller " + id),
+                new PasswordHash("encodedPassword"),
+                "Company " + id,
+                "Address " + id
+        );
+    }
+}
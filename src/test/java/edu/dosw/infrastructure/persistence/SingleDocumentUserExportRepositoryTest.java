@@ -0,0 +1,114 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.CustomerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.mappers.UserMongoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests para SingleDocumentUserExportRepository")
+class SingleDocumentUserExportRepositoryTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final MongoTemplate mongoTemplate = spy(new MongoTemplate(CLIENT, "single-user-export-repository-test"));
+    private SingleDocumentUserExportRepository repository;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        repository = new SingleDocumentUserExportRepository(mongoTemplate, new UserMongoMapper());
+        mongoTemplate.insertAll(List.of(
+                user("seller-id-1", Role.SELLER, SINCE.minusSeconds(1)),
+                user("seller-id-2", Role.SELLER, SINCE),
+                user("customer-id-1", Role.CUSTOMER, SINCE.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("Debe exportar solo el rol pedido creado desde la fecha dada, con su perfil")
+    void shouldExportRoleSinceDate() {
+        // Given
+        List<UserExportRecord> exported = new ArrayList<>();
+
+        // When
+        repository.forEach(Role.SELLER, SINCE, exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals("seller-id-2", exported.get(0).userId().value());
+        assertEquals("Company seller-id-2", exported.get(0).companyName());
+        assertNull(exported.get(0).phoneNumber());
+    }
+
+    @Test
+    @DisplayName("Debe exportar todo el rol cuando no hay fecha")
+    void shouldExportWholeRoleWithoutSince() {
+        // Given
+        List<UserExportRecord> exported = new ArrayList<>();
+
+        // When
+        repository.forEach(Role.SELLER, null, exported::add);
+
+        // Then
+        assertEquals(List.of("seller-id-1", "seller-id-2"),
+                exported.stream().map(record -> record.userId().value()).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Debe excluir el hash de la contraseña en la proyección de la consulta")
+    void shouldExcludePasswordHashFromProjection() {
+        // Given
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+        // When
+        repository.forEach(Role.CUSTOMER, null, record -> { });
+
+        // Then
+        verify(mongoTemplate).stream(query.capture(), eq(UserDocument.class));
+        assertEquals(0, query.getValue().getFieldsObject().get("passwordHash"));
+    }
+
+    private static UserDocument user(String id, Role role, LocalDateTime createdAt) {
+        return UserDocument.builder()
+                .userId(id)
+                .identityDocument("123456789")
+                .email(id + "@example.com")
+                .fullName("User " + id)
+                .passwordHash("secretHash")
+                .role(role)
+                .createdAt(createdAt)
+                .customerProfile(role == Role.CUSTOMER
+                        ? CustomerProfileDocument.builder().phoneNumber("3001234567").build() : null)
+                .sellerProfile(role == Role.SELLER
+                        ? SellerProfileDocument.builder().companyName("Company " + id).build() : null)
+                .build();
+    }
+}
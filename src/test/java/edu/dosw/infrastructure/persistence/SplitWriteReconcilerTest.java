@@ -0,0 +1,194 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.LeaseDocument;
+import edu.dosw.infrastructure.persistence.documents.SyncCheckpointDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import edu.dosw.infrastructure.persistence.documents.UserWriteIntentDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para SplitWriteReconciler")
+class SplitWriteReconcilerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoUserRoleSync roleSync;
+
+    private SplitWriteReconciler reconciler;
+    private LocalDateTime settledBefore;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new SplitWriteReconciler(mongoTemplate, roleSync, 30, 2, 300);
+        settledBefore = LocalDateTime.of(2024, 1, 1, 12, 0);
+    }
+
+    private static UserDocument changedUser(String userId, int minute) {
+        return UserDocument.builder()
+                .userId(userId)
+                .role(Role.CUSTOMER)
+                .version(1L)
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 11, minute))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe reconciliar y borrar las intenciones que dejo una caida")
+    void shouldReplayLeftoverIntents() {
+        // Given
+        UserWriteIntentDocument intent = new UserWriteIntentDocument("intent-1", "user-id-1", settledBefore.minusMinutes(5));
+        when(mongoTemplate.find(any(Query.class), eq(UserWriteIntentDocument.class))).thenReturn(List.of(intent));
+
+        // When
+        int replayed = reconciler.replayIntents(settledBefore);
+
+        // Then
+        assertEquals(1, replayed);
+        verify(roleSync).reconcile("user-id-1");
+        verify(mongoTemplate).remove(intent);
+    }
+
+    @Test
+    @DisplayName("En la primera ejecucion debe crear el checkpoint sin recorrer la coleccion")
+    void shouldStartCheckpointWithoutScanning() {
+        // Given
+        when(mongoTemplate.findById(SplitWriteReconciler.CHECKPOINT, SyncCheckpointDocument.class)).thenReturn(null);
+
+        // When
+        int repaired = reconciler.checkChangedUsers(settledBefore);
+
+        // Then
+        assertEquals(0, repaired);
+        verify(mongoTemplate).save(new SyncCheckpointDocument(SplitWriteReconciler.CHECKPOINT, settledBefore, ""));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(UserDocument.class));
+    }
+
+    @Test
+    @DisplayName("Debe reparar solo los usuarios desincronizados y avanzar el checkpoint por lotes")
+    void shouldRepairOutOfSyncUsersAndAdvanceCheckpoint() {
+        // Given
+        when(mongoTemplate.findById(SplitWriteReconciler.CHECKPOINT, SyncCheckpointDocument.class))
+                .thenReturn(new SyncCheckpointDocument(SplitWriteReconciler.CHECKPOINT, settledBefore.minusHours(1), ""));
+        List<UserDocument> firstBatch = List.of(changedUser("user-a", 10), changedUser("user-b", 20));
+        List<UserDocument> secondBatch = List.of(changedUser("user-c", 30));
+        when(mongoTemplate.find(any(Query.class), eq(UserDocument.class))).thenReturn(firstBatch, secondBatch);
+        when(roleSync.findOutOfSync(anyList())).thenReturn(List.of("user-b"), List.of());
+
+        // When
+        int repaired = reconciler.checkChangedUsers(settledBefore);
+
+        // Then
+        assertEquals(1, repaired);
+        verify(roleSync).reconcile("user-b");
+        ArgumentCaptor<SyncCheckpointDocument> checkpoints = ArgumentCaptor.forClass(SyncCheckpointDocument.class);
+        verify(mongoTemplate, times(2)).save(checkpoints.capture());
+        assertEquals("user-c", checkpoints.getValue().getUserId());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 11, 30), checkpoints.getValue().getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("No debe reconciliar cuando otra replica tiene el lease")
+    void shouldSkipRunWhileAnotherReplicaHoldsLease() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(LeaseDocument.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(mongoTemplate, never()).find(any(Query.class), eq(UserWriteIntentDocument.class));
+        verifyNoInteractions(roleSync);
+    }
+
+    @Test
+    @DisplayName("Debe tomar el lease, reconciliar y liberarlo al terminar")
+    void shouldReleaseLeaseAfterRun() {
+        // Given
+        when(mongoTemplate.findById(any(String.class), eq(SyncCheckpointDocument.class))).thenReturn(null);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(mongoTemplate).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(LeaseDocument.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(LeaseDocument.class));
+    }
+
+    @Test
+    @DisplayName("Debe reconciliar las copias de rol escritas desde el checkpoint cuyo usuario ya no existe")
+    void shouldRemoveOrphanRoleCopiesWrittenSinceCheckpoint() {
+        // Given
+        Date updatedAt = Date.from(settledBefore.minusHours(1).atZone(ZoneId.systemDefault()).toInstant());
+        when(mongoTemplate.findById(any(String.class), eq(SyncCheckpointDocument.class)))
+                .thenAnswer(invocation -> new SyncCheckpointDocument(invocation.getArgument(0),
+                        settledBefore.minusDays(1), ""));
+        when(mongoTemplate.getCollectionName(any(Class.class))).thenReturn("role");
+        when(mongoTemplate.getCollectionName(CustomerDocument.class)).thenReturn("customers");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), any(String.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("customers"))).thenReturn(List.of(
+                new Document("_id", "user-a").append("updatedAt", updatedAt),
+                new Document("_id", "user-b").append("updatedAt", updatedAt)), List.of());
+        when(mongoTemplate.find(any(Query.class), eq(UserDocument.class)))
+                .thenReturn(List.of(UserDocument.builder().userId("user-b").build()));
+
+        // When
+        int removed = reconciler.removeOrphanRoleCopies(settledBefore);
+
+        // Then
+        assertEquals(1, removed);
+        verify(roleSync).reconcile("user-a");
+        verify(roleSync, never()).reconcile("user-b");
+        ArgumentCaptor<Query> pages = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(pages.capture(), eq(Document.class), eq("customers"));
+        assertTrue(pages.getAllValues().get(0).getQueryObject().toString().contains("updatedAt"));
+        ArgumentCaptor<SyncCheckpointDocument> checkpoints = ArgumentCaptor.forClass(SyncCheckpointDocument.class);
+        verify(mongoTemplate).save(checkpoints.capture());
+        assertEquals("role-orphans-customer", checkpoints.getValue().getName());
+        assertEquals("user-b", checkpoints.getValue().getUserId());
+        assertEquals(settledBefore.minusHours(1), checkpoints.getValue().getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Debe iniciar los checkpoints de copias huerfanas sin recorrer las colecciones de rol")
+    void shouldStartOrphanCheckpointsWithoutScanning() {
+        // Given
+        when(mongoTemplate.findById(any(String.class), eq(SyncCheckpointDocument.class))).thenReturn(null);
+
+        // When
+        int removed = reconciler.removeOrphanRoleCopies(settledBefore);
+
+        // Then
+        assertEquals(0, removed);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), any(String.class));
+        verify(mongoTemplate, times(Role.values().length)).save(any(SyncCheckpointDocument.class));
+    }
+}
@@ -0,0 +1,155 @@
+package edu.dosw.infrastructure.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.AdminDocument;
+import edu.dosw.infrastructure.persistence.documents.CustomerDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.documents.UserDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para UserStorageMigration")
+class UserStorageMigrationTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2024, 1, 10, 9, 30);
+    private static final LocalDateTime COPIED_AT = LocalDateTime.of(2024, 1, 10, 9, 31);
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "user-storage-migration-test");
+    private UserStorageMigration migration;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        migration = new UserStorageMigration(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Debe conservar el hash y la fecha de creación que ya están en users")
+    void shouldKeepExistingPasswordHashAndCreatedAt() {
+        // Given: the password was changed after the copy, which only ever updated users
+        mongoTemplate.save(UserDocument.builder()
+                .userId("customer-id-1")
+                .identityDocument("123456789")
+                .email("customer@example.com")
+                .fullName("Customer Test")
+                .passwordHash("changedHash")
+                .role(Role.CUSTOMER)
+                .createdAt(REGISTERED_AT)
+                .build());
+        mongoTemplate.save(CustomerDocument.builder()
+                .userId("customer-id-1")
+                .identityDocument("123456789")
+                .email("customer@example.com")
+                .fullName("Customer Renamed")
+                .passwordHash("originalHash")
+                .role(Role.CUSTOMER)
+                .phoneNumber("3001234567")
+                .createdAt(COPIED_AT)
+                .build());
+
+        // When
+        migration.run(null);
+
+        // Then
+        UserDocument merged = mongoTemplate.findById("customer-id-1", UserDocument.class);
+        assertEquals("changedHash", merged.getPasswordHash());
+        assertEquals(REGISTERED_AT, merged.getCreatedAt());
+        assertEquals("Customer Renamed", merged.getFullName());
+        assertEquals("3001234567", merged.getCustomerProfile().getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Debe insertar en users los usuarios que solo están en su colección de rol")
+    void shouldInsertUsersMissingFromUsers() {
+        // Given
+        mongoTemplate.save(SellerDocument.builder()
+                .userId("seller-id-1")
+                .identityDocument("987654321")
+                .email("seller@example.com")
+                .fullName("Seller Test")
+                .passwordHash("sellerHash")
+                .role(Role.SELLER)
+                .companyName("Test Company")
+                .businessAddress("Test Address")
+                .createdAt(REGISTERED_AT)
+                .build());
+        mongoTemplate.save(AdminDocument.builder()
+                .userId("admin-id-1")
+                .identityDocument("555555555")
+                .email("admin@example.com")
+                .fullName("Admin Test")
+                .passwordHash("adminHash")
+                .role(Role.ADMIN)
+                .createdAt(REGISTERED_AT)
+                .build());
+
+        // When
+        migration.run(null);
+
+        // Then
+        UserDocument seller = mongoTemplate.findById("seller-id-1", UserDocument.class);
+        assertEquals(Role.SELLER, seller.getRole());
+        assertEquals("sellerHash", seller.getPasswordHash());
+        assertEquals(REGISTERED_AT, seller.getCreatedAt());
+        assertEquals("Test Company", seller.getSellerProfile().getCompanyName());
+        assertEquals("Test Address", seller.getSellerProfile().getBusinessAddress());
+        UserDocument admin = mongoTemplate.findById("admin-id-1", UserDocument.class);
+        assertEquals(Role.ADMIN, admin.getRole());
+        assertEquals("adminHash", admin.getPasswordHash());
+        assertNull(admin.getSellerProfile());
+    }
+
+    @Test
+    @DisplayName("Debe poder ejecutarse de nuevo sobre más de un lote sin duplicar usuarios")
+    void shouldBeRerunnableAcrossBatches() {
+        // Given
+        List<CustomerDocument> customers = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            customers.add(CustomerDocument.builder()
+                    .userId("customer-id-" + i)
+                    .identityDocument("100" + i)
+                    .email("customer" + i + "@example.com")
+                    .fullName("Customer " + i)
+                    .passwordHash("hash" + i)
+                    .role(Role.CUSTOMER)
+                    .phoneNumber("300" + i)
+                    .createdAt(REGISTERED_AT)
+                    .build());
+        }
+        mongoTemplate.insertAll(customers);
+
+        // When
+        migration.run(null);
+        migration.run(null);
+
+        // Then
+        assertEquals(501, mongoTemplate.count(new Query(), UserDocument.class));
+        assertEquals("3000", mongoTemplate.findById("customer-id-0", UserDocument.class)
+                .getCustomerProfile().getPhoneNumber());
+        assertEquals("300500", mongoTemplate.findById("customer-id-500", UserDocument.class)
+                .getCustomerProfile().getPhoneNumber());
+    }
+}
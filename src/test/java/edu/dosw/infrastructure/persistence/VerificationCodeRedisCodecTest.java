@@ -0,0 +1,65 @@
+package edu.dosw.infrastructure.persistence;
+
+import edu.dosw.domain.model.ValueObject.VerificationCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para VerificationCodeRedisCodec")
+class VerificationCodeRedisCodecTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Test
+    @DisplayName("Debe reconstruir el codigo a partir de sus campos")
+    void shouldRoundTripVerificationCode() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15).truncatedTo(ChronoUnit.MILLIS);
+        VerificationCode code = new VerificationCode("123456", expiresAt, EMAIL, true);
+
+        // When
+        VerificationCode decoded = VerificationCodeRedisCodec.decode(EMAIL, copyKeys(VerificationCodeRedisCodec.encode(code)));
+
+        // Then
+        assertEquals(code, decoded);
+    }
+
+    @Test
+    @DisplayName("Debe guardar solo los valores, sin metadatos de tipo")
+    void shouldEncodePlainValues() {
+        // Given
+        VerificationCode code = new VerificationCode("654321", LocalDateTime.now().plusMinutes(15), EMAIL, false);
+
+        // When
+        Map<byte[], byte[]> fields = VerificationCodeRedisCodec.encode(code);
+
+        // Then
+        assertEquals(3, fields.size());
+        assertArrayEquals("654321".getBytes(), fields.get(VerificationCodeRedisCodec.CODE));
+        assertArrayEquals("0".getBytes(), fields.get(VerificationCodeRedisCodec.USED));
+    }
+
+    @Test
+    @DisplayName("Debe devolver null cuando faltan campos obligatorios")
+    void shouldReturnNullForIncompleteHash() {
+        // Given
+        Map<byte[], byte[]> fields = new HashMap<>();
+        fields.put("used".getBytes(), "0".getBytes());
+
+        // When & Then
+        assertNull(VerificationCodeRedisCodec.decode(EMAIL, fields));
+    }
+
+    // Redis returns fresh byte[] keys, so decoding must not rely on the encoder's array instances
+    private static Map<byte[], byte[]> copyKeys(Map<byte[], byte[]> fields) {
+        Map<byte[], byte[]> copy = new HashMap<>();
+        fields.forEach((key, value) -> copy.put(key.clone(), value.clone()));
+        return copy;
+    }
+}
@@ -132,6 +132,22 @@ class CustomerMongoMapperTest {
         assertEquals(customer.getPhoneNumber(), reconstructedCustomer.getPhoneNumber());
     }
 
+    @Test
+    @DisplayName("Debe preservar la versión del documento en ambas direcciones")
+    void shouldPreserveVersion() {
+        // Given
+        customerDocument.setVersion(4L);
+
+        // When
+        Customer loaded = mapper.toDomain(customerDocument);
+        CustomerDocument document = mapper.toDocument(loaded);
+
+        // Then
+        assertEquals(4L, loaded.getVersion());
+        assertEquals(4L, document.getVersion());
+        assertNull(mapper.toDocument(customer).getVersion());
+    }
+
     @Test
     @DisplayName("Debe preservar la fecha de creación")
     void shouldPreserveCreatedAt() {
@@ -1,6 +1,7 @@
 package edu.dosw.infrastructure.persistence.mappers;
 
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.model.enums.Role;
 import edu.dosw.infrastructure.persistence.documents.SellerDocument;
@@ -183,4 +184,27 @@ class SellerMongoMapperTest {
         // Then
         assertEquals(result.getCreatedAt(), backToDocument.getCreatedAt());
     }
+
+    @Test
+    @DisplayName("Debe convertir un documento proyectado a SellerSummary sin hash de contraseña")
+    void shouldConvertProjectedDocumentToSummary() {
+        // Given
+        SellerDocument projected = SellerDocument.builder()
+                .userId("seller-123")
+                .email("seller@example.com")
+                .fullName("Seller User")
+                .companyName("Tech Company Inc.")
+                .businessAddress("123 Business St, City")
+                .build();
+
+        // When
+        SellerSummary result = mapper.toSummary(projected);
+
+        // Then
+        assertEquals("seller-123", result.userId().value());
+        assertEquals("seller@example.com", result.email().value());
+        assertEquals("Seller User", result.fullName().value());
+        assertEquals("Tech Company Inc.", result.companyName());
+        assertEquals("123 Business St, City", result.businessAddress());
+    }
 }
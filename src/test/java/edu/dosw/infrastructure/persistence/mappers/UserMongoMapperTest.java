@@ -1,8 +1,15 @@
 package edu.dosw.infrastructure.persistence.mappers;
 
+import edu.dosw.domain.model.Admin;
+import edu.dosw.domain.model.Customer;
+import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.User;
+import edu.dosw.domain.model.UserExportRecord;
 import edu.dosw.domain.model.ValueObject.*;
 import edu.dosw.domain.model.enums.Role;
+import edu.dosw.infrastructure.persistence.documents.CustomerProfileDocument;
+import edu.dosw.infrastructure.persistence.documents.SellerProfileDocument;
 import edu.dosw.infrastructure.persistence.documents.UserDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -183,4 +190,167 @@ class UserMongoMapperTest {
         // Then
         assertEquals("complex.email+tag@subdomain.example.com", result.getEmail());
     }
+
+    @Test
+    @DisplayName("Debe incluir el perfil de customer como sub-documento")
+    void shouldEmbedCustomerProfile() {
+        // Given
+        Customer customer = new Customer(
+                new UserId("customer-123"),
+                new IdentityDocument("123456789"),
+                new Email("customer@example.com"),
+                new FullName("Customer User"),
+                new PasswordHash("customerHash"),
+                "3001234567"
+        );
+
+        // When
+        UserDocument result = mapper.toDocument(customer);
+
+        // Then
+        assertEquals(Role.CUSTOMER, result.getRole());
+        assertNotNull(result.getCustomerProfile());
+        assertEquals("3001234567", result.getCustomerProfile().getPhoneNumber());
+        assertNull(result.getSellerProfile());
+    }
+
+    @Test
+    @DisplayName("Debe incluir el perfil de seller como sub-documento")
+    void shouldEmbedSellerProfile() {
+        // Given
+        Seller seller = new Seller(
+                new UserId("seller-123"),
+                new IdentityDocument("111222333"),
+                new Email("seller@example.com"),
+                new FullName("Seller User"),
+                new PasswordHash("sellerHash"),
+                "Test Company",
+                "Calle 123 #45-67"
+        );
+
+        // When
+        UserDocument result = mapper.toDocument(seller);
+
+        // Then
+        assertEquals(Role.SELLER, result.getRole());
+        assertNotNull(result.getSellerProfile());
+        assertEquals("Test Company", result.getSellerProfile().getCompanyName());
+        assertEquals("Calle 123 #45-67", result.getSellerProfile().getBusinessAddress());
+        assertNull(result.getCustomerProfile());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir un Customer a partir del rol y su sub-documento")
+    void shouldRebuildCustomerFromRoleAndProfile() {
+        // Given
+        userDocument.setCustomerProfile(CustomerProfileDocument.builder().phoneNumber("3001234567").build());
+
+        // When
+        User result = mapper.toDomain(userDocument);
+
+        // Then
+        Customer customer = assertInstanceOf(Customer.class, result);
+        assertEquals("3001234567", customer.getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir un Seller a partir del rol y su sub-documento")
+    void shouldRebuildSellerFromRoleAndProfile() {
+        // Given
+        userDocument.setRole(Role.SELLER);
+        userDocument.setSellerProfile(SellerProfileDocument.builder()
+                .companyName("Test Company")
+                .businessAddress("Calle 123 #45-67")
+                .build());
+
+        // When
+        User result = mapper.toDomain(userDocument);
+
+        // Then
+        Seller seller = assertInstanceOf(Seller.class, result);
+        assertEquals("Test Company", seller.getCompanyName());
+        assertEquals("Calle 123 #45-67", seller.getBusinessAddress());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir un Admin a partir del rol")
+    void shouldRebuildAdminFromRole() {
+        // Given
+        userDocument.setRole(Role.ADMIN);
+
+        // When
+        User result = mapper.toDomain(userDocument);
+
+        // Then
+        assertInstanceOf(Admin.class, result);
+        assertEquals(Role.ADMIN, result.getRole());
+    }
+
+    @Test
+    @DisplayName("Debe tolerar documentos heredados sin sub-documento de perfil")
+    void shouldTolerateLegacyDocumentsWithoutProfile() {
+        // When
+        User result = mapper.toDomain(userDocument);
+
+        // Then
+        Customer customer = assertInstanceOf(Customer.class, result);
+        assertNull(customer.getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Debe armar el resumen de seller desde la proyección de findSummaries")
+    void shouldBuildSellerSummaryFromProjection() {
+        // Given: findSummaries only loads _id, email, fullName and the seller sub-document
+        UserDocument projected = UserDocument.builder()
+                .userId("seller-123")
+                .email("seller@example.com")
+                .fullName("Seller User")
+                .sellerProfile(SellerProfileDocument.builder()
+                        .companyName("Test Company")
+                        .businessAddress("Calle 123 #45-67")
+                        .build())
+                .build();
+
+        // When
+        SellerSummary result = mapper.toSellerSummary(projected);
+
+        // Then
+        assertEquals(new UserId("seller-123"), result.userId());
+        assertEquals("seller@example.com", result.email().value());
+        assertEquals("Seller User", result.fullName().value());
+        assertEquals("Test Company", result.companyName());
+        assertEquals("Calle 123 #45-67", result.businessAddress());
+    }
+
+    @Test
+    @DisplayName("Debe armar el resumen de seller aunque falte el sub-documento de perfil")
+    void shouldBuildSellerSummaryWithoutProfile() {
+        // Given
+        userDocument.setRole(Role.SELLER);
+
+        // When
+        SellerSummary result = mapper.toSellerSummary(userDocument);
+
+        // Then
+        assertNull(result.companyName());
+        assertNull(result.businessAddress());
+    }
+
+    @Test
+    @DisplayName("Debe exportar los campos de perfil sin el hash de la contraseña")
+    void shouldBuildExportRecordWithProfileFields() {
+        // Given
+        userDocument.setCustomerProfile(CustomerProfileDocument.builder().phoneNumber("3001234567").build());
+
+        // When
+        UserExportRecord result = mapper.toExportRecord(userDocument);
+
+        // Then
+        assertEquals(new UserId("user-123"), result.userId());
+        assertEquals(Role.CUSTOMER, result.role());
+        assertEquals(userDocument.getCreatedAt(), result.createdAt());
+        assertEquals("3001234567", result.phoneNumber());
+        assertNull(result.companyName());
+        assertFalse(result.toString().contains("hashedPassword123"));
+    }
 }
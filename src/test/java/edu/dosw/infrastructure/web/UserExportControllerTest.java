@@ -0,0 +1,182 @@
+package edu.dosw.infrastructure.web;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.dosw.application.services.UserServices.ExportUsersService;
+import edu.dosw.domain.model.UserExportRecord;
+import edu.dosw.domain.model.ValueObject.*;
+import edu.dosw.domain.model.enums.Role;
+import edu.dosw.domain.ports.UserExportPort;
+import edu.dosw.exception.GlobalExceptionHandler;
+import edu.dosw.infrastructure.persistence.MongoUserExportRepository;
+import edu.dosw.infrastructure.persistence.documents.SellerDocument;
+import edu.dosw.infrastructure.persistence.mappers.AdminMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.CustomerMongoMapper;
+import edu.dosw.infrastructure.persistence.mappers.SellerMongoMapper;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("Tests para UserExportController")
+class UserExportControllerTest {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final MongoClient CLIENT = MongoClients.create(MONGO.bindAndGetConnectionString());
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final MongoTemplate mongoTemplate = new MongoTemplate(CLIENT, "user-export-controller-test");
+    private UserExportPort mongoExport;
+
+    @AfterAll
+    static void stopMongo() {
+        CLIENT.close();
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        mongoExport = new MongoUserExportRepository(mongoTemplate, new CustomerMongoMapper(),
+                new SellerMongoMapper(), new AdminMongoMapper());
+        List<SellerDocument> sellers = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            sellers.add(SellerDocument.builder()
+                    .userId("seller-id-" + i)
+                    .identityDocument("123456789")
+                    .email("seller" + i + "@example.com")
+                    .fullName("Seller " + i)
+                    .passwordHash("secretHash" + i)
+                    .role(Role.SELLER)
+                    .companyName("Company " + i)
+                    .createdAt(SINCE.plusDays(i - 3))
+                    .build());
+        }
+        mongoTemplate.insertAll(sellers);
+    }
+
+    @Test
+    @DisplayName("Debe exportar una línea NDJSON por vendedor sin el hash de la contraseña")
+    void shouldStreamNdjsonWithoutPasswordHash() throws Exception {
+        // When
+        MvcResult result = mockMvc(mongoExport, 0).perform(get("/users/export/sellers"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andReturn();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"userId\":\"seller-id-"));
+        assertFalse(body.contains("passwordHash"));
+        assertFalse(body.contains("secretHash"));
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por el parámetro since")
+    void shouldFilterBySince() throws Exception {
+        // When
+        String body = mockMvc(mongoExport, 0)
+                .perform(get("/users/export/sellers").param("since", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertEquals(3, body.lines().count());
+        assertFalse(body.contains("seller-id-1\""));
+        assertFalse(body.contains("seller-id-2\""));
+    }
+
+    @Test
+    @DisplayName("Debe espaciar la exportación según el límite de documentos por segundo")
+    void shouldPaceExport() throws Exception {
+        // Given: at 20 documents per second the fifth one is due 200 ms after the first
+        MockMvc mockMvc = mockMvc(mongoExport, 20);
+
+        // When
+        long start = System.nanoTime();
+        String body = mockMvc.perform(get("/users/export/sellers"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertEquals(5, body.lines().count());
+        assertTrue(elapsedMillis >= 190, "elapsed " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Debe responder 500 sin líneas parciales si falla antes de enviar datos")
+    void shouldReportFailureBeforeFirstFlush() throws Exception {
+        // Given
+        UserExportPort failing = failingAfter(3);
+
+        // When
+        MvcResult result = mockMvc(failing, 0).perform(get("/users/export/sellers"))
+                .andExpect(status().isInternalServerError())
+                .andReturn();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("UNEXPECTED_ERROR"));
+        assertFalse(body.contains("seller-id-"));
+    }
+
+    @Test
+    @DisplayName("Debe propagar el fallo tras enviar datos en lugar de cerrar la respuesta como 200")
+    void shouldAbortCommittedResponseOnFailure() {
+        // Given: enough records to flush the 64 KB buffer and commit the response before failing
+        UserExportPort failing = failingAfter(1000);
+        MockMvc mockMvc = mockMvc(failing, 0);
+
+        // When & Then
+        ServletException thrown = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/users/export/sellers")));
+        assertInstanceOf(DataAccessResourceFailureException.class, thrown.getCause());
+    }
+
+    private MockMvc mockMvc(UserExportPort port, int maxDocsPerSecond) {
+        UserExportController controller = new UserExportController(new ExportUsersService(port, maxDocsPerSecond),
+                Jackson2ObjectMapperBuilder.json().build());
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UserExportPort failingAfter(int records) {
+        UserExportPort port = mock(UserExportPort.class);
+        doAnswer(invocation -> {
+            Consumer<UserExportRecord> consumer = invocation.getArgument(2);
+            for (int i = 0; i < records; i++) {
+                consumer.accept(new UserExportRecord(new UserId("seller-id-" + i), new IdentityDocument("123456789"),
+                        new Email("seller" + i + "@example.com"), new FullName("Seller " + i), Role.SELLER,
+                        SINCE, null, "Company " + i, "Address " + i));
+            }
+            throw new DataAccessResourceFailureException("cursor lost");
+        }).when(port).forEach(eq(Role.SELLER), isNull(), any(Consumer.class));
+        return port;
+    }
+}
@@ -1,10 +1,12 @@
 package edu.dosw.infrastructure.web.mappers;
 
 import edu.dosw.application.dto.SellerDTO;
+import edu.dosw.application.dto.SellerSummaryDTO;
 import edu.dosw.application.dto.SellerUpdateDTO;
 import edu.dosw.application.dto.command.SellerCommands.CreateSellerCommand;
 import edu.dosw.application.dto.command.SellerCommands.UpdateSellerCommand;
 import edu.dosw.domain.model.Seller;
+import edu.dosw.domain.model.SellerSummary;
 import edu.dosw.domain.model.ValueObject.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -177,4 +179,22 @@ class SellerWebMapperTest {
         assertEquals("789 Industrial Park, Building 5, Suite 300, Floor 12, Metropolitan Area, Country",
                 result.businessAddress());
     }
+
+    @Test
+    @DisplayName("Debe convertir SellerSummary a SellerSummaryDTO")
+    void shouldConvertSummaryToSummaryDTO() {
+        // Given
+        SellerSummary summary = new SellerSummary(seller.getUserId(), seller.getEmail(), seller.getFullName(),
+                seller.getCompanyName(), seller.getBusinessAddress());
+
+        // When
+        SellerSummaryDTO result = mapper.toSummaryDTO(summary);
+
+        // Then
+        assertEquals("seller-123", result.userId());
+        assertEquals("seller@example.com", result.email());
+        assertEquals("Seller User", result.fullName());
+        assertEquals("Tech Company Inc.", result.companyName());
+        assertEquals("123 Business St, City", result.businessAddress());
+    }
 }
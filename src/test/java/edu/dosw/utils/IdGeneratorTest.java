@@ -0,0 +1,139 @@
+package edu.dosw.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para IdGenerator")
+class IdGeneratorTest {
+
+    private static final long NOW = 1_767_225_600_000L;
+
+    @Test
+    @DisplayName("Debe generar ULIDs de 26 caracteres Crockford base32 por defecto")
+    void shouldGenerateUlidsByDefault() {
+        // Given
+        IdGenerator idGenerator = new IdGenerator("ulid");
+
+        // When
+        String id = idGenerator.generateUniqueId();
+
+        // Then
+        assertTrue(id.matches("[0-9A-HJKMNP-TV-Z]{26}"), id);
+    }
+
+    @Test
+    @DisplayName("Debe generar UUIDs versión 7 con la variante RFC")
+    void shouldGenerateUuidV7() {
+        // Given
+        IdGenerator idGenerator = new IdGenerator("uuid-v7");
+
+        // When
+        UUID id = UUID.fromString(idGenerator.generateUniqueId());
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    @DisplayName("Debe seguir generando UUIDs aleatorios con la estrategia uuid-v4")
+    void shouldGenerateRandomUuidsWithUuidV4Strategy() {
+        // Given
+        IdGenerator idGenerator = new IdGenerator(" UUID-V4 ");
+
+        // When
+        UUID id = UUID.fromString(idGenerator.generateUniqueId());
+
+        // Then
+        assertEquals(4, id.version());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una estrategia desconocida")
+    void shouldRejectUnknownStrategy() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator("snowflake"));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Debe generar IDs ordenados en el mismo milisegundo y con el reloj hacia atrás")
+    @EnumSource(value = IdGenerator.Strategy.class, names = {"ULID", "UUID_V7"})
+    void shouldGenerateOrderedIdsWithinMillisecondAndWhenClockGoesBack(IdGenerator.Strategy strategy) {
+        // Given
+        long[] clock = {NOW};
+        IdGenerator idGenerator = new IdGenerator(strategy, () -> clock[0]);
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            ids.add(idGenerator.generateUniqueId());
+        }
+        clock[0] = NOW - 1000;
+        ids.add(idGenerator.generateUniqueId());
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, ids.get(i - 1) + " >= " + ids.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("Debe codificar el milisegundo de generación al inicio del ID")
+    @EnumSource(value = IdGenerator.Strategy.class, names = {"ULID", "UUID_V7"})
+    void shouldEncodeGenerationMillisecond(IdGenerator.Strategy strategy) {
+        // Given
+        IdGenerator idGenerator = new IdGenerator(strategy, () -> NOW);
+
+        // When
+        String id = idGenerator.generateUniqueId();
+
+        // Then
+        assertEquals(NOW, strategy == IdGenerator.Strategy.ULID
+                ? ulidMillis(id)
+                : UUID.fromString(id).getMostSignificantBits() >>> 16);
+    }
+
+    private static long ulidMillis(String ulid) {
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = millis << 5 | "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(ulid.charAt(i));
+        }
+        return millis;
+    }
+
+    @Test
+    @DisplayName("Debe generar IDs únicos desde varios hilos")
+    void shouldGenerateUniqueIdsFromSeveralThreads() throws InterruptedException {
+        // Given
+        IdGenerator idGenerator = new IdGenerator("ulid");
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(idGenerator.generateUniqueId());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(40_000, ids.size());
+    }
+}